@@ -0,0 +1,116 @@
+package com.codzs.framework.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link AutocompleteIndex} prefix lookups with the regex autocomplete query it replaced.
+ *
+ * The regex side evaluates the former {@code findForAutocomplete} filter (unanchored,
+ * case-insensitive regex on name or display name, status filter, limit) over an in-memory
+ * copy of the documents. MongoDB cannot use an index for such a regex, so this is the same
+ * full scan without the network round-trip and document decoding, i.e. a lower bound for
+ * the query it models.
+ *
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="AutocompleteIndexBenchmark"}.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutocompleteIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "acme", "global", "northwind", "contoso", "fabrikam", "tailspin", "wingtip", "adventure",
+            "works", "systems", "labs", "digital", "health", "energy", "logistics", "capital",
+            "partners", "solutions", "group", "holdings", "retail", "media", "cloud", "data"
+    };
+    private static final int LIMIT = 10;
+    private static final int ACTIVE = 1;
+    private static final long ACTIVE_MASK = AutocompleteIndex.statusMask(ACTIVE);
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"ac", "northwind sys", "zz"})
+    private String searchQuery;
+
+    private AutocompleteIndex<String> index;
+    private String[] ids;
+    private String[] names;
+    private String[] displayNames;
+    private int[] statuses;
+    private String normalizedQuery;
+    private Pattern pattern;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new AutocompleteIndex<>();
+        ids = new String[size];
+        names = new String[size];
+        displayNames = new String[size];
+        statuses = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            ids[i] = "org-" + i;
+            names[i] = name(random) + " " + i;
+            displayNames[i] = name(random);
+            // Roughly 80% active, like a typical tenant set
+            statuses[i] = random.nextInt(5) == 0 ? 0 : ACTIVE;
+            index.put(ids[i], SearchTokenUtil.buildSearchTokens(names[i], displayNames[i]), statuses[i], ids[i]);
+        }
+        index.rebuildIfDirty();
+
+        normalizedQuery = SearchTokenUtil.normalize(searchQuery);
+        pattern = Pattern.compile(searchQuery, Pattern.CASE_INSENSITIVE);
+    }
+
+    @Benchmark
+    public List<String> indexSearch() {
+        return index.search(SearchTokenUtil.normalize(searchQuery), ACTIVE_MASK, 0, LIMIT);
+    }
+
+    @Benchmark
+    public List<String> indexSearchNormalized() {
+        return index.search(normalizedQuery, ACTIVE_MASK, 0, LIMIT);
+    }
+
+    @Benchmark
+    public List<String> regexScan() {
+        List<String> results = new ArrayList<>(LIMIT);
+        for (int i = 0; i < size && results.size() < LIMIT; i++) {
+            if (statuses[i] != ACTIVE) {
+                continue;
+            }
+            if (pattern.matcher(names[i]).find() || pattern.matcher(displayNames[i]).find()) {
+                results.add(ids[i]);
+            }
+        }
+        return results;
+    }
+
+    private static String name(Random random) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+    }
+}
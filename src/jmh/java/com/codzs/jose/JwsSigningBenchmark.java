@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.jose;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.concurrent.TimeUnit;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares JWS signing and verification throughput of the signing algorithms.
+ *
+ * RS256 and ES256 use the Nimbus signers and verifiers the token endpoint uses, with keys from
+ * {@link Jwks}. Ed25519 is not wired into the JWK store; it is measured through the JDK
+ * {@code Ed25519} provider on the same signing input, for comparison only.
+ *
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="JwsSigningBenchmark"}.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwsSigningBenchmark {
+
+	// Header and claims of a typical access token
+	private static final String CLAIMS = "{\"sub\":\"user@example.com\",\"aud\":\"messaging-client\","
+			+ "\"nbf\":1700000000,\"scope\":[\"openid\",\"profile\",\"message.read\"],"
+			+ "\"iss\":\"https://auth.example.com\",\"exp\":1700000300,\"iat\":1700000000,"
+			+ "\"jti\":\"6f1c2a8e-3b7d-4e59-9a0c-2d4f8b1e7c35\"}";
+
+	private JWSHeader rsaHeader;
+	private JWSHeader ecHeader;
+	private byte[] rsaSigningInput;
+	private byte[] ecSigningInput;
+	private byte[] edSigningInput;
+
+	private JWSSigner rsaSigner;
+	private JWSVerifier rsaVerifier;
+	private Base64URL rsaSignature;
+
+	private JWSSigner ecSigner;
+	private JWSVerifier ecVerifier;
+	private Base64URL ecSignature;
+
+	private KeyPair edKeyPair;
+	private byte[] edSignature;
+
+	@Setup
+	public void setUp() throws Exception {
+		RSAKey rsaKey = Jwks.generateRsa();
+		rsaHeader = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build();
+		rsaSigningInput = signingInput(rsaHeader);
+		rsaSigner = new RSASSASigner(rsaKey);
+		rsaVerifier = new RSASSAVerifier(rsaKey.toPublicJWK());
+		rsaSignature = rsaSigner.sign(rsaHeader, rsaSigningInput);
+
+		ECKey ecKey = Jwks.generateEc();
+		ecHeader = new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(ecKey.getKeyID()).build();
+		ecSigningInput = signingInput(ecHeader);
+		ecSigner = new ECDSASigner(ecKey);
+		ecVerifier = new ECDSAVerifier(ecKey.toPublicJWK());
+		ecSignature = ecSigner.sign(ecHeader, ecSigningInput);
+
+		edKeyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+		edSigningInput = signingInput(new JWSHeader.Builder(JWSAlgorithm.EdDSA).keyID("ed25519").build());
+		edSignature = edSign();
+	}
+
+	// ========== SIGNING ==========
+
+	@Benchmark
+	public Base64URL signRs256() throws JOSEException {
+		return rsaSigner.sign(rsaHeader, rsaSigningInput);
+	}
+
+	@Benchmark
+	public Base64URL signEs256() throws JOSEException {
+		return ecSigner.sign(ecHeader, ecSigningInput);
+	}
+
+	@Benchmark
+	public byte[] signEd25519() throws Exception {
+		return edSign();
+	}
+
+	// ========== VERIFICATION ==========
+
+	@Benchmark
+	public boolean verifyRs256() throws JOSEException {
+		return rsaVerifier.verify(rsaHeader, rsaSigningInput, rsaSignature);
+	}
+
+	@Benchmark
+	public boolean verifyEs256() throws JOSEException {
+		return ecVerifier.verify(ecHeader, ecSigningInput, ecSignature);
+	}
+
+	@Benchmark
+	public boolean verifyEd25519() throws Exception {
+		Signature signature = Signature.getInstance("Ed25519");
+		signature.initVerify(edKeyPair.getPublic());
+		signature.update(edSigningInput);
+		return signature.verify(edSignature);
+	}
+
+	// ========== HELPER METHODS ==========
+
+	private byte[] edSign() throws Exception {
+		Signature signature = Signature.getInstance("Ed25519");
+		signature.initSign(edKeyPair.getPrivate());
+		signature.update(edSigningInput);
+		return signature.sign();
+	}
+
+	private static byte[] signingInput(JWSHeader header) {
+		String input = header.toBase64URL() + "." + Base64URL.encode(CLAIMS);
+		return input.getBytes(StandardCharsets.US_ASCII);
+	}
+
+}
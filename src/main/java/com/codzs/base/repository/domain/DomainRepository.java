@@ -1,7 +1,10 @@
 package com.codzs.base.repository.domain;
 
+import com.codzs.constant.organization.OrganizationConstants;
 import com.codzs.entity.domain.Domain;
 
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.mongodb.repository.CountQuery;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
@@ -12,11 +15,13 @@ import java.time.Instant;
 /**
  * Repository interface for Domain MongoDB operations.
  * Provides methods for managing domains as embedded objects within <entity>s.
+ * Domain writes evict the owning entity from the organization caches.
  * 
  * @author Codzs Team
  * @since 1.0 
  */
 // @Repository
+@CacheConfig(cacheManager = OrganizationConstants.CACHE_MANAGER)
 public abstract interface DomainRepository<T> extends MongoRepository<T, String> {
 
     // ========== DOMAIN OPERATIONS ==========
@@ -25,6 +30,7 @@ public abstract interface DomainRepository<T> extends MongoRepository<T, String>
      * Adds a new domain to an entity.
      * Uses MongoDB $push operator to add the domain to the domains array.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS }, key = "#p0")
     @Update("{ '$push': { 'domains': ?1 } }")
     @Query("{ '_id': ?0 }")
     void addDomainToEntity(String entityId, Domain domain);
@@ -33,6 +39,7 @@ public abstract interface DomainRepository<T> extends MongoRepository<T, String>
      * Removes a domain from an entity.
      * Uses MongoDB $pull operator to remove the domain by ID from the domains array.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS }, key = "#p0")
     @Update("{ '$pull': { 'domains': { 'id': ?1 } } }")
     @Query("{ '_id': ?0 }")
     void removeDomainFromEntity(String entityId, String domainId);
@@ -41,6 +48,7 @@ public abstract interface DomainRepository<T> extends MongoRepository<T, String>
      * Updates an entire domain in one operation.
      * Uses MongoDB positional operator ($) to update the specific domain in the array.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS }, key = "#p0")
     @Update("{ '$set': { 'domains.$': ?2 } }")
     @Query("{ '_id': ?0, 'domains.id': ?1 }")
     void updateDomain(String entityId, String domainId, Domain domain);
@@ -49,6 +57,7 @@ public abstract interface DomainRepository<T> extends MongoRepository<T, String>
      * Updates domain verification status and timestamp.
      * Marks a domain as verified with the current timestamp.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS }, key = "#p0")
     @Update("{ '$set': { 'domains.$.isVerified': true, 'domains.$.verifiedDate': ?2 } }")
     @Query("{ '_id': ?0, 'domains.id': ?1 }")
     void updateDomainVerificationStatus(String entityId, String domainId, Instant verifiedDate);
@@ -57,6 +66,7 @@ public abstract interface DomainRepository<T> extends MongoRepository<T, String>
      * Unsets primary status for all domains in an entity.
      * Used before setting a new primary domain.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS }, key = "#p0")
     @Update("{ '$set': { 'domains.$[].isPrimary': false } }")
     @Query("{ '_id': ?0 }")
     void unsetAllPrimaryDomains(String entityId);
@@ -64,6 +74,7 @@ public abstract interface DomainRepository<T> extends MongoRepository<T, String>
     /**
      * Sets a domain as primary within an entity.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS }, key = "#p0")
     @Update("{ '$set': { 'domains.$.isPrimary': true } }")
     @Query("{ '_id': ?0, 'domains._id': ?1 }")
     void setPrimaryDomain(String entityId, String domainId);
@@ -71,6 +82,7 @@ public abstract interface DomainRepository<T> extends MongoRepository<T, String>
     /**
      * Updates the verification token for a domain.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS }, key = "#p0")
     @Update("{ '$set': { 'domains.$.verificationToken': ?2 } }")
     @Query("{ '_id': ?0, 'domains.id': ?1 }")
     void updateDomainVerificationToken(String entityId, String domainId, String newToken);
@@ -0,0 +1,44 @@
+package com.codzs.config;
+
+import com.codzs.framework.cache.CacheInvalidationBus;
+import com.codzs.framework.constant.CacheConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Cross-node invalidation of local caches.
+ * Every node-local cache (organization L1 tiers and service near-caches) registers with the
+ * one {@link CacheInvalidationBus}, which uses a single channel and a single subscriber connection.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    /**
+     * Publishes and applies cross-node local cache invalidations.
+     */
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                                     MeterRegistry meterRegistry) {
+        return new CacheInvalidationBus(stringRedisTemplate, CacheConstants.CACHE_INVALIDATION_CHANNEL, meterRegistry);
+    }
+
+    /**
+     * Subscribes the invalidation bus to the invalidation channel.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheConstants.CACHE_INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,36 @@
+package com.codzs.config;
+
+import com.codzs.service.domain.verification.DnsTxtResolver;
+import com.codzs.service.domain.verification.HttpContentResolver;
+import com.codzs.service.domain.verification.JdkHttpContentResolver;
+import com.codzs.service.domain.verification.JndiDnsTxtResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Resolver configuration for background domain verification.
+ * Both resolvers back off when another bean of the same type is defined, so tests and
+ * environments without outbound network access can plug in their own implementations.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Configuration
+public class DomainVerificationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DnsTxtResolver dnsTxtResolver(@Value("${domain.verification.dns.timeout-ms:3000}") long timeoutMs) {
+        return new JndiDnsTxtResolver(Duration.ofMillis(timeoutMs));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HttpContentResolver httpContentResolver(@Value("${domain.verification.http.timeout-ms:5000}") long timeoutMs) {
+        return new JdkHttpContentResolver(Duration.ofMillis(timeoutMs));
+    }
+}
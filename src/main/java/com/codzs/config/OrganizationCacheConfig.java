@@ -1,168 +1,120 @@
-// package com.codzs.config;
+package com.codzs.config;
 
-// import com.codzs.constant.organization.OrganizationConstant;
-// import org.springframework.beans.factory.annotation.Autowired;
-// import org.springframework.cache.CacheManager;
-// import org.springframework.cache.annotation.EnableCaching;
-// import org.springframework.cache.caffeine.CaffeineCacheManager;
-// import org.springframework.context.annotation.Bean;
-// import org.springframework.context.annotation.Configuration;
-// import org.springframework.context.annotation.Primary;
-// import com.github.benmanes.caffeine.cache.Caffeine;
+import com.codzs.constant.organization.OrganizationConstants;
+import com.codzs.framework.cache.CacheInvalidationBus;
+import com.codzs.framework.cache.TwoTierCache;
+import com.codzs.framework.constant.CacheConstants;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-// import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-// /**
-//  * Cache configuration for Organization module.
-//  * Configures L1 (local) and L2 (distributed) caching strategies.
-//  * Uses Caffeine for L1 cache and Redis for L2 cache.
-//  * 
-//  * @author Codzs Team
-//  * @since 1.0
-//  */
-// @Configuration
-// @EnableCaching
-// public class OrganizationCacheConfig {
+/**
+ * Cache configuration for Organization module.
+ * Configures a two-tier cache per organization cache name: Caffeine as the local (L1)
+ * tier and Redis as the shared (L2) tier. Local tiers are kept coherent across nodes
+ * through the shared {@link CacheInvalidationBus}.
+ *
+ * Every cache is transaction-aware: puts and evictions issued inside a transaction are applied
+ * (and broadcast) only after it commits, so a concurrent reader cannot repopulate a cache with
+ * the pre-commit value, and a rolled-back write never evicts or replaces anything.
+ *
+ * Cache statistics are exported through Micrometer: Caffeine metrics per cache
+ * (tagged {@code tier=l1}), {@code cache.l2.requests} for the Redis tier and
+ * {@code cache.invalidations} for cross-node messages.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Configuration
+@EnableCaching
+public class OrganizationCacheConfig {
 
-//     @Autowired
-//     private OrganizationConfig organizationConfig;
+    /**
+     * Shared (L2) TTL per organization cache, in seconds.
+     */
+    private static final Map<String, Long> REDIS_TTLS = new LinkedHashMap<>();
 
-//     /**
-//      * Primary cache manager for L1 (local) caching using Caffeine.
-//      * Used for frequently accessed, small-sized data.
-//      */
-//     @Bean
-//     @Primary
-//     public CacheManager organizationCacheManager() {
-//         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-//         // Configure default cache settings
-//         cacheManager.setCaffeine(caffeineCacheBuilder());
-        
-//         // Set cache names
-//         cacheManager.setCacheNames(
-//             OrganizationConstant.CACHE_ORGANIZATION,
-//             OrganizationConstant.CACHE_ORGANIZATION_LIST,
-//             OrganizationConstant.CACHE_ORGANIZATION_PLANS,
-//             OrganizationConstant.CACHE_ORGANIZATION_DOMAINS,
-//             OrganizationConstant.CACHE_ORGANIZATION_DATABASES,
-//             OrganizationConstant.CACHE_ORGANIZATION_HIERARCHY
-//         );
-        
-//         return cacheManager;
-//     }
+    static {
+        REDIS_TTLS.put(OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_TTL_ORGANIZATION);
+        REDIS_TTLS.put(OrganizationConstants.CACHE_ORGANIZATION_LIST, OrganizationConstants.CACHE_TTL_ORGANIZATION_LIST);
+        REDIS_TTLS.put(OrganizationConstants.CACHE_ORGANIZATION_PLANS, OrganizationConstants.CACHE_TTL_ORGANIZATION_PLANS);
+        REDIS_TTLS.put(OrganizationConstants.CACHE_ORGANIZATION_DOMAINS, CacheConstants.CACHE_TTL_LONG);
+        REDIS_TTLS.put(OrganizationConstants.CACHE_ORGANIZATION_DATABASES, CacheConstants.CACHE_TTL_LONG);
+        REDIS_TTLS.put(OrganizationConstants.CACHE_ORGANIZATION_HIERARCHY, CacheConstants.CACHE_TTL_LONG);
+    }
 
-//     /**
-//      * Caffeine cache builder with organization-specific configurations.
-//      */
-//     @Bean
-//     public Caffeine<Object, Object> caffeineCacheBuilder() {
-//         return Caffeine.newBuilder()
-//                 .maximumSize(1000) // Maximum number of entries
-//                 .expireAfterWrite(organizationConfig.getCacheTtlOrganization(), TimeUnit.SECONDS)
-//                 .expireAfterAccess(30, TimeUnit.MINUTES) // Expire after 30 minutes of no access
-//                 .recordStats() // Enable cache statistics
-//                 .removalListener((key, value, cause) -> {
-//                     // Log cache evictions for monitoring
-//                     // logger.debug("Cache entry removed: key={}, cause={}", key, cause);
-//                 });
-//     }
+    /**
+     * Cache manager for all organization caches.
+     * Referenced explicitly by the organization repositories through {@code @CacheConfig}.
+     */
+    @Bean(OrganizationConstants.CACHE_MANAGER)
+    public CacheManager organizationCacheManager(RedisConnectionFactory connectionFactory,
+                                                 ObjectMapper objectMapper,
+                                                 CacheInvalidationBus cacheInvalidationBus,
+                                                 MeterRegistry meterRegistry) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
 
-//     /**
-//      * Cache manager for organization-specific data with custom TTL.
-//      * Used for organization core data that changes infrequently.
-//      */
-//     @Bean("organizationDataCacheManager")
-//     public CacheManager organizationDataCacheManager() {
-//         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-//         cacheManager.setCaffeine(
-//             Caffeine.newBuilder()
-//                 .maximumSize(500)
-//                 .expireAfterWrite(organizationConfig.getCacheTtlOrganization(), TimeUnit.SECONDS)
-//                 .recordStats()
-//         );
-        
-//         cacheManager.setCacheNames(OrganizationConstant.CACHE_ORGANIZATION);
-//         return cacheManager;
-//     }
+        RedisSerializer<Object> serializer = cacheValueSerializer(objectMapper);
 
-//     /**
-//      * Cache manager for organization list data with shorter TTL.
-//      * Used for list/search operations that should refresh more frequently.
-//      */
-//     @Bean("organizationListCacheManager")
-//     public CacheManager organizationListCacheManager() {
-//         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-//         cacheManager.setCaffeine(
-//             Caffeine.newBuilder()
-//                 .maximumSize(100)
-//                 .expireAfterWrite(organizationConfig.getCacheTtlOrganizationList(), TimeUnit.SECONDS)
-//                 .recordStats()
-//         );
-        
-//         cacheManager.setCacheNames(OrganizationConstant.CACHE_ORGANIZATION_LIST);
-//         return cacheManager;
-//     }
+        List<org.springframework.cache.Cache> caches = new ArrayList<>();
+        REDIS_TTLS.forEach((name, ttlSeconds) -> {
+            Cache<Object, byte[]> localCache = Caffeine.newBuilder()
+                    .maximumSize(OrganizationConstants.CACHE_LOCAL_MAX_ENTRIES)
+                    .expireAfterWrite(Duration.ofSeconds(OrganizationConstants.CACHE_TTL_ORGANIZATION_LOCAL))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, "tier", "l1");
 
-//     /**
-//      * Cache manager for organization plans with longer TTL.
-//      * Used for plan data that changes less frequently.
-//      */
-//     @Bean("organizationPlanCacheManager")
-//     public CacheManager organizationPlanCacheManager() {
-//         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-//         cacheManager.setCaffeine(
-//             Caffeine.newBuilder()
-//                 .maximumSize(200)
-//                 .expireAfterWrite(organizationConfig.getCacheTtlOrganizationPlans(), TimeUnit.SECONDS)
-//                 .recordStats()
-//         );
-        
-//         cacheManager.setCacheNames(OrganizationConstant.CACHE_ORGANIZATION_PLANS);
-//         return cacheManager;
-//     }
+            TwoTierCache cache = new TwoTierCache(name, localCache, redisTemplate, serializer,
+                    Duration.ofSeconds(ttlSeconds), OrganizationConstants.CACHE_REDIS_KEY_PREFIX,
+                    cacheInvalidationBus, meterRegistry);
+            cacheInvalidationBus.register(cache);
+            caches.add(new TransactionAwareCacheDecorator(cache));
+        });
 
-//     /**
-//      * Cache manager for organization hierarchy data.
-//      * Used for organizational structure that rarely changes.
-//      */
-//     @Bean("organizationHierarchyCacheManager")
-//     public CacheManager organizationHierarchyCacheManager() {
-//         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-//         cacheManager.setCaffeine(
-//             Caffeine.newBuilder()
-//                 .maximumSize(50)
-//                 .expireAfterWrite(2, TimeUnit.HOURS) // Longer TTL for hierarchy
-//                 .recordStats()
-//         );
-        
-//         cacheManager.setCacheNames(OrganizationConstant.CACHE_ORGANIZATION_HIERARCHY);
-//         return cacheManager;
-//     }
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
 
-//     /**
-//      * Cache manager for organization domains and databases.
-//      * Used for configuration data with moderate refresh frequency.
-//      */
-//     @Bean("organizationConfigCacheManager")
-//     public CacheManager organizationConfigCacheManager() {
-//         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-//         cacheManager.setCaffeine(
-//             Caffeine.newBuilder()
-//                 .maximumSize(300)
-//                 .expireAfterWrite(1, TimeUnit.HOURS)
-//                 .recordStats()
-//         );
-        
-//         cacheManager.setCacheNames(
-//             OrganizationConstant.CACHE_ORGANIZATION_DOMAINS,
-//             OrganizationConstant.CACHE_ORGANIZATION_DATABASES
-//         );
-//         return cacheManager;
-//     }
-// }
\ No newline at end of file
+    /**
+     * JSON serializer for cached values, based on the application ObjectMapper (so java.time
+     * and other registered modules apply) with type information restricted to application
+     * and JDK types.
+     */
+    private RedisSerializer<Object> cacheValueSerializer(ObjectMapper objectMapper) {
+        ObjectMapper cacheMapper = objectMapper.copy();
+        cacheMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.codzs.")
+                        .allowIfSubType("java.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(cacheMapper);
+    }
+}
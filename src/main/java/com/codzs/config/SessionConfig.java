@@ -15,38 +15,67 @@
  */
 package com.codzs.config;
 
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.session.MapSessionRepository;
-import org.springframework.session.SessionRepository;
-import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import org.springframework.security.oauth2.server.authorization.jackson2.OAuth2AuthorizationServerJackson2Module;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisIndexedHttpSession;
 import org.springframework.session.web.http.DefaultCookieSerializer;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Session configuration for the authorization server.
  * 
- * This configuration ensures proper session handling for OAuth2 authorization flows
- * by using an in-memory session repository that doesn't suffer from serialization
- * issues with complex OAuth2 objects.
+ * Sessions are stored in Redis so authorization flows work on any node without sticky
+ * sessions. The indexed repository publishes session created, deleted and expired events
+ * and indexes sessions by principal name, so the session registry is shared by every node.
+ * Attributes are serialized as JSON with the Spring Security and authorization server
+ * Jackson modules (which cover the OAuth2 objects kept in the session) rather than JDK
+ * serialization.
  * 
  * @author Nitin Khaitan
  * @since 1.2
  */
 @Configuration
-@EnableSpringHttpSession
+@EnableRedisIndexedHttpSession(redisNamespace = "${session.redis.namespace:codzs:session}")
 public class SessionConfig {
 
     /**
-     * Configure in-memory session repository to avoid serialization issues
-     * with OAuth2AuthorizationRequest objects.
+     * Apply the servlet session timeout to sessions stored in Redis.
      * 
-     * @return MapSessionRepository for in-memory session storage
+     * @param maxInactiveInterval inactive interval after which sessions expire
+     * @return SessionRepositoryCustomizer setting the default inactive interval
      */
     @Bean
-    public SessionRepository<?> sessionRepository() {
-        return new MapSessionRepository(new ConcurrentHashMap<>());
+    public SessionRepositoryCustomizer<RedisIndexedSessionRepository> sessionTimeoutCustomizer(
+            @Value("${server.servlet.session.timeout:30m}") Duration maxInactiveInterval) {
+        return sessionRepository -> sessionRepository.setDefaultMaxInactiveInterval(maxInactiveInterval);
+    }
+
+    /**
+     * JSON serializer for session attributes, restricted by the Spring Security Jackson
+     * modules to the types they allow (security contexts, saved requests, OAuth2 requests
+     * and authentications). The bean name is the one Spring Session looks up.
+     * 
+     * @return RedisSerializer for session attributes
+     */
+    @Bean
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+        ObjectMapper mapper = new ObjectMapper();
+        ClassLoader classLoader = getClass().getClassLoader();
+        List<Module> modules = SecurityJackson2Modules.getModules(classLoader);
+        mapper.registerModules(modules);
+        mapper.registerModule(new OAuth2AuthorizationServerJackson2Module());
+        return new GenericJackson2JsonRedisSerializer(mapper);
     }
 
     /**
@@ -65,4 +94,4 @@ public class SessionConfig {
         serializer.setUseSecureCookie(false);
         return serializer;
     }
-}
\ No newline at end of file
+}
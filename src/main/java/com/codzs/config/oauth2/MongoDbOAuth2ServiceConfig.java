@@ -15,20 +15,23 @@
  */
 package com.codzs.config.oauth2;
 
+import com.codzs.framework.cache.CacheInvalidationBus;
 import com.codzs.service.oauth2.MongoOAuth2AuthorizationService;
 import com.codzs.service.oauth2.MongoOAuth2AuthorizationConsentService;
 import com.codzs.service.oauth2.MongoRegisteredClientRepository;
 import com.codzs.repository.oauth2.OAuth2AuthorizationRepository;
 import com.codzs.repository.oauth2.OAuth2AuthorizationConsentRepository;
 import com.codzs.repository.oauth2.OAuth2RegisteredClientRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsentService;
-import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
 
+import java.time.Duration;
+
 /**
  * Configuration class for OAuth2 authorization services and server settings.
  * This class handles the configuration of OAuth2 authorization services and server settings.
@@ -42,33 +45,57 @@ public class MongoDbOAuth2ServiceConfig {
 	/**
 	 * Configure the OAuth2 authorization service for managing OAuth2 authorizations.
 	 * This service stores and retrieves OAuth2 authorization information using MongoDB.
+	 * Access token lookups go through a hashed index and a per-node near-cache, whose
+	 * evictions are broadcast to the other nodes through the shared cache invalidation bus.
 	 * 
 	 * @param authorizationRepository the MongoDB repository for authorizations
 	 * @param registeredClientRepository the repository for registered clients
+	 * @param cacheInvalidationBus bus used to publish and receive near-cache evictions
+	 * @param nearCacheTtl how long a resolved access token authorization is reused
+	 * @param nearCacheMaximumSize maximum number of near-cached authorizations
 	 * @return OAuth2AuthorizationService for managing authorizations
 	 */
 	@Bean
-	public OAuth2AuthorizationService authorizationService(
+	public MongoOAuth2AuthorizationService authorizationService(
 			OAuth2AuthorizationRepository authorizationRepository,
-			RegisteredClientRepository registeredClientRepository) {
-		return new MongoOAuth2AuthorizationService(authorizationRepository, registeredClientRepository);
+			RegisteredClientRepository registeredClientRepository,
+			CacheInvalidationBus cacheInvalidationBus,
+			@Value("${oauth2.authorization.near-cache.ttl:30s}") Duration nearCacheTtl,
+			@Value("${oauth2.authorization.near-cache.maximum-size:10000}") long nearCacheMaximumSize) {
+		MongoOAuth2AuthorizationService authorizationService = new MongoOAuth2AuthorizationService(
+				authorizationRepository, registeredClientRepository, nearCacheTtl, nearCacheMaximumSize,
+				cacheInvalidationBus);
+		cacheInvalidationBus.register(authorizationService);
+		return authorizationService;
 	}
 
 	/**
 	 * Configure the OAuth2 authorization consent service for managing user consent.
 	 * This service stores and retrieves user consent information for OAuth2 authorizations using MongoDB.
 	 * Used by the ConsentController for consent management.
+	 * Consents are served from a per-node near-cache written through on save and remove,
+	 * whose evictions are broadcast to the other nodes through the shared cache invalidation bus.
 	 * 
 	 * @param authorizationConsentRepository the MongoDB repository for consent
 	 * @param registeredClientRepository the repository for registered clients
+	 * @param cacheInvalidationBus bus used to publish and receive near-cache evictions
+	 * @param nearCacheTtl how long a loaded consent is reused
+	 * @param nearCacheMaximumSize maximum number of near-cached consents
 	 * @return OAuth2AuthorizationConsentService for managing consent
 	 */
 	@Bean
 	@Primary
 	public OAuth2AuthorizationConsentService authorizationConsentService(
 			OAuth2AuthorizationConsentRepository authorizationConsentRepository,
-			RegisteredClientRepository registeredClientRepository) {
-		return new MongoOAuth2AuthorizationConsentService(authorizationConsentRepository, registeredClientRepository);
+			RegisteredClientRepository registeredClientRepository,
+			CacheInvalidationBus cacheInvalidationBus,
+			@Value("${oauth2.authorization-consent.near-cache.ttl:30s}") Duration nearCacheTtl,
+			@Value("${oauth2.authorization-consent.near-cache.maximum-size:10000}") long nearCacheMaximumSize) {
+		MongoOAuth2AuthorizationConsentService authorizationConsentService = new MongoOAuth2AuthorizationConsentService(
+				authorizationConsentRepository, registeredClientRepository, nearCacheTtl, nearCacheMaximumSize,
+				cacheInvalidationBus);
+		cacheInvalidationBus.register(authorizationConsentService);
+		return authorizationConsentService;
 	}
 
 	/**
@@ -15,20 +15,41 @@
  */
 package com.codzs.config.oauth2;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.core.oidc.OidcUserInfo;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.server.authorization.config.annotation.web.configuration.OAuth2AuthorizationServerConfiguration;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.authorization.oidc.authentication.OidcUserInfoAuthenticationContext;
 import org.springframework.security.oauth2.server.authorization.oidc.authentication.OidcUserInfoAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.token.DelegatingOAuth2TokenGenerator;
+import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
+import org.springframework.security.oauth2.server.authorization.token.JwtGenerator;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2RefreshTokenGenerator;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenGenerator;
 
-import com.codzs.jose.Jwks;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.JWKSource;
+import com.codzs.framework.service.lock.LeaseLockService;
+import com.codzs.jose.CachingJwtDecoder;
+import com.codzs.jose.CertificateBoundJwtDecoder;
+import com.codzs.jose.JwkEncryptor;
+import com.codzs.repository.oauth2.OAuth2SigningKeyRepository;
+import com.codzs.service.oauth2.MongoJwkSource;
+import com.codzs.token.CertificateThumbprintCache;
+import com.codzs.token.ReferenceAccessTokenGenerator;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 
@@ -44,29 +65,108 @@ import java.util.function.Function;
 public class OAuth2TokenConfig {
 
 
+	/**
+	 * Configure the encryptor protecting private signing keys stored in MongoDB.
+	 * The key is a Base64 encoded 256-bit AES key, supplied by the config server.
+	 * 
+	 * @param encryptionKey the Base64 encoded AES key
+	 * @return JwkEncryptor for signing keys at rest
+	 */
+	@Bean
+	public JwkEncryptor jwkEncryptor(@Value("${oauth2.jwk.encryption-key}") String encryptionKey) {
+		return new JwkEncryptor(encryptionKey);
+	}
+
 	/**
 	 * Configure the JWK source for JWT token signing.
-	 * This provides the cryptographic keys used to sign JWT tokens.
+	 * Keys are persisted in MongoDB and shared by all nodes, so tokens survive restarts
+	 * and verify on any node; they rotate on a schedule with overlap windows.
+	 * One key chain is kept per configured algorithm so clients can choose RS256 or the
+	 * cheaper ES256 through their token settings.
+	 * 
+	 * @return MongoJwkSource providing the signing and published keys
+	 */
+	@Bean
+	public MongoJwkSource jwkSource(OAuth2SigningKeyRepository signingKeyRepository,
+			JwkEncryptor jwkEncryptor,
+			LeaseLockService leaseLockService,
+			@Value("${oauth2.jwk.algorithms:RS256,ES256}") String[] algorithms,
+			@Value("${oauth2.jwk.rotation-period:30d}") Duration rotationPeriod,
+			@Value("${oauth2.jwk.publish-ahead:1d}") Duration publishAhead,
+			@Value("${oauth2.jwk.retention:2d}") Duration retention) {
+		return new MongoJwkSource(signingKeyRepository, jwkEncryptor, leaseLockService,
+				List.of(algorithms), rotationPeriod, publishAhead, retention);
+	}
+
+	/**
+	 * Configure the JWT encoder used to sign self-contained tokens.
+	 * 
+	 * @param jwkSource the JWK source containing the signing keys
+	 * @return JwtEncoder for token signing
+	 */
+	@Bean
+	public JwtEncoder jwtEncoder(MongoJwkSource jwkSource) {
+		return new NimbusJwtEncoder(jwkSource);
+	}
+
+	/**
+	 * Configure token generation.
+	 * Clients whose token settings use the reference access token format get a short opaque
+	 * handle without any signing; all other clients get signed JWT access tokens.
+	 * ID tokens and refresh tokens are generated as before.
 	 * 
-	 * @return JWKSource containing the RSA key for token signing
+	 * @param jwtEncoder the JWT encoder for self-contained tokens
+	 * @param jwtCustomizer the JWT customizer
+	 * @param handleLengthBytes random bytes per reference token handle
+	 * @param certificateThumbprintCache thumbprints for certificate-bound reference tokens
+	 * @return OAuth2TokenGenerator delegating by token type and format
 	 */
 	@Bean
-	public JWKSource<SecurityContext> jwkSource() {
-		RSAKey rsaKey = Jwks.generateRsa();
-		JWKSet jwkSet = new JWKSet(rsaKey);
-		return (jwkSelector, securityContext) -> jwkSelector.select(jwkSet);
+	public OAuth2TokenGenerator<?> tokenGenerator(JwtEncoder jwtEncoder,
+			OAuth2TokenCustomizer<JwtEncodingContext> jwtCustomizer,
+			@Value("${oauth2.reference-token.handle-length-bytes:32}") int handleLengthBytes,
+			CertificateThumbprintCache certificateThumbprintCache) {
+		JwtGenerator jwtGenerator = new JwtGenerator(jwtEncoder);
+		jwtGenerator.setJwtCustomizer(jwtCustomizer);
+		return new DelegatingOAuth2TokenGenerator(
+				jwtGenerator,
+				new ReferenceAccessTokenGenerator(handleLengthBytes, certificateThumbprintCache),
+				new OAuth2RefreshTokenGenerator());
 	}
 
 	/**
 	 * Configure the JWT decoder for token validation.
 	 * This decoder is used to validate and decode JWT tokens issued by the authorization server.
+	 * Mirrors {@code OAuth2AuthorizationServerConfiguration.jwtDecoder} but reuses JWS verifiers
+	 * per key ID instead of creating one per token, and serves repeated tokens from a decode
+	 * cache until they expire. Cached tokens of keys that stop being published are evicted.
+	 * Certificate-bound tokens are confirmed against the presented client certificate on every use.
 	 * 
 	 * @param jwkSource the JWK source containing the signing keys
+	 * @param decodeCacheMaximumSize maximum number of cached decoded tokens
+	 * @param meterRegistry registry for decode cache metrics
+	 * @param certificateThumbprintCache thumbprints of presented client certificates
 	 * @return JwtDecoder for token validation
 	 */
 	@Bean
-	public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource) {
-		return OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSource);
+	public JwtDecoder jwtDecoder(MongoJwkSource jwkSource,
+			@Value("${oauth2.jwt.decode-cache.maximum-size:10000}") long decodeCacheMaximumSize,
+			MeterRegistry meterRegistry,
+			CertificateThumbprintCache certificateThumbprintCache) {
+		Set<JWSAlgorithm> jwsAlgs = new HashSet<>();
+		jwsAlgs.addAll(JWSAlgorithm.Family.RSA);
+		jwsAlgs.addAll(JWSAlgorithm.Family.EC);
+		jwsAlgs.addAll(JWSAlgorithm.Family.HMAC_SHA);
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(jwsAlgs, jwkSource));
+		jwtProcessor.setJWSVerifierFactory(jwkSource.getVerifierFactory());
+		// Override the default Nimbus claims set verifier as NimbusJwtDecoder handles it instead
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+		CachingJwtDecoder jwtDecoder = new CachingJwtDecoder(new NimbusJwtDecoder(jwtProcessor),
+				decodeCacheMaximumSize, meterRegistry);
+		jwkSource.addKeySetListener(jwtDecoder::retainKeyIds);
+		return new CertificateBoundJwtDecoder(jwtDecoder, certificateThumbprintCache);
 	}
 
 	/**
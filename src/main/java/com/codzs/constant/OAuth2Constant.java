@@ -41,6 +41,7 @@ public final class OAuth2Constant {
         public static final String DEVICE_VERIFICATION = "/oauth2/device_verification";
         public static final String TOKEN = "/oauth2/token";
         public static final String AUTHORIZE = "/oauth2/authorize";
+        public static final String JWK_SET = "/oauth2/jwks";
         
         private Endpoints() {}
     }
@@ -75,6 +76,10 @@ public final class OAuth2Constant {
     public static final class TokenSettings {
         public static final String X509_CERTIFICATE_BOUND_ACCESS_TOKENS = 
             "settings.token.x509-certificate-bound-access-tokens";
+        public static final String ACCESS_TOKEN_SIGNATURE_ALGORITHM =
+            "settings.token.access-token-signature-algorithm";
+        public static final String ID_TOKEN_CLAIM_MAPPINGS =
+            "settings.token.id-token-claim-mappings";
         
         private TokenSettings() {}
     }
@@ -160,6 +165,7 @@ public final class OAuth2Constant {
         public static final String OAUTH2_REGISTERED_CLIENT = "oauth2_registered_client";
         public static final String OAUTH2_AUTHORIZATION = "oauth2_authorization";
         public static final String OAUTH2_AUTHORIZATION_CONSENT = "oauth2_authorization_consent";
+        public static final String OAUTH2_SIGNING_KEY = "oauth2_signing_key";
         public static final String IP_BLACKLIST = "ip_blacklist";
         public static final String API_WHITELIST = "api_whitelist";
         
@@ -21,6 +21,28 @@ public final class DomainConstants {
      */
     public static final boolean DEFAULT_IS_PRIMARY = false;
     
+    // ========================= VERIFICATION =========================
+    
+    /**
+     * Verification method checked through a DNS TXT record.
+     */
+    public static final String VERIFICATION_METHOD_DNS = "DNS";
+    
+    /**
+     * Verification method checked through a file served over HTTP.
+     */
+    public static final String VERIFICATION_METHOD_FILE = "FILE";
+    
+    /**
+     * Label prepended to the domain name for the DNS TXT verification record.
+     */
+    public static final String DNS_VERIFICATION_RECORD_LABEL = "_codzs-verification";
+    
+    /**
+     * Path of the verification file served from the domain root.
+     */
+    public static final String FILE_VERIFICATION_PATH = "/codzs-verification.txt";
+    
     // ========================= CONSTRUCTOR =========================
     
     /**
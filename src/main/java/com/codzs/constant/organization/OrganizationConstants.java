@@ -43,6 +43,16 @@ public final class OrganizationConstants {
      * Maximum depth of organization hierarchy.
      */
     public static final int MAX_HIERARCHY_DEPTH = 5;
+
+    /**
+     * Number of rows validated and inserted together by the bulk import API.
+     */
+    public static final int BULK_IMPORT_BATCH_SIZE = 500;
+
+    /**
+     * Cursor batch size used when streaming organizations for export.
+     */
+    public static final int EXPORT_CURSOR_BATCH_SIZE = 1000;
     
     /**
      * Length of domain verification token.
@@ -71,6 +81,36 @@ public final class OrganizationConstants {
      */
     public static final long CACHE_TTL_ORGANIZATION_PLANS = 7200;
 
+    /**
+     * Cache TTL for the local (L1) tier of every organization cache (1 minute).
+     * Bounds staleness on a node that misses an invalidation message.
+     */
+    public static final long CACHE_TTL_ORGANIZATION_LOCAL = 60;
+
+    /**
+     * Maximum number of entries held in each local (L1) organization cache.
+     */
+    public static final long CACHE_LOCAL_MAX_ENTRIES = 10000;
+
+    // ========== Cache Names ==========
+
+    /**
+     * Cache manager bean serving the organization caches.
+     */
+    public static final String CACHE_MANAGER = "organizationCacheManager";
+
+    public static final String CACHE_ORGANIZATION = "organization";
+    public static final String CACHE_ORGANIZATION_LIST = "organizationList";
+    public static final String CACHE_ORGANIZATION_PLANS = "organizationPlans";
+    public static final String CACHE_ORGANIZATION_DOMAINS = "organizationDomains";
+    public static final String CACHE_ORGANIZATION_DATABASES = "organizationDatabases";
+    public static final String CACHE_ORGANIZATION_HIERARCHY = "organizationHierarchy";
+
+    /**
+     * Redis key prefix for the shared (L2) organization caches.
+     */
+    public static final String CACHE_REDIS_KEY_PREFIX = "codzs:authorization:cache:";
+
     // ========== Database Configuration Constants ==========
     
     /**
@@ -3,22 +3,38 @@ package com.codzs.controller.localization;
 import com.codzs.framework.dto.localization.CodeInfoDto;
 import com.codzs.framework.mapper.localization.CodeInfoMapper;
 import com.codzs.framework.service.localization.LocalizationCodeService;
+import com.codzs.framework.service.localization.LocalizationCodeService.CodeInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * REST controller for localization code management.
  * Provides endpoints to retrieve lists of valid localization codes.
  * 
+ * The code lists never change while the application runs, so each response body is
+ * serialized once at startup and served with an ETag; conditional requests with a
+ * matching {@code If-None-Match} get 304 Not Modified.
+ * 
  * @author Codzs Team
  * @since 1.0
  */
@@ -27,55 +43,92 @@ import java.util.List;
 @Tag(name = "Localization", description = "Localization code management APIs")
 public class LocalizationController {
 
-    private final LocalizationCodeService localizationCodeService;
-    private final CodeInfoMapper codeInfoMapper;
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(24)).cachePublic();
+
+    private final Payload countryCodes;
+    private final Payload currencyCodes;
+    private final Payload timezones;
+    private final Payload languageCodes;
 
-    public LocalizationController(LocalizationCodeService localizationCodeService, CodeInfoMapper codeInfoMapper) {
-        this.localizationCodeService = localizationCodeService;
-        this.codeInfoMapper = codeInfoMapper;
+    public LocalizationController(LocalizationCodeService localizationCodeService, CodeInfoMapper codeInfoMapper,
+                                  ObjectMapper objectMapper) throws JsonProcessingException {
+        this.countryCodes = Payload.of(localizationCodeService.getAllCountryCodes(), codeInfoMapper, objectMapper);
+        this.currencyCodes = Payload.of(localizationCodeService.getAllCurrencyCodes(), codeInfoMapper, objectMapper);
+        this.timezones = Payload.of(localizationCodeService.getAllTimezones(), codeInfoMapper, objectMapper);
+        this.languageCodes = Payload.of(localizationCodeService.getAllLanguageCodes(), codeInfoMapper, objectMapper);
     }
 
     @Operation(summary = "Get all country codes", 
                description = "Retrieves all valid ISO 3166-1 alpha-2 country codes")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Country codes retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Country codes retrieved successfully",
+                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = CodeInfoDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Country codes not modified")
     })
     @GetMapping("/countries")
-    public ResponseEntity<List<CodeInfoDto>> getCountryCodes() {
-        List<CodeInfoDto> countryCodes = codeInfoMapper.toDtoList(localizationCodeService.getAllCountryCodes());
-        return ResponseEntity.ok(countryCodes);
+    public ResponseEntity<byte[]> getCountryCodes(WebRequest request) {
+        return countryCodes.toResponse(request);
     }
 
     @Operation(summary = "Get all currency codes", 
                description = "Retrieves all valid ISO 4217 currency codes")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Currency codes retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Currency codes retrieved successfully",
+                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = CodeInfoDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Currency codes not modified")
     })
     @GetMapping("/currencies")
-    public ResponseEntity<List<CodeInfoDto>> getCurrencyCodes() {
-        List<CodeInfoDto> currencyCodes = codeInfoMapper.toDtoList(localizationCodeService.getAllCurrencyCodes());
-        return ResponseEntity.ok(currencyCodes);
+    public ResponseEntity<byte[]> getCurrencyCodes(WebRequest request) {
+        return currencyCodes.toResponse(request);
     }
 
     @Operation(summary = "Get all timezone IDs", 
                description = "Retrieves all valid timezone identifiers")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Timezone IDs retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Timezone IDs retrieved successfully",
+                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = CodeInfoDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Timezone IDs not modified")
     })
     @GetMapping("/timezones")
-    public ResponseEntity<List<CodeInfoDto>> getTimezones() {
-        List<CodeInfoDto> timezones = codeInfoMapper.toDtoList(localizationCodeService.getAllTimezones());
-        return ResponseEntity.ok(timezones);
+    public ResponseEntity<byte[]> getTimezones(WebRequest request) {
+        return timezones.toResponse(request);
     }
 
     @Operation(summary = "Get all language codes", 
                description = "Retrieves all valid ISO 639-1 language codes")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Language codes retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Language codes retrieved successfully",
+                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = CodeInfoDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Language codes not modified")
     })
     @GetMapping("/languages")
-    public ResponseEntity<List<CodeInfoDto>> getLanguageCodes() {
-        List<CodeInfoDto> languageCodes = codeInfoMapper.toDtoList(localizationCodeService.getAllLanguageCodes());
-        return ResponseEntity.ok(languageCodes);
+    public ResponseEntity<byte[]> getLanguageCodes(WebRequest request) {
+        return languageCodes.toResponse(request);
+    }
+
+    /**
+     * Pre-serialized JSON response body and its strong ETag.
+     */
+    private record Payload(byte[] body, String eTag) {
+
+        static Payload of(List<CodeInfo> codes, CodeInfoMapper codeInfoMapper, ObjectMapper objectMapper)
+                throws JsonProcessingException {
+            byte[] body = objectMapper.writeValueAsBytes(codeInfoMapper.toDtoList(codes));
+            return new Payload(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+
+        ResponseEntity<byte[]> toResponse(WebRequest request) {
+            if (request.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .cacheControl(CACHE_CONTROL)
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CACHE_CONTROL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
     }
-}
\ No newline at end of file
+}
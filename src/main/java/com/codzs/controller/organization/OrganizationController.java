@@ -1,18 +1,24 @@
 package com.codzs.controller.organization;
 
+import com.codzs.constant.organization.OrganizationConstants;
 import com.codzs.constant.organization.OrganizationProjectionEnum;
 import com.codzs.constant.organization.OrganizationSchemaConstants;
 import com.codzs.dto.organization.request.OrganizationCreateRequestDto;
 import com.codzs.dto.organization.request.OrganizationUpdateRequestDto;
+import com.codzs.dto.organization.response.OrganizationBulkImportResultDto;
 import com.codzs.dto.organization.response.OrganizationResponseDto;
 import com.codzs.dto.organization.response.OrganizationSummaryResponseDto;
 import com.codzs.entity.organization.Organization;
 import com.codzs.framework.annotation.header.CommonHeaders;
 import com.codzs.framework.constant.HeaderConstant;
 import com.codzs.framework.constant.PaginationConstant;
+import com.codzs.framework.dto.pagination.CursorPageDto;
 import com.codzs.framework.validation.annotation.ValidObjectId;
 import com.codzs.mapper.organization.OrganizationMapper;
 import com.codzs.service.organization.OrganizationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,7 +26,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
@@ -29,12 +37,28 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -46,6 +70,8 @@ public class OrganizationController {
 
     private final OrganizationService organizationService;
     private final OrganizationMapper organizationMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping
     @CommonHeaders
@@ -83,6 +109,81 @@ public class OrganizationController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @CommonHeaders
+    @Operation(
+        summary = "Bulk import organizations",
+        description = "Creates organizations from an NDJSON stream with one organization creation request per line. " +
+                      "Rows are validated and inserted in batches and a result is streamed back as NDJSON for every line, " +
+                      "in row order, as each batch completes"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import processed; inspect each row result for its outcome",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = OrganizationBulkImportResultDto.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> bulkImportOrganizations(
+            @RequestHeader(value = HeaderConstant.HEADER_ORGANIZATION_ID, required = false) String organizationId,
+            @RequestHeader(value = HeaderConstant.HEADER_TENANT_ID, required = false) String tenantId,
+            
+            @Parameter(description = "NDJSON stream of organization creation requests", required = true)
+            InputStream requestBody)
+    {
+        
+        log.info("Bulk importing organizations");
+        
+        ObjectReader requestReader = objectMapper.readerFor(OrganizationCreateRequestDto.class);
+        ObjectWriter resultWriter = objectMapper.writerFor(OrganizationBulkImportResultDto.class);
+        
+        StreamingResponseBody body = outputStream -> {
+            // Rows of the current batch window: valid rows waiting for insert, and rejected rows held
+            // back so that results are written in row order
+            List<Organization> batch = new ArrayList<>(OrganizationConstants.BULK_IMPORT_BATCH_SIZE);
+            List<Long> batchRows = new ArrayList<>(OrganizationConstants.BULK_IMPORT_BATCH_SIZE);
+            List<OrganizationBulkImportResultDto> rejected = new ArrayList<>();
+            long processed = 0;
+            
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(requestBody, StandardCharsets.UTF_8))) {
+                long row = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    row++;
+                    if (!StringUtils.hasText(line)) {
+                        continue;
+                    }
+                    processed++;
+                    
+                    try {
+                        OrganizationCreateRequestDto request = requestReader.readValue(line);
+                        Set<ConstraintViolation<OrganizationCreateRequestDto>> violations = validator.validate(request);
+                        if (violations.isEmpty()) {
+                            batch.add(organizationMapper.toEntity(request));
+                            batchRows.add(row);
+                        } else {
+                            rejected.add(OrganizationBulkImportResultDto.failed(row, request.getName(), formatViolations(violations)));
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        rejected.add(OrganizationBulkImportResultDto.failed(row, null, e.getMessage()));
+                    }
+                    
+                    if (batch.size() + rejected.size() >= OrganizationConstants.BULK_IMPORT_BATCH_SIZE) {
+                        flushBulkImportBatch(batch, batchRows, rejected, outputStream, resultWriter);
+                    }
+                }
+            }
+            flushBulkImportBatch(batch, batchRows, rejected, outputStream, resultWriter);
+            
+            log.info("Successfully processed bulk import of {} organization rows", processed);
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @GetMapping("/{organizationId}")
     @CommonHeaders
     @Operation(
@@ -280,6 +381,87 @@ public class OrganizationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @CommonHeaders
+    @Operation(
+        summary = "List organizations with cursor pagination",
+        description = "Retrieves organizations with the same filters as the paginated list, using keyset pagination. " +
+                      "Pages are fetched by passing back nextCursor and no total count is computed, so deep pages stay cheap"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Organizations retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDto.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid query parameters or cursor"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPageDto<OrganizationSummaryResponseDto>> scrollOrganizations(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) 
+            String cursor,
+            
+            @Parameter(description = "Items per page", example = "20")
+            @RequestParam(value = "limit", defaultValue = PaginationConstant.DEFAULT_PAGE_SIZE_STR) 
+            @Min(value = 1, message = "Limit must be at least 1") 
+            @Max(value = 100, message = "Limit cannot exceed 100") 
+            Integer limit,
+            
+            @Parameter(description = "Filter by organization status", example = "ACTIVE")
+            @RequestParam(value = "status", required = false) 
+            String status,
+            
+            @Parameter(description = "Filter by organization type", example = "ENTERPRISE")
+            @RequestParam(value = "organizationType", required = false) 
+            String organizationType,
+            
+            @Parameter(description = "Filter by industry", example = "TECHNOLOGY")
+            @RequestParam(value = "industry", required = false) 
+            String industry,
+            
+            @Parameter(description = "Filter by organization size", example = "500+")
+            @RequestParam(value = "size", required = false) 
+            String size,
+            
+            @Parameter(description = "Search term for name and display name", example = "acme")
+            @RequestParam(value = "search", required = false) 
+            String search,
+            
+            @Parameter(description = "Sort field; must be the same for every page of a scroll", example = "name")
+            @RequestParam(value = "sortBy", defaultValue = PaginationConstant.DEFAULT_SORT_BY) 
+            String sortBy,
+            
+            @Parameter(description = "Sort order; must be the same for every page of a scroll", example = "asc")
+            @RequestParam(value = "sortOrder", defaultValue = PaginationConstant.DEFAULT_SORT_ORDER) 
+            String sortOrder,
+            
+            @RequestHeader(value = HeaderConstant.HEADER_ORGANIZATION_ID, required = false) 
+            String headerOrganizationId,
+            @RequestHeader(value = HeaderConstant.HEADER_TENANT_ID, required = false) 
+            String tenantId) 
+    {
+        
+        log.info("Scrolling organizations - limit: {}, search: {}, hasCursor: {}", limit, search, cursor != null);
+        
+        Window<Organization> organizations = organizationService.scrollOrganizations(
+            status != null ? List.of(status) : List.of(),
+            organizationType != null ? List.of(organizationType) : List.of(),
+            industry != null ? List.of(industry) : List.of(),
+            size != null ? List.of(size) : List.of(),
+            search,
+            cursor,
+            limit,
+            Sort.by(Sort.Direction.fromString(sortOrder), sortBy)
+        );
+        
+        CursorPageDto<OrganizationSummaryResponseDto> response = CursorPageDto.of(
+            organizations.map(organizationMapper::toAutocompleteResponse));
+        
+        log.info("Successfully retrieved {} organizations, hasNext: {}", response.getSize(), response.isHasNext());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/autocomplete")
     @CommonHeaders
     @Operation(
@@ -331,6 +513,77 @@ public class OrganizationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @CommonHeaders
+    @Operation(
+        summary = "Export organizations",
+        description = "Streams all organizations matching the filters as NDJSON in ascending ID order, without pagination. " +
+                      "An interrupted export can be resumed by passing the ID of the last received organization as resumeToken"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Organizations streamed successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = OrganizationResponseDto.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid query parameters"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrganizations(
+            @Parameter(description = "Filter by organization status", example = "ACTIVE")
+            @RequestParam(value = "status", required = false) 
+            List<String> status,
+            
+            @Parameter(description = "Filter by organization type", example = "ENTERPRISE")
+            @RequestParam(value = "organizationType", required = false) 
+            List<String> organizationType,
+            
+            @Parameter(description = "Filter by industry", example = "TECHNOLOGY")
+            @RequestParam(value = "industry", required = false) 
+            List<String> industry,
+            
+            @Parameter(description = "Filter by organization size", example = "500+")
+            @RequestParam(value = "size", required = false) 
+            List<String> size,
+            
+            @Parameter(description = "Search term for name and display name", example = "acme")
+            @RequestParam(value = "search", required = false) 
+            String search,
+            
+            @Parameter(description = "ID of the last organization received by a previous export", example = OrganizationSchemaConstants.EXAMPLE_ORGANIZATION_ID)
+            @ValidObjectId(allowNull = true)
+            @RequestParam(value = "resumeToken", required = false) 
+            String resumeToken,
+            
+            @RequestHeader(value = HeaderConstant.HEADER_ORGANIZATION_ID, required = false) String headerOrganizationId,
+            @RequestHeader(value = HeaderConstant.HEADER_TENANT_ID, required = false) String tenantId) 
+    {
+        
+        log.info("Exporting organizations - status: {}, organizationType: {}, search: {}, resumeToken: {}", 
+            status, organizationType, search, resumeToken);
+        
+        ObjectWriter responseWriter = objectMapper.writerFor(OrganizationResponseDto.class);
+        
+        StreamingResponseBody body = outputStream -> {
+            long exported = 0;
+            try (Stream<Organization> organizations = organizationService.exportOrganizations(
+                    status, organizationType, industry, size, search, resumeToken)) {
+                for (Organization organization : (Iterable<Organization>) organizations::iterator) {
+                    writeNdjsonLine(outputStream, responseWriter.writeValueAsBytes(organizationMapper.toResponse(organization)));
+                    if (++exported % OrganizationConstants.EXPORT_CURSOR_BATCH_SIZE == 0) {
+                        outputStream.flush();
+                    }
+                }
+            }
+            outputStream.flush();
+            log.info("Successfully exported {} organizations", exported);
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @PutMapping("/{organizationId}/activate")
     @CommonHeaders
     @Operation(
@@ -390,4 +643,54 @@ public class OrganizationController {
         log.info("Successfully deactivated organization: {}", organizationId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Creates the buffered batch through the service and records a result per row.
+     */
+    /**
+     * Inserts the valid rows of the current batch window and writes the results of every row in
+     * the window, valid or rejected, in row order.
+     */
+    private void flushBulkImportBatch(List<Organization> batch, List<Long> batchRows,
+                                      List<OrganizationBulkImportResultDto> rejected,
+                                      OutputStream outputStream, ObjectWriter resultWriter) throws IOException {
+        if (batch.isEmpty() && rejected.isEmpty()) {
+            return;
+        }
+        
+        List<OrganizationBulkImportResultDto> results = new ArrayList<>(batch.size() + rejected.size());
+        results.addAll(rejected);
+        if (!batch.isEmpty()) {
+            Map<Integer, String> failures = organizationService.bulkCreateOrganizations(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                Organization organization = batch.get(i);
+                String failure = failures.get(i);
+                results.add(failure == null
+                        ? OrganizationBulkImportResultDto.created(batchRows.get(i), organization.getId(), organization.getName())
+                        : OrganizationBulkImportResultDto.failed(batchRows.get(i), organization.getName(), failure));
+            }
+        }
+        results.sort(Comparator.comparingLong(OrganizationBulkImportResultDto::getRow));
+        
+        for (OrganizationBulkImportResultDto result : results) {
+            writeNdjsonLine(outputStream, resultWriter.writeValueAsBytes(result));
+        }
+        outputStream.flush();
+        
+        batch.clear();
+        batchRows.clear();
+        rejected.clear();
+    }
+
+    private void writeNdjsonLine(OutputStream outputStream, byte[] json) throws IOException {
+        outputStream.write(json);
+        outputStream.write('\n');
+    }
+
+    private String formatViolations(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
 }
\ No newline at end of file
@@ -1,15 +1,14 @@
 package com.codzs.customizer;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
-import java.util.Base64;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
 import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
 import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
@@ -19,12 +18,19 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import com.codzs.constant.OAuth2Constant;
+import com.codzs.service.oauth2.MongoJwkSource;
+import com.codzs.token.CertificateThumbprintCache;
 import com.codzs.token.ClaimExtractor;
+import com.codzs.token.ClaimTemplate;
+import com.codzs.token.ClaimTemplateRegistry;
 
 /**
- * Combined JWT token customizer that handles both:
+ * Combined JWT token customizer that handles:
  * 1. Certificate confirmation (cnf) claims for certificate-bound access tokens as per RFC 8705
- * 2. Federated identity claims for ID tokens
+ * 2. Federated identity claims for ID tokens, mapped through the client's {@link ClaimTemplate}
+ * 3. Per-client signing algorithm: access tokens use the client's
+ *    {@link OAuth2Constant.TokenSettings#ACCESS_TOKEN_SIGNATURE_ALGORITHM} setting, ID tokens its
+ *    ID token signature algorithm; both fall back to RS256 when no key of that algorithm is signing
  */
 @Component
 @Primary
@@ -32,19 +38,29 @@ public class CertificateBoundTokenCustomizer implements OAuth2TokenCustomizer<Jw
 
     private final Log logger = LogFactory.getLog(getClass());
 
+    private final MongoJwkSource jwkSource;
+    private final CertificateThumbprintCache certificateThumbprintCache;
+    private final ClaimTemplateRegistry claimTemplateRegistry;
+
+    public CertificateBoundTokenCustomizer(MongoJwkSource jwkSource,
+                                           CertificateThumbprintCache certificateThumbprintCache,
+                                           ClaimTemplateRegistry claimTemplateRegistry) {
+        this.jwkSource = jwkSource;
+        this.certificateThumbprintCache = certificateThumbprintCache;
+        this.claimTemplateRegistry = claimTemplateRegistry;
+    }
+
     @Override
     public void customize(JwtEncodingContext context) {
+        applySignatureAlgorithm(context);
+
         // Handle ID token customization for federated identity
         if (OidcParameterNames.ID_TOKEN.equals(context.getTokenType().getValue())) {
-            Map<String, Object> thirdPartyClaims = ClaimExtractor.extractClaims(context.getPrincipal());
-            context.getClaims().claims(existingClaims -> {
-                // Remove conflicting claims set by this authorization server
-                existingClaims.keySet().forEach(thirdPartyClaims::remove);
-                // Remove standard id_token claims that could cause problems with clients
-                ClaimExtractor.STANDARD_ID_TOKEN_CLAIMS.forEach(thirdPartyClaims::remove);
-                // Add all other claims directly to id_token
-                existingClaims.putAll(thirdPartyClaims);
-            });
+            Map<String, Object> thirdPartyClaims = ClaimExtractor.sourceClaims(context.getPrincipal());
+            ClaimTemplate template = claimTemplateRegistry.getTemplate(
+                context.getRegisteredClient(), context.getPrincipal());
+            // Copies mapped claims in one pass, keeping claims set by this authorization server
+            context.getClaims().claims(existingClaims -> template.apply(thirdPartyClaims, existingClaims));
             return;
         }
 
@@ -71,6 +87,33 @@ public class CertificateBoundTokenCustomizer implements OAuth2TokenCustomizer<Jw
         }
     }
 
+    private void applySignatureAlgorithm(JwtEncodingContext context) {
+        JwsHeader.Builder jwsHeader = context.getJwsHeader();
+        String requested;
+        if (OAuth2TokenType.ACCESS_TOKEN.equals(context.getTokenType())) {
+            Object setting = context.getRegisteredClient().getTokenSettings()
+                .getSetting(OAuth2Constant.TokenSettings.ACCESS_TOKEN_SIGNATURE_ALGORITHM);
+            if (setting == null) {
+                return;
+            }
+            requested = setting.toString();
+        } else {
+            // ID tokens already carry the client's ID token signature algorithm
+            requested = jwsHeader.build().getAlgorithm().getName();
+        }
+
+        SignatureAlgorithm algorithm = SignatureAlgorithm.from(requested);
+        if (algorithm != null && jwkSource.canSign(algorithm.getName())) {
+            jwsHeader.algorithm(algorithm);
+            return;
+        }
+        if (logger.isWarnEnabled()) {
+            logger.warn("No signing key for algorithm " + requested + " requested by client "
+                + context.getRegisteredClient().getClientId() + ", signing with RS256");
+        }
+        jwsHeader.algorithm(SignatureAlgorithm.RS256);
+    }
+
     private X509Certificate extractCertificate(JwtEncodingContext context) {
         try {
             // Extract certificate from OAuth2 client authentication
@@ -96,11 +139,8 @@ public class CertificateBoundTokenCustomizer implements OAuth2TokenCustomizer<Jw
 
     private String calculateThumbprint(X509Certificate certificate) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] certBytes = certificate.getEncoded();
-            byte[] thumbprintBytes = digest.digest(certBytes);
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(thumbprintBytes);
-        } catch (NoSuchAlgorithmException | CertificateEncodingException e) {
+            return certificateThumbprintCache.thumbprint(certificate);
+        } catch (CertificateEncodingException e) {
             if (logger.isWarnEnabled()) {
                 logger.warn("Failed to calculate certificate thumbprint", e);
             }
@@ -0,0 +1,56 @@
+package com.codzs.dto.organization.response;
+
+import com.codzs.constant.organization.OrganizationSchemaConstants;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * DTO for a single row result of the organization bulk import API.
+ * One result is streamed back as an NDJSON line for every NDJSON line in the request.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"row", "status", "id", "name", "message"})
+@Schema(description = "Result of importing a single organization row")
+public class OrganizationBulkImportResultDto {
+
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Schema(description = "1-based line number in the NDJSON request body", example = "1")
+    private long row;
+
+    @Schema(description = "Import outcome for the row", example = STATUS_CREATED)
+    private String status;
+
+    @Schema(description = OrganizationSchemaConstants.ORG_ID_DESCRIPTION, example = OrganizationSchemaConstants.EXAMPLE_ORGANIZATION_ID)
+    private String id;
+
+    @Schema(description = OrganizationSchemaConstants.ORG_NAME_DESCRIPTION, example = OrganizationSchemaConstants.EXAMPLE_ORGANIZATION_NAME)
+    private String name;
+
+    @Schema(description = "Failure reason when the row was not imported")
+    private String message;
+
+    public static OrganizationBulkImportResultDto created(long row, String id, String name) {
+        return new OrganizationBulkImportResultDto(row, STATUS_CREATED, id, name, null);
+    }
+
+    public static OrganizationBulkImportResultDto failed(long row, String name, String message) {
+        return new OrganizationBulkImportResultDto(row, STATUS_FAILED, null, name, message);
+    }
+}
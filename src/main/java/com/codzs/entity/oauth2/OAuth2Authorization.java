@@ -58,6 +58,8 @@ public class OAuth2Authorization {
     private String accessTokenType;
     @Size(max = 1000, message = "Access token scopes must not exceed 1000 characters")
     private String accessTokenScopes;
+    @Indexed(name = "access_token_hash_idx")
+    private String accessTokenHash; // SHA-256 of accessTokenValue, used for lookups
 
     // OIDC ID Token
     private String oidcIdTokenValue;
@@ -147,6 +149,9 @@ public class OAuth2Authorization {
     public String getAccessTokenScopes() { return accessTokenScopes; }
     public void setAccessTokenScopes(String accessTokenScopes) { this.accessTokenScopes = accessTokenScopes; }
 
+    public String getAccessTokenHash() { return accessTokenHash; }
+    public void setAccessTokenHash(String accessTokenHash) { this.accessTokenHash = accessTokenHash; }
+
     // OIDC ID Token getters/setters
     public String getOidcIdTokenValue() { return oidcIdTokenValue; }
     public void setOidcIdTokenValue(String oidcIdTokenValue) { this.oidcIdTokenValue = oidcIdTokenValue; }
@@ -5,11 +5,15 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 
+import java.util.List;
+
 /**
  * MongoDB Document representing OAuth2 authorization consent.
  * This entity stores user consent for OAuth2 client access.
+ * Granted authorities are stored as an array so they are read back without re-parsing.
  * 
  * @author Nitin Khaitan
  * @since 1.2
@@ -31,14 +35,14 @@ public class OAuth2AuthorizationConsent {
     @Size(max = 200, message = "Principal name must not exceed 200 characters")
     private String principalName;
 
-    @NotBlank(message = "Authorities are required")
-    @Size(max = 1000, message = "Authorities must not exceed 1000 characters")
-    private String authorities;
+    @NotEmpty(message = "Authorities are required")
+    @Size(max = 100, message = "Authorities must not exceed 100 entries")
+    private List<String> authorities;
 
     // Constructors
     public OAuth2AuthorizationConsent() {}
 
-    public OAuth2AuthorizationConsent(String registeredClientId, String principalName, String authorities) {
+    public OAuth2AuthorizationConsent(String registeredClientId, String principalName, List<String> authorities) {
         this.registeredClientId = registeredClientId;
         this.principalName = principalName;
         this.authorities = authorities;
@@ -54,8 +58,8 @@ public class OAuth2AuthorizationConsent {
     public String getPrincipalName() { return principalName; }
     public void setPrincipalName(String principalName) { this.principalName = principalName; }
 
-    public String getAuthorities() { return authorities; }
-    public void setAuthorities(String authorities) { this.authorities = authorities; }
+    public List<String> getAuthorities() { return authorities; }
+    public void setAuthorities(List<String> authorities) { this.authorities = authorities; }
 
     @Override
     public String toString() {
@@ -63,7 +67,7 @@ public class OAuth2AuthorizationConsent {
                 "id='" + id + '\'' +
                 ", registeredClientId='" + registeredClientId + '\'' +
                 ", principalName='" + principalName + '\'' +
-                ", authorities='" + authorities + '\'' +
+                ", authorities=" + authorities +
                 '}';
     }
 }
\ No newline at end of file
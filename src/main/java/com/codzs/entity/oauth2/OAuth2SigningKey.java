@@ -0,0 +1,71 @@
+package com.codzs.entity.oauth2;
+
+import com.codzs.constant.OAuth2Constant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB Document representing a JSON Web Key used to sign tokens.
+ *
+ * A key is published in the JWK set from creation until {@code expiresAt}, signs tokens
+ * from {@code activatesAt} until {@code retiresAt} (or until a newer key activates), and
+ * stays published after retirement so tokens it signed can still be verified.
+ * The private part is stored encrypted.
+ *
+ * Storage Database: codzs_auth_{env}
+ * Collection: oauth2_signing_key
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Document(collection = OAuth2Constant.Collections.OAUTH2_SIGNING_KEY)
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "encryptedPrivateJwk")
+public class OAuth2SigningKey {
+
+    /**
+     * The key ID ({@code kid}).
+     */
+    @Id
+    private String id;
+
+    /**
+     * JWS algorithm the key signs with, e.g. RS256.
+     */
+    private String algorithm;
+
+    /**
+     * Public JWK as JSON.
+     */
+    private String publicJwk;
+
+    /**
+     * Full JWK including the private part, as JSON encrypted with AES-GCM and Base64 encoded.
+     */
+    private String encryptedPrivateJwk;
+
+    private Instant createdDate;
+
+    /**
+     * When the key starts signing tokens.
+     */
+    private Instant activatesAt;
+
+    /**
+     * When the key stops signing tokens.
+     */
+    private Instant retiresAt;
+
+    /**
+     * When the key is removed from the JWK set.
+     */
+    private Instant expiresAt;
+}
@@ -48,6 +48,9 @@ import java.util.List;
     // Search and status index - Critical for autocomplete functionality
     @CompoundIndex(name = "org_search_idx", def = "{'deletedDate': 1, 'status': 1, 'name': 1}"),
     
+    // Search token index - Anchored prefix search over normalized name/displayName tokens
+    @CompoundIndex(name = "org_search_token_idx", def = "{'deletedDate': 1, 'status': 1, 'searchTokens': 1}"),
+    
     // Metadata filtering index - Important for advanced filtering
     @CompoundIndex(name = "org_metadata_idx", def = "{'deletedDate': 1, 'metadata.industry': 1, 'metadata.size': 1}"),
     
@@ -126,6 +129,10 @@ public class Organization extends BaseEntity {
     @Indexed
     private String parentOrganizationId;
 
+    // Normalized tokens derived from name and displayName, maintained by the service layer
+    @Schema(hidden = true)
+    private List<String> searchTokens = new ArrayList<>();
+
     // Custom constructor with parameters
     public Organization(String name, String abbr, String displayName, String organizationType, 
                        String billingEmail, DatabaseConfig database, List<String> ownerUserIds, String createdBy) {
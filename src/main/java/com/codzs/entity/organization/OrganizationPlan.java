@@ -32,9 +32,10 @@ import java.time.Instant;
 @Document(collection = "organization_plan")
 @CompoundIndexes({
     @CompoundIndex(name = "org_plan_idx", def = "{'organizationId': 1, 'planId': 1}"),
-    @CompoundIndex(name = "org_active_idx", def = "{'organizationId': 1, 'isActive': 1}"),
+    @CompoundIndex(name = "org_active_validity_range_idx", def = "{'organizationId': 1, 'isActive': 1, 'validFrom': 1, 'validTo': 1}"),
     @CompoundIndex(name = "active_validity_idx", def = "{'isActive': 1, 'validTo': 1}"),
-    @CompoundIndex(name = "org_active_validity_idx", def = "{'organizationId': 1, 'isActive': 1, 'validTo': 1}")
+    @CompoundIndex(name = "org_active_validity_idx", def = "{'organizationId': 1, 'isActive': 1, 'validTo': 1}"),
+    @CompoundIndex(name = "plan_active_id_idx", def = "{'planId': 1, 'isActive': 1, '_id': 1}")
 })
 @Getter
 @Setter
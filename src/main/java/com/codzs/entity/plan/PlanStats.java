@@ -0,0 +1,46 @@
+package com.codzs.entity.plan;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB Document holding precomputed usage counters of a plan.
+ * Counters are maintained with {@code $inc} as organization plan associations change
+ * and are periodically reconciled against the organization_plan collection.
+ * 
+ * Storage Database: codzs_auth_{env}
+ * Collection: plan_stats
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Document(collection = "plan_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PlanStats {
+
+    /**
+     * The plan ID.
+     */
+    @Id
+    private String id;
+
+    /**
+     * Number of active, non-deleted organization plan associations for the plan.
+     */
+    private long activeSubscriptions;
+
+    private Instant lastModifiedDate;
+
+    private Instant lastReconciledDate;
+}
@@ -0,0 +1,20 @@
+package com.codzs.entity.security;
+
+import java.util.List;
+
+/**
+ * Projection of a user with its authority names, loaded in a single aggregation
+ * that joins the 'user' and 'authority' collections.
+ * 
+ * @param username the username
+ * @param password the encoded password
+ * @param enabled whether the user is enabled
+ * @param authorities the user's authority names
+ * 
+ * @author Nitin Khaitan
+ * @since 1.2
+ */
+public record UserCredentials(String username, String password, Boolean enabled, List<String> authorities) {
+
+    public boolean isEnabled() { return Boolean.TRUE.equals(enabled); }
+}
@@ -15,6 +15,7 @@
  */
 package com.codzs.filter;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -22,19 +23,24 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
 
 import com.codzs.constant.OAuth2Constant;
 import com.codzs.handler.oauth2.authentication.federation.FederatedIdentityAuthenticationSuccessHandler;
+import com.codzs.service.user.OffloadingPasswordEncoder;
+import com.codzs.service.user.PasswordHashingExecutor;
 
 /**
  * Configuration class for default security settings.
@@ -89,37 +95,55 @@ public class DefaultSecurityConfig {
 	/**
 	 * Configure the password encoder for password hashing and validation.
 	 * Uses BCrypt for secure password storage and validation.
+	 * Hashing runs on the bounded password hashing executor. Stored hashes with a lower
+	 * BCrypt strength than configured are re-encoded on the next successful login.
 	 * 
-	 * @return PasswordEncoder using BCrypt
+	 * @param bcryptStrength the BCrypt log rounds for new hashes
+	 * @param passwordHashingExecutor the executor hashing runs on
+	 * @return OffloadingPasswordEncoder using BCrypt
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
+	public OffloadingPasswordEncoder passwordEncoder(
+			@Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+			PasswordHashingExecutor passwordHashingExecutor) {
 		Map<String, PasswordEncoder> encoders = new HashMap<>();
-		encoders.put("bcrypt", new BCryptPasswordEncoder());
+		encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
 		// NoOpPasswordEncoder removed for security - all passwords must use bcrypt
-		return new org.springframework.security.crypto.password.DelegatingPasswordEncoder("bcrypt", encoders);
+		return new OffloadingPasswordEncoder(
+				new org.springframework.security.crypto.password.DelegatingPasswordEncoder("bcrypt", encoders),
+				passwordHashingExecutor);
 	}
 
 	/**
 	 * Configure the DaoAuthenticationProvider for username/password authentication.
 	 * This provider uses the UserDetailsService to load user details and validates
-	 * passwords using the configured PasswordEncoder.
+	 * passwords using the configured PasswordEncoder. Passwords whose encoding is outdated
+	 * are re-encoded and stored through the UserDetailsPasswordService after login.
 	 * 
 	 * @param userDetailsService the service to load user details from database
+	 * @param userDetailsPasswordService the service storing upgraded password hashes
 	 * @param passwordEncoder the encoder to validate passwords
 	 * @return DaoAuthenticationProvider configured with database-backed user details
 	 */
 	@Bean
 	public DaoAuthenticationProvider daoAuthenticationProvider(UserDetailsService userDetailsService, 
-			PasswordEncoder passwordEncoder) {
+			UserDetailsPasswordService userDetailsPasswordService, PasswordEncoder passwordEncoder) {
 		DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
 		authProvider.setPasswordEncoder(passwordEncoder);
+		authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
 		return authProvider;
 	}
 
+	/**
+	 * Session registry backed by the shared Redis session store, so every node sees the
+	 * sessions of a principal regardless of which node created them.
+	 * 
+	 * @param sessionRepository the session repository indexed by principal name
+	 * @return SessionRegistry shared by all nodes
+	 */
 	@Bean
-	public SessionRegistry sessionRegistry() {
-		return new SessionRegistryImpl();
+	public <S extends Session> SessionRegistry sessionRegistry(FindByIndexNameSessionRepository<S> sessionRepository) {
+		return new SpringSessionBackedSessionRegistry<>(sessionRepository);
 	}
 
 	@Bean
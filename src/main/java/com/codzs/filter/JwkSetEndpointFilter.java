@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.filter;
+
+import com.codzs.constant.OAuth2Constant;
+import com.codzs.service.oauth2.MongoJwkSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Serves the JWK set endpoint from the pre-serialized public key set of {@link MongoJwkSource}.
+ * 
+ * Replaces the authorization server's own endpoint, which serializes the key set on every
+ * request and sends no caching headers. Responses carry a strong ETag and a public
+ * Cache-Control max-age; a matching If-None-Match gets 304 Not Modified.
+ * The max-age should stay well below the JWK publish-ahead window so relying parties
+ * see new keys before they start signing.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+public class JwkSetEndpointFilter extends OncePerRequestFilter {
+
+    private final MongoJwkSource jwkSource;
+    private final String cacheControl;
+
+    public JwkSetEndpointFilter(MongoJwkSource jwkSource,
+                                @Value("${oauth2.jwk.set-cache-max-age:5m}") Duration maxAge) {
+        this.jwkSource = jwkSource;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().getHeaderValue();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !OAuth2Constant.Endpoints.JWK_SET.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        MongoJwkSource.PublishedJwkSet jwkSet = jwkSource.getPublishedJwkSet();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ETAG, jwkSet.eTag());
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(jwkSet.eTag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(jwkSet.body().length);
+        response.getOutputStream().write(jwkSet.body());
+    }
+}
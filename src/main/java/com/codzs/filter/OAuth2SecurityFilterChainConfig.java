@@ -31,8 +31,10 @@ import org.springframework.security.web.util.matcher.MediaTypeRequestMatcher;
 
 import com.codzs.config.security.SecurityHeadersConfigurer;
 import com.codzs.constant.OAuth2Constant;
+import com.codzs.service.oauth2.MongoJwkSource;
 
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 
 /**
  * Configuration class for OAuth2 authorization server security filter chain.
@@ -44,6 +46,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *   <li>Security headers (HSTS, CSP, X-Frame-Options, etc.)</li>
  *   <li>CORS restrictions specific to OAuth2 flows</li>
  *   <li>Client authentication using Spring's built-in providers</li>
+ *   <li>Cacheable JWK set endpoint served from persisted signing keys</li>
  * </ul>
  * 
  * <p>Security features include:
@@ -108,6 +111,8 @@ public class OAuth2SecurityFilterChainConfig {
 	 * @param rateLimitingFilter device authorization rate limiting filter
 	 * @param ipBlacklistFilter global IP blacklist filter for security  
 	 * @param ipWhitelistFilter global IP whitelist filter for access control
+	 * @param jwkSetEndpointFilter pre-serialized, cacheable JWK set endpoint
+	 * @param jwkSource signing keys, advertised as supported ID token signing algorithms
 	 * @return SecurityFilterChain configured for OAuth2 authorization server
 	 * @throws Exception if security configuration fails
 	 */
@@ -118,7 +123,9 @@ public class OAuth2SecurityFilterChainConfig {
 			AuthorizationServerSettings authorizationServerSettings,
 			DeviceAuthorizationRateLimitingFilter rateLimitingFilter,
 			GlobalIpBlacklistFilter ipBlacklistFilter,
-			GlobalApiWhitelistFilter ipWhitelistFilter) throws Exception {
+			GlobalApiWhitelistFilter ipWhitelistFilter,
+			JwkSetEndpointFilter jwkSetEndpointFilter,
+			MongoJwkSource jwkSource) throws Exception {
 
 		OAuth2AuthorizationServerConfigurer authorizationServerConfigurer = authorizationServer();
 
@@ -131,6 +138,8 @@ public class OAuth2SecurityFilterChainConfig {
 			.addFilterAfter(ipWhitelistFilter, GlobalIpBlacklistFilter.class)
 			// Add rate limiting filter for device authorization endpoints
 			.addFilterAfter(rateLimitingFilter, GlobalApiWhitelistFilter.class)
+			// Serve the JWK set ahead of the authorization server's own JWK set endpoint filter
+			.addFilterBefore(jwkSetEndpointFilter, LogoutFilter.class)
 			.with(authorizationServerConfigurer, (authorizationServer) ->
 				authorizationServer
 					// .tokenEndpoint(Customizer.withDefaults()) // Add this line
@@ -144,7 +153,13 @@ public class OAuth2SecurityFilterChainConfig {
 					.clientAuthentication(Customizer.withDefaults())
 					.authorizationEndpoint(authorizationEndpoint ->
 						authorizationEndpoint.consentPage(CUSTOM_CONSENT_PAGE_URI))
-					.oidc(Customizer.withDefaults())	// Enable OpenID Connect 1.0
+					// Enable OpenID Connect 1.0, advertising every configured signing algorithm
+					.oidc(oidc -> oidc.providerConfigurationEndpoint(providerConfigurationEndpoint ->
+						providerConfigurationEndpoint.providerConfigurationCustomizer(providerConfiguration ->
+							providerConfiguration.idTokenSigningAlgorithms(algorithms -> {
+								algorithms.clear();
+								jwkSource.getAlgorithms().forEach(algorithm -> algorithms.add(algorithm.getName()));
+							}))))
 			)
 			.authorizeHttpRequests((authorize) ->
 				authorize.anyRequest().authenticated()
@@ -0,0 +1,107 @@
+package com.codzs.framework.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Broadcasts local cache invalidations to every node over Redis pub/sub.
+ *
+ * Any {@link InvalidationTarget} can register: the local tiers of {@link TwoTierCache}s and
+ * the near-caches of services. All targets share one channel and one subscription.
+ * Messages have the form {@code <nodeId>|<targetName>|<key>}; an empty key means the whole
+ * target was cleared. Each node ignores its own messages, since the publishing target has
+ * already updated its local state.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final char SEPARATOR = '|';
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final Map<String, InvalidationTarget> targets = new ConcurrentHashMap<>();
+    private final Counter published;
+    private final Counter received;
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.published = invalidationCounter(meterRegistry, "published");
+        this.received = invalidationCounter(meterRegistry, "received");
+    }
+
+    /**
+     * Registers a target so that remote invalidations for it are applied locally.
+     */
+    public void register(InvalidationTarget target) {
+        if (targets.putIfAbsent(target.getName(), target) != null) {
+            throw new IllegalStateException("Invalidation target already registered: " + target.getName());
+        }
+    }
+
+    public void publishEvict(String targetName, Object key) {
+        publish(targetName, String.valueOf(key));
+    }
+
+    public void publishClear(String targetName) {
+        publish(targetName, "");
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : body.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            log.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, first))) {
+            return;
+        }
+
+        InvalidationTarget target = targets.get(body.substring(first + 1, second));
+        if (target == null) {
+            return;
+        }
+
+        received.increment();
+        String key = body.substring(second + 1);
+        if (key.isEmpty()) {
+            target.clearLocal();
+        } else {
+            target.evictLocal(key);
+        }
+    }
+
+    private void publish(String targetName, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + targetName + SEPARATOR + key);
+            published.increment();
+        } catch (DataAccessException e) {
+            // Other nodes fall back to the local TTL for this entry
+            log.warn("Failed to publish cache invalidation for {} key {}: {}", targetName, key, e.getMessage());
+        }
+    }
+
+    private Counter invalidationCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("cache.invalidations")
+                .description("Cross-node cache invalidation messages")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.codzs.framework.cache;
+
+/**
+ * Node-local cache state that the {@link CacheInvalidationBus} keeps coherent across nodes.
+ *
+ * Implementations register with the bus under a unique name, publish their own evictions
+ * through it, and apply evictions received from other nodes to their local state only.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface InvalidationTarget {
+
+    /**
+     * @return name identifying this target in invalidation messages
+     */
+    String getName();
+
+    /**
+     * Drops a key from local state only.
+     *
+     * @param key the key evicted on another node
+     */
+    void evictLocal(Object key);
+
+    /**
+     * Drops all local state only.
+     */
+    void clearLocal();
+}
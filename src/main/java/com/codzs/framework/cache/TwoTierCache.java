@@ -0,0 +1,240 @@
+package com.codzs.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Spring {@link org.springframework.cache.Cache} with a local Caffeine tier (L1) in front of
+ * a shared Redis tier (L2).
+ *
+ * Both tiers hold the serialized value, so callers always receive their own copy and can
+ * never mutate what other threads read. Reads try L1, then L2 (populating L1 on a hit).
+ * Read-through loads run at most once per key, without blocking other keys, and fill both tiers
+ * without a broadcast. Writes and evictions go to both tiers and are broadcast through the
+ * {@link CacheInvalidationBus} so other nodes drop their L1 entry. Redis failures degrade to a
+ * cache miss instead of failing the request. Keys are expected to be strings (entity IDs).
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache implements InvalidationTarget {
+
+    private final String name;
+    private final Cache<Object, byte[]> localCache;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisSerializer<Object> serializer;
+    private final Duration redisTtl;
+    private final String redisKeyPrefix;
+    private final CacheInvalidationBus invalidationBus;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public TwoTierCache(String name,
+                        Cache<Object, byte[]> localCache,
+                        RedisTemplate<String, byte[]> redisTemplate,
+                        RedisSerializer<Object> serializer,
+                        Duration redisTtl,
+                        String redisKeyPrefix,
+                        CacheInvalidationBus invalidationBus,
+                        MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+        this.redisTtl = redisTtl;
+        this.redisKeyPrefix = redisKeyPrefix + name + "::";
+        this.invalidationBus = invalidationBus;
+        this.redisHits = redisCounter(meterRegistry, "hit");
+        this.redisMisses = redisCounter(meterRegistry, "miss");
+        this.redisErrors = redisCounter(meterRegistry, "error");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    // ========== READS ==========
+
+    @Override
+    protected Object lookup(Object key) {
+        byte[] bytes = localCache.getIfPresent(key);
+        if (bytes == null) {
+            bytes = readRedis(key);
+            if (bytes != null) {
+                localCache.put(key, bytes);
+            }
+        }
+        return bytes != null ? serializer.deserialize(bytes) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        byte[] bytes;
+        try {
+            // Caffeine computes per key: callers for the same key wait, other keys are not blocked
+            bytes = localCache.get(key, missingKey -> loadThrough(missingKey, valueLoader));
+        } catch (LoaderException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+        return (T) fromStoreValue(serializer.deserialize(bytes));
+    }
+
+    /**
+     * Resolves an L1 miss from L2, or from the loader. A loaded value is a fill rather than a
+     * write, so it is stored in Redis without broadcasting an eviction to other nodes.
+     */
+    private byte[] loadThrough(Object key, Callable<?> valueLoader) {
+        byte[] bytes = readRedis(key);
+        if (bytes != null) {
+            return bytes;
+        }
+
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new LoaderException(e);
+        }
+        bytes = serializer.serialize(toStoreValue(value));
+        writeRedis(key, bytes);
+        return bytes;
+    }
+
+    // ========== WRITES ==========
+
+    @Override
+    public void put(Object key, Object value) {
+        byte[] bytes = serializer.serialize(toStoreValue(value));
+        writeRedis(key, bytes);
+        localCache.put(key, bytes);
+        invalidationBus.publishEvict(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        deleteRedis(key);
+        localCache.invalidate(key);
+        invalidationBus.publishEvict(name, key);
+    }
+
+    @Override
+    public void clear() {
+        clearRedis();
+        localCache.invalidateAll();
+        invalidationBus.publishClear(name);
+    }
+
+    /**
+     * Drops a key from the local tier only. Used for invalidations received from other nodes.
+     */
+    @Override
+    public void evictLocal(Object key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * Drops every entry from the local tier only. Used for invalidations received from other nodes.
+     */
+    @Override
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // ========== REDIS TIER ==========
+
+    private byte[] readRedis(Object key) {
+        try {
+            byte[] bytes = redisTemplate.opsForValue().get(redisKey(key));
+            (bytes != null ? redisHits : redisMisses).increment();
+            return bytes;
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Redis read failed for cache {} key {}: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Object key, byte[] bytes) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), bytes, redisTtl);
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Redis write failed for cache {} key {}: {}", name, key, e.getMessage());
+        }
+    }
+
+    private void deleteRedis(Object key) {
+        try {
+            redisTemplate.delete(redisKey(key));
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Redis delete failed for cache {} key {}: {}", name, key, e.getMessage());
+        }
+    }
+
+    private void clearRedis() {
+        try {
+            List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+                List<String> matched = new ArrayList<>();
+                ScanOptions options = ScanOptions.scanOptions().match(redisKeyPrefix + "*").count(1000).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    cursor.forEachRemaining(raw -> matched.add(new String(raw, StandardCharsets.UTF_8)));
+                }
+                return matched;
+            });
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Redis clear failed for cache {}: {}", name, e.getMessage());
+        }
+    }
+
+    private String redisKey(Object key) {
+        return redisKeyPrefix + key;
+    }
+
+    private Counter redisCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.l2.requests")
+                .description("Redis (L2) cache lookups and failures")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Carries a value loader failure out of the Caffeine mapping function.
+     */
+    private static final class LoaderException extends RuntimeException {
+
+        private LoaderException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
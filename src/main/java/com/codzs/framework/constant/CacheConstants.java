@@ -24,6 +24,13 @@ public final class CacheConstants {
      */
     public static final long CACHE_TTL_VERY_LONG = 86400;
 
+    // ========================= CROSS-NODE INVALIDATION =========================
+
+    /**
+     * Redis pub/sub channel carrying cross-node local cache invalidations.
+     */
+    public static final String CACHE_INVALIDATION_CHANNEL = "codzs:authorization:cache:invalidation";
+
     private CacheConstants() {
         // Utility class - prevent instantiation
     }
@@ -0,0 +1,58 @@
+package com.codzs.framework.dto.pagination;
+
+import com.codzs.framework.util.ScrollPositionUtil;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+/**
+ * DTO for cursor (keyset) paginated responses.
+ * Unlike a Page it carries no total count, so producing it never runs a count query.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"content", "size", "hasNext", "nextCursor"})
+@Schema(description = "Cursor-paginated result without a total count")
+public class CursorPageDto<T> {
+
+    @Schema(description = "Items in this page")
+    private List<T> content;
+
+    @Schema(description = "Number of items in this page", example = "20")
+    private int size;
+
+    @Schema(description = "Whether another page is available", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor to pass back to fetch the next page", example = "eyJuYW1lIjogIkFjbWUiLCAiX2lkIjogey...")
+    private String nextCursor;
+
+    public CursorPageDto(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a cursor page from a window that has already been mapped to response DTOs.
+     */
+    public static <T> CursorPageDto<T> of(Window<T> window) {
+        return new CursorPageDto<>(window.getContent(), window.hasNext(), ScrollPositionUtil.nextToken(window));
+    }
+}
@@ -10,12 +10,27 @@ import java.util.stream.Collectors;
  * Centralized service for managing localization codes (country, currency, timezone, language).
  * Provides validation, normalization, and retrieval operations for all localization-related codes.
  * 
+ * The JDK code tables are read once at startup into immutable hash sets for validation
+ * and immutable, pre-sorted lists for retrieval.
+ * 
  * @author Codzs Team
  * @since 1.0
  */
 @Service
 public class LocalizationCodeService {
 
+    private final Set<String> countryCodes = Set.of(Locale.getISOCountries());
+    private final Set<String> currencyCodes = Currency.getAvailableCurrencies().stream()
+            .map(Currency::getCurrencyCode)
+            .collect(Collectors.toUnmodifiableSet());
+    private final Set<String> timezoneIds = Set.of(TimeZone.getAvailableIDs());
+    private final Set<String> languageCodes = Set.of(Locale.getISOLanguages());
+
+    private final List<CodeInfo> allCountryCodes = buildCountryCodes();
+    private final List<CodeInfo> allCurrencyCodes = buildCurrencyCodes();
+    private final List<CodeInfo> allTimezones = buildTimezones();
+    private final List<CodeInfo> allLanguageCodes = buildLanguageCodes();
+
     // ========================= COUNTRY CODE OPERATIONS =========================
     
     /**
@@ -26,19 +41,7 @@ public class LocalizationCodeService {
             return false;
         }
         
-        try {
-            String[] availableCountries = Locale.getISOCountries();
-            String normalized = countryCode.trim().toUpperCase();
-            
-            for (String country : availableCountries) {
-                if (country.equals(normalized)) {
-                    return true;
-                }
-            }
-            return false;
-        } catch (Exception e) {
-            return false;
-        }
+        return countryCodes.contains(countryCode.trim().toUpperCase());
     }
 
     /**
@@ -60,18 +63,21 @@ public class LocalizationCodeService {
     }
 
     /**
-     * Gets all available country codes with display names.
+     * Gets all available country codes with display names, sorted by name.
      */
     public List<CodeInfo> getAllCountryCodes() {
-        String[] countryCodes = Locale.getISOCountries();
-        return Arrays.stream(countryCodes)
+        return allCountryCodes;
+    }
+
+    private static List<CodeInfo> buildCountryCodes() {
+        return Arrays.stream(Locale.getISOCountries())
                 .map(code -> {
                     Locale locale = new Locale("", code);
                     return new CodeInfo(code, locale.getDisplayCountry(), 
                                       code.equals(CommonConstants.DEFAULT_COUNTRY));
                 })
                 .sorted(Comparator.comparing(CodeInfo::getValue))
-                .collect(Collectors.toList());
+                .toList();
     }
 
     // ========================= CURRENCY CODE OPERATIONS =========================
@@ -84,12 +90,7 @@ public class LocalizationCodeService {
             return false;
         }
         
-        try {
-            Currency.getInstance(currencyCode.trim().toUpperCase());
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return currencyCodes.contains(currencyCode.trim().toUpperCase());
     }
 
     /**
@@ -111,16 +112,19 @@ public class LocalizationCodeService {
     }
 
     /**
-     * Gets all available currency codes with display names.
+     * Gets all available currency codes with display names, sorted by code.
      */
     public List<CodeInfo> getAllCurrencyCodes() {
-        Set<Currency> currencies = Currency.getAvailableCurrencies();
-        return currencies.stream()
+        return allCurrencyCodes;
+    }
+
+    private static List<CodeInfo> buildCurrencyCodes() {
+        return Currency.getAvailableCurrencies().stream()
                 .map(currency -> new CodeInfo(currency.getCurrencyCode(), 
                                             currency.getDisplayName(), 
                                             currency.getCurrencyCode().equals(CommonConstants.DEFAULT_CURRENCY)))
                 .sorted(Comparator.comparing(CodeInfo::getCode))
-                .collect(Collectors.toList());
+                .toList();
     }
 
     // ========================= TIMEZONE OPERATIONS =========================
@@ -133,19 +137,7 @@ public class LocalizationCodeService {
             return false;
         }
         
-        try {
-            String normalized = timezoneId.trim();
-            String[] availableIds = TimeZone.getAvailableIDs();
-            
-            for (String id : availableIds) {
-                if (id.equals(normalized)) {
-                    return true;
-                }
-            }
-            return false;
-        } catch (Exception e) {
-            return false;
-        }
+        return timezoneIds.contains(timezoneId.trim());
     }
 
     /**
@@ -167,18 +159,21 @@ public class LocalizationCodeService {
     }
 
     /**
-     * Gets all available timezone IDs with display names.
+     * Gets all available timezone IDs with display names, sorted by ID.
      */
     public List<CodeInfo> getAllTimezones() {
-        String[] timezoneIds = TimeZone.getAvailableIDs();
-        return Arrays.stream(timezoneIds)
+        return allTimezones;
+    }
+
+    private static List<CodeInfo> buildTimezones() {
+        return Arrays.stream(TimeZone.getAvailableIDs())
                 .map(id -> {
                     TimeZone tz = TimeZone.getTimeZone(id);
                     return new CodeInfo(id, tz.getDisplayName(), 
                                       id.equals(CommonConstants.DEFAULT_TIMEZONE));
                 })
                 .sorted(Comparator.comparing(CodeInfo::getCode))
-                .collect(Collectors.toList());
+                .toList();
     }
 
     // ========================= LANGUAGE CODE OPERATIONS =========================
@@ -191,19 +186,7 @@ public class LocalizationCodeService {
             return false;
         }
         
-        try {
-            String normalized = languageCode.trim().toLowerCase();
-            String[] availableLanguages = Locale.getISOLanguages();
-            
-            for (String lang : availableLanguages) {
-                if (lang.equals(normalized)) {
-                    return true;
-                }
-            }
-            return false;
-        } catch (Exception e) {
-            return false;
-        }
+        return languageCodes.contains(languageCode.trim().toLowerCase());
     }
 
     /**
@@ -225,18 +208,21 @@ public class LocalizationCodeService {
     }
 
     /**
-     * Gets all available language codes with display names.
+     * Gets all available language codes with display names, sorted by name.
      */
     public List<CodeInfo> getAllLanguageCodes() {
-        String[] languageCodes = Locale.getISOLanguages();
-        return Arrays.stream(languageCodes)
+        return allLanguageCodes;
+    }
+
+    private static List<CodeInfo> buildLanguageCodes() {
+        return Arrays.stream(Locale.getISOLanguages())
                 .map(code -> {
                     Locale locale = new Locale(code);
                     return new CodeInfo(code, locale.getDisplayLanguage(), 
                                       code.equals(CommonConstants.DEFAULT_LANGUAGE));
                 })
                 .sorted(Comparator.comparing(CodeInfo::getValue))
-                .collect(Collectors.toList());
+                .toList();
     }
 
     // ========================= UTILITY CLASS =========================
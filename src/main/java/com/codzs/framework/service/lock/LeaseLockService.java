@@ -0,0 +1,92 @@
+package com.codzs.framework.service.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Time-bounded locks shared by all nodes, stored in the {@value #COLLECTION} collection.
+ *
+ * A lease is held by one node until it is released or its expiry passes, so a node that
+ * dies while holding a lease blocks others for at most one lease duration. Holders of
+ * long-running work must renew the lease before it expires and stop when renewal fails.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class LeaseLockService {
+
+    private static final String COLLECTION = "lease_lock";
+    private static final String OWNER = "owner";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public LeaseLockService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Acquires a lease if it is free, expired or already held by this node.
+     *
+     * @param name the lease name
+     * @param duration how long the lease is held without renewal
+     * @return true if this node now holds the lease
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where("_id").is(name).orOperator(
+                Criteria.where(EXPIRES_AT).lt(now),
+                Criteria.where(OWNER).is(nodeId)));
+        Update update = new Update()
+                .set(OWNER, nodeId)
+                .set(EXPIRES_AT, now.plus(duration));
+
+        try {
+            // A held lease does not match, so the upsert collides with the existing _id
+            Document lease = mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, COLLECTION);
+            return lease != null && nodeId.equals(lease.getString(OWNER));
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Extends a lease held by this node.
+     *
+     * @param name the lease name
+     * @param duration new lease duration from now
+     * @return false if the lease has been lost to another node
+     */
+    public boolean renew(String name, Duration duration) {
+        Query query = new Query(Criteria.where("_id").is(name).and(OWNER).is(nodeId));
+        Update update = new Update().set(EXPIRES_AT, Instant.now().plus(duration));
+        return mongoTemplate.updateFirst(query, update, COLLECTION).getMatchedCount() > 0;
+    }
+
+    /**
+     * Releases a lease held by this node. Does nothing if the lease is held by another node.
+     *
+     * @param name the lease name
+     */
+    public void release(String name) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(name).and(OWNER).is(nodeId)), COLLECTION);
+        log.debug("Released lease {}", name);
+    }
+}
@@ -0,0 +1,294 @@
+package com.codzs.framework.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * In-memory prefix index for autocomplete lookups.
+ *
+ * Each indexed value is registered under its ID with a set of normalized search keys
+ * (see {@link SearchTokenUtil}) and a small status code. Lookups run against an immutable
+ * snapshot of parallel arrays sorted by key: a binary search finds the first key with the
+ * requested prefix, then matching keys are scanned in order. Status filtering uses a bit mask,
+ * so a lookup allocates nothing beyond the result list.
+ *
+ * Writes go to a concurrent map and mark the index dirty; {@link #rebuildIfDirty()} publishes
+ * a new snapshot. Readers never block and always see a complete snapshot. A reload fills a
+ * separate map; writes made while it runs are replayed onto that map before it replaces the
+ * current one, so a value removed during a reload is not brought back by it.
+ *
+ * @param <T> type of the indexed values returned by lookups
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class AutocompleteIndex<T> implements AutocompleteLoader<T> {
+
+    /** Maximum status code; status masks are {@code long} bit sets. */
+    public static final int MAX_STATUS = 63;
+
+    /** Status mask that matches every status. */
+    public static final long ALL_STATUSES = -1L;
+
+    private final Object writeLock = new Object();
+    private volatile Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private List<Change<T>> changesDuringReload;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile Snapshot<T> snapshot = Snapshot.empty();
+    private volatile boolean ready = false;
+
+    // ========== WRITES ==========
+
+    /**
+     * Adds or replaces an indexed value.
+     *
+     * @param id the value ID
+     * @param keys normalized search keys for the value
+     * @param status status code between 0 and {@link #MAX_STATUS}
+     * @param value the value returned by lookups
+     */
+    @Override
+    public void put(String id, Collection<String> keys, int status, T value) {
+        Entry<T> entry = newEntry(keys, status, value);
+        synchronized (writeLock) {
+            entries.put(id, entry);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(new Change<>(id, entry));
+            }
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * Removes an indexed value.
+     *
+     * @param id the value ID
+     */
+    public void remove(String id) {
+        synchronized (writeLock) {
+            if (entries.remove(id) != null) {
+                dirty.set(true);
+            }
+            if (changesDuringReload != null) {
+                changesDuringReload.add(new Change<>(id, null));
+            }
+        }
+    }
+
+    /**
+     * Replaces the whole index content and publishes a new snapshot immediately.
+     * Writes made through {@link #put} and {@link #remove} while the loader runs are applied
+     * on top of the loaded content. Marks the index as ready.
+     *
+     * @param loader callback that populates the new content through the given {@link AutocompleteLoader}
+     */
+    public synchronized void reload(Consumer<AutocompleteLoader<T>> loader) {
+        synchronized (writeLock) {
+            changesDuringReload = new ArrayList<>();
+        }
+
+        Map<String, Entry<T>> loaded = new ConcurrentHashMap<>();
+        try {
+            loader.accept((id, keys, status, value) -> loaded.put(id, newEntry(keys, status, value)));
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changesDuringReload = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            for (Change<T> change : changesDuringReload) {
+                if (change.entry() == null) {
+                    loaded.remove(change.id());
+                } else {
+                    loaded.put(change.id(), change.entry());
+                }
+            }
+            changesDuringReload = null;
+            entries = loaded;
+        }
+        dirty.set(true);
+        rebuildIfDirty();
+        ready = true;
+    }
+
+    /**
+     * Publishes a new snapshot if the index changed since the last rebuild.
+     *
+     * @return true if a new snapshot was published
+     */
+    public synchronized boolean rebuildIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return false;
+        }
+        snapshot = Snapshot.of(entries.values());
+        return true;
+    }
+
+    // ========== LOOKUPS ==========
+
+    /**
+     * Returns values with a key starting with the given prefix, in key order.
+     * Each value is returned at most once even if several of its keys match.
+     *
+     * @param prefix normalized search prefix; empty matches every value
+     * @param statusMask bit set of accepted status codes
+     * @param offset number of matching values to skip
+     * @param limit maximum number of values to return
+     * @return matching values
+     */
+    public List<T> search(String prefix, long statusMask, long offset, int limit) {
+        Snapshot<T> current = snapshot;
+        List<T> results = new ArrayList<>(Math.min(limit, current.keys.length));
+        long skipped = 0;
+
+        for (int i = current.lowerBound(prefix); i < current.keys.length && results.size() < limit; i++) {
+            if (!current.keys[i].startsWith(prefix)) {
+                break;
+            }
+            if ((statusMask & (1L << current.statuses[i])) == 0) {
+                continue;
+            }
+            if (current.hasEarlierMatch(i, prefix)) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            results.add(current.values[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Builds a status mask from status codes.
+     *
+     * @param statuses status codes between 0 and {@link #MAX_STATUS}
+     * @return bit set with one bit per status
+     */
+    public static long statusMask(int... statuses) {
+        long mask = 0L;
+        for (int status : statuses) {
+            mask |= 1L << status;
+        }
+        return mask;
+    }
+
+    /**
+     * @return true once the index has been loaded at least once
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return number of indexed values, including changes not yet published
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    // ========== INTERNAL STRUCTURES ==========
+
+    private static <T> Entry<T> newEntry(Collection<String> keys, int status, T value) {
+        if (status < 0 || status > MAX_STATUS) {
+            throw new IllegalArgumentException("Status code must be between 0 and " + MAX_STATUS);
+        }
+        return new Entry<>(keys.toArray(new String[0]), status, value);
+    }
+
+    private record Entry<T>(String[] keys, int status, T value) {
+    }
+
+    private record Change<T>(String id, Entry<T> entry) {
+    }
+
+    private record KeyedEntry<T>(String key, Entry<T> entry) {
+    }
+
+    /**
+     * Immutable snapshot of parallel arrays sorted by key.
+     * {@code valueKeys[i]} holds all keys of the value at position {@code i}, which lets a lookup
+     * detect a value already seen for an earlier key without tracking state.
+     */
+    private static final class Snapshot<T> {
+
+        private final String[] keys;
+        private final int[] statuses;
+        private final T[] values;
+        private final String[][] valueKeys;
+
+        private Snapshot(String[] keys, int[] statuses, T[] values, String[][] valueKeys) {
+            this.keys = keys;
+            this.statuses = statuses;
+            this.values = values;
+            this.valueKeys = valueKeys;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Snapshot<T> empty() {
+            return new Snapshot<>(new String[0], new int[0], (T[]) new Object[0], new String[0][]);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Snapshot<T> of(Collection<Entry<T>> entries) {
+            List<KeyedEntry<T>> rows = new ArrayList<>();
+            for (Entry<T> entry : entries) {
+                for (String key : entry.keys()) {
+                    rows.add(new KeyedEntry<>(key, entry));
+                }
+            }
+            rows.sort(Comparator.comparing(KeyedEntry::key));
+
+            int size = rows.size();
+            String[] keys = new String[size];
+            int[] statuses = new int[size];
+            T[] values = (T[]) new Object[size];
+            String[][] valueKeys = new String[size][];
+            for (int i = 0; i < size; i++) {
+                Entry<T> entry = rows.get(i).entry();
+                keys[i] = rows.get(i).key();
+                statuses[i] = entry.status();
+                values[i] = entry.value();
+                valueKeys[i] = entry.keys();
+            }
+            return new Snapshot<>(keys, statuses, values, valueKeys);
+        }
+
+        /**
+         * Index of the first key greater than or equal to the prefix.
+         */
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * True if the value at position {@code i} also has a smaller key matching the prefix,
+         * meaning it was already considered earlier in the scan.
+         */
+        boolean hasEarlierMatch(int i, String prefix) {
+            for (String key : valueKeys[i]) {
+                if (key.startsWith(prefix) && key.compareTo(keys[i]) < 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.codzs.framework.util;
+
+import java.util.Collection;
+
+/**
+ * Target of autocomplete index writes, either the live {@link AutocompleteIndex} or the content
+ * of a running {@link AutocompleteIndex#reload reload}.
+ *
+ * @param <T> type of the indexed values
+ * @author Codzs Team
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface AutocompleteLoader<T> {
+
+    /**
+     * Adds or replaces an indexed value.
+     *
+     * @param id the value ID
+     * @param keys normalized search keys for the value
+     * @param status status code between 0 and {@link AutocompleteIndex#MAX_STATUS}
+     * @param value the value returned by lookups
+     */
+    void put(String id, Collection<String> keys, int status, T value);
+}
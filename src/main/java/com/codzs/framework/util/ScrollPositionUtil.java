@@ -0,0 +1,103 @@
+package com.codzs.framework.util;
+
+import com.codzs.exception.type.ValidationException;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility for converting keyset scroll positions to and from opaque continuation tokens.
+ * 
+ * The token is the base64url-encoded extended JSON of the keyset (sort key values and _id),
+ * so dates and ObjectIds round-trip with their original BSON types. Clients must treat the
+ * token as opaque and pass it back unchanged to fetch the next page. Decoded tokens must hold
+ * exactly the keys of the query's sort, so a crafted token cannot add conditions on other fields.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class ScrollPositionUtil {
+
+    private static final String ID_KEY = "_id";
+
+    private static final JsonWriterSettings TOKEN_JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private ScrollPositionUtil() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Decodes a continuation token into a keyset scroll position.
+     * A blank token yields the initial position (first page).
+     *
+     * @param token the continuation token returned by a previous page
+     * @param sort the sort of the query the token is used with; _id is the implicit tiebreaker
+     * @return the keyset scroll position to continue from
+     * @throws ValidationException if the token is malformed or does not match the sort
+     */
+    public static KeysetScrollPosition decode(String token, Sort sort) {
+        if (!StringUtils.hasText(token)) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            keys = new LinkedHashMap<>(Document.parse(json));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid pagination cursor");
+        }
+
+        if (!keys.keySet().equals(keysetKeys(sort))) {
+            throw new ValidationException("Pagination cursor does not match the requested sort");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Returns the keys a keyset position holds for a sort: the sorted fields plus _id.
+     */
+    private static Set<String> keysetKeys(Sort sort) {
+        Set<String> keys = new HashSet<>();
+        for (Sort.Order order : sort) {
+            keys.add("id".equals(order.getProperty()) ? ID_KEY : order.getProperty());
+        }
+        keys.add(ID_KEY);
+        return keys;
+    }
+
+    /**
+     * Encodes the position after the last element of a window as a continuation token.
+     *
+     * @param window the window that was just returned
+     * @return the continuation token, or null if there is no next page
+     */
+    public static String nextToken(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+
+        ScrollPosition position = window.positionAt(window.size() - 1);
+        if (!(position instanceof KeysetScrollPosition keysetPosition)) {
+            throw new IllegalStateException("Only keyset scroll positions can be encoded as a cursor");
+        }
+
+        String json = new Document(keysetPosition.getKeys()).toJson(TOKEN_JSON_SETTINGS);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
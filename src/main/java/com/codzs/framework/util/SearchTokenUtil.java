@@ -0,0 +1,90 @@
+package com.codzs.framework.util;
+
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Utility methods for prefix search over names.
+ * 
+ * Searchable values (e.g. organization name and display name) are stored as normalized
+ * search tokens (lowercase, accent-free, punctuation collapsed to single spaces): every word,
+ * plus each full normalized value. A search term is normalized the same way and matched
+ * as an anchored prefix against those tokens, either by MongoDB from an index on the
+ * tokens or by the in-memory autocomplete index.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class SearchTokenUtil {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenUtil() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Normalizes text for searching: lowercase, accents removed,
+     * and runs of non-alphanumeric characters collapsed to a single space.
+     *
+     * @param text the text to normalize
+     * @return normalized text, or an empty string if the input has no searchable characters
+     */
+    public static String normalize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Builds the search tokens for a set of searchable values.
+     *
+     * @param values the values to tokenize, e.g. name and display name; null values are skipped
+     * @return distinct tokens: each word plus each full normalized value
+     */
+    public static List<String> buildSearchTokens(String... values) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String value : values) {
+            addTokens(tokens, normalize(value));
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * Builds an anchored regular expression matching tokens that start with the normalized search term.
+     * The expression is case-sensitive and has a literal prefix, so it is served by index bounds.
+     *
+     * @param searchText the raw search term
+     * @return the prefix expression, or null if the term has no searchable characters
+     */
+    public static String toPrefixRegex(String searchText) {
+        String normalized = normalize(searchText);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        // Normalized text only contains letters, digits and single spaces, so it needs no escaping
+        return "^" + normalized;
+    }
+
+    private static void addTokens(Set<String> tokens, String normalized) {
+        if (normalized.isEmpty()) {
+            return;
+        }
+        tokens.add(normalized);
+        for (String word : normalized.split(" ")) {
+            tokens.add(word);
+        }
+    }
+}
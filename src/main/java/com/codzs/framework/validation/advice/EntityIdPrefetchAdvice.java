@@ -0,0 +1,55 @@
+package com.codzs.framework.validation.advice;
+
+import com.codzs.framework.validation.validator.EntityIdExistenceBatcher;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Prefetches entity ID existence for validated request bodies.
+ *
+ * Runs after the body is read and before bean validation, so every
+ * {@code @ValidEntityId} constraint on the DTO is resolved with one query per
+ * entity class instead of one query per field.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@ControllerAdvice
+@Slf4j
+public class EntityIdPrefetchAdvice extends RequestBodyAdviceAdapter {
+
+    private final EntityIdExistenceBatcher entityIdExistenceBatcher;
+
+    @Autowired
+    public EntityIdPrefetchAdvice(EntityIdExistenceBatcher entityIdExistenceBatcher) {
+        this.entityIdExistenceBatcher = entityIdExistenceBatcher;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return methodParameter.hasParameterAnnotation(Valid.class)
+                || methodParameter.hasParameterAnnotation(Validated.class);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        try {
+            entityIdExistenceBatcher.prefetch(body);
+        } catch (Exception e) {
+            // Validators fall back to on-demand lookups
+            log.warn("Failed to prefetch entity IDs for {}: {}", targetType.getTypeName(), e.getMessage());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,226 @@
+package com.codzs.framework.validation.validator;
+
+import com.codzs.framework.entity.BaseEntity;
+import com.codzs.framework.validation.annotation.ValidEntityId;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves {@link ValidEntityId} existence checks in batches and memoizes the results
+ * for the rest of the current request.
+ *
+ * {@link #prefetch(Object)} collects every entity ID constrained on a request body
+ * (including nested {@code @Valid} objects) and issues one {@code $in} query per
+ * entity class and deletion status, so the validators that run afterwards are served
+ * from memory. IDs not covered by a prefetch are looked up on demand and memoized the
+ * same way. Outside a web request nothing is memoized and each call queries directly.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class EntityIdExistenceBatcher {
+
+    private static final String MEMO_ATTRIBUTE = EntityIdExistenceBatcher.class.getName() + ".MEMO";
+    private static final int MAX_NESTING_DEPTH = 4;
+
+    private final MongoTemplate mongoTemplate;
+    private final Map<Class<?>, List<ConstrainedField>> constrainedFields = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EntityIdExistenceBatcher(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // ========== PREFETCH ==========
+
+    /**
+     * Loads the existence of every entity ID constrained on the given object into the
+     * request memo, with one query per entity class and deletion status.
+     *
+     * @param bean the object about to be validated, typically a request DTO
+     */
+    public void prefetch(Object bean) {
+        Map<LookupKey, Set<String>> idsByLookup = new LinkedHashMap<>();
+        collectIds(bean, idsByLookup, new IdentityHashMap<>(), 0);
+        idsByLookup.forEach((lookup, ids) -> findExisting(lookup.entityClass(), lookup.checkDeleted(), ids));
+    }
+
+    // ========== LOOKUP ==========
+
+    /**
+     * Returns the subset of IDs that reference an existing entity matching the deletion status.
+     * Only IDs not yet resolved in the current request are queried, in a single {@code $in}.
+     *
+     * @param entityClass the referenced entity class
+     * @param checkDeleted deletion status the entity must match
+     * @param ids IDs to check
+     * @return the IDs that exist
+     */
+    public Set<String> findExisting(Class<?> entityClass, ValidEntityId.CheckDeletedStatus checkDeleted,
+                                    Collection<String> ids) {
+        Map<String, Boolean> memo = memo(new LookupKey(entityClass, checkDeleted));
+
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (!memo.containsKey(id)) {
+                unresolved.add(id);
+            }
+        }
+
+        if (!unresolved.isEmpty()) {
+            Set<String> found = queryExisting(entityClass, checkDeleted, unresolved);
+            for (String id : unresolved) {
+                memo.put(id, found.contains(id));
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (String id : ids) {
+            if (Boolean.TRUE.equals(memo.get(id))) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private Set<String> queryExisting(Class<?> entityClass, ValidEntityId.CheckDeletedStatus checkDeleted,
+                                      Set<String> ids) {
+        log.debug("Checking existence of {} {} ID(s)", ids.size(), entityClass.getSimpleName());
+
+        Query query = new Query(Criteria.where("id").in(ids));
+
+        // Add deletion status criteria if the entity extends BaseEntity
+        if (BaseEntity.class.isAssignableFrom(entityClass)) {
+            switch (checkDeleted) {
+                case NON_DELETED:
+                    query.addCriteria(Criteria.where("deletedDate").is(null));
+                    break;
+                case DELETED_ONLY:
+                    query.addCriteria(Criteria.where("deletedDate").ne(null));
+                    break;
+                case ALL:
+                    // No additional criteria needed
+                    break;
+            }
+        }
+
+        Set<String> found = new HashSet<>();
+        for (Object id : mongoTemplate.findDistinct(query, "id", entityClass, Object.class)) {
+            // ObjectId.toString() is its hex form, matching the IDs sent by clients
+            found.add(String.valueOf(id));
+        }
+        return found;
+    }
+
+    /**
+     * Per-request memo for one lookup, or a throwaway map when there is no current request.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Boolean> memo(LookupKey lookup) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+
+        Map<LookupKey, Map<String, Boolean>> memos =
+                (Map<LookupKey, Map<String, Boolean>>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memos == null) {
+            memos = new ConcurrentHashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memos, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memos.computeIfAbsent(lookup, key -> new ConcurrentHashMap<>());
+    }
+
+    private void collectIds(Object bean, Map<LookupKey, Set<String>> idsByLookup,
+                            Map<Object, Boolean> visited, int depth) {
+        if (bean == null || depth > MAX_NESTING_DEPTH || visited.put(bean, Boolean.TRUE) != null) {
+            return;
+        }
+
+        for (ConstrainedField constrained : constrainedFields.computeIfAbsent(bean.getClass(), this::scanFields)) {
+            Object value;
+            try {
+                value = constrained.field().get(bean);
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            if (value == null) {
+                continue;
+            }
+
+            ValidEntityId annotation = constrained.annotation();
+            if (annotation == null) {
+                collectIds(value, idsByLookup, visited, depth + 1);
+                continue;
+            }
+
+            Set<String> ids = idsByLookup.computeIfAbsent(
+                    new LookupKey(annotation.entityClass(), annotation.checkDeleted()), key -> new LinkedHashSet<>());
+            if (value instanceof String id) {
+                addId(ids, id);
+            } else if (value instanceof Collection<?> values) {
+                for (Object element : values) {
+                    if (element instanceof String id) {
+                        addId(ids, id);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addId(Set<String> ids, String id) {
+        if (!id.trim().isEmpty()) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * Fields carrying {@link ValidEntityId}, plus single-valued {@code @Valid} fields to descend into.
+     */
+    private List<ConstrainedField> scanFields(Class<?> type) {
+        List<ConstrainedField> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                ValidEntityId annotation = field.getAnnotation(ValidEntityId.class);
+                boolean nested = annotation == null
+                        && field.isAnnotationPresent(Valid.class)
+                        && !Collection.class.isAssignableFrom(field.getType())
+                        && !Map.class.isAssignableFrom(field.getType());
+                if ((annotation != null || nested) && field.trySetAccessible()) {
+                    fields.add(new ConstrainedField(field, annotation));
+                }
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+    private record LookupKey(Class<?> entityClass, ValidEntityId.CheckDeletedStatus checkDeleted) {
+    }
+
+    private record ConstrainedField(Field field, ValidEntityId annotation) {
+    }
+}
@@ -3,19 +3,18 @@ package com.codzs.framework.validation.validator;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
-import com.codzs.framework.entity.BaseEntity;
 import com.codzs.framework.validation.annotation.ValidEntityId;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Validator implementation for ValidEntityId annotation for List<String> fields.
  * Validates that a list of string IDs reference existing entities in the database.
+ * Lookups go through {@link EntityIdExistenceBatcher}, so IDs prefetched for the
+ * request are not queried again.
  * 
  * @author Codzs Team
  * @since 1.0
@@ -24,7 +23,7 @@ import java.util.List;
 public class EntityIdListValidator implements ConstraintValidator<ValidEntityId, List<String>> {
 
     @Autowired
-    private MongoTemplate mongoTemplate;
+    private EntityIdExistenceBatcher entityIdExistenceBatcher;
 
     private Class<?> entityClass;
     private boolean allowNull;
@@ -69,35 +68,15 @@ public class EntityIdListValidator implements ConstraintValidator<ValidEntityId,
                 return allowNull;
             }
 
-            // Build the query for all IDs
-            Query query = new Query(Criteria.where("id").in(validIds));
-            
-            // Add deletion status criteria if the entity extends BaseEntity
-            if (BaseEntity.class.isAssignableFrom(entityClass)) {
-                switch (checkDeleted) {
-                    case NON_DELETED:
-                        query.addCriteria(Criteria.where("deletedDate").is(null));
-                        break;
-                    case DELETED_ONLY:
-                        query.addCriteria(Criteria.where("deletedDate").ne(null));
-                        break;
-                    case ALL:
-                        // No additional criteria needed
-                        break;
-                }
-            }
-            
-            // Count how many entities exist
-            long existingCount = mongoTemplate.count(query, entityClass);
+            // Resolve all IDs in one batched lookup
+            Set<String> existingIds = entityIdExistenceBatcher.findExisting(entityClass, checkDeleted, validIds);
+            List<String> missingIds = validIds.stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .distinct()
+                    .toList();
             
             // Check if all IDs exist
-            if (existingCount != validIds.size()) {
-                // Find which IDs don't exist for better error message
-                List<Object> existingIds = mongoTemplate.findDistinct(query, "id", entityClass, Object.class);
-                List<String> missingIds = validIds.stream()
-                        .filter(id -> !existingIds.contains(id))
-                        .toList();
-                
+            if (!missingIds.isEmpty()) {
                 String errorMessage = buildErrorMessage(missingIds);
                 context.disableDefaultConstraintViolation();
                 context.buildConstraintViolationWithTemplate(errorMessage)
@@ -3,17 +3,17 @@ package com.codzs.framework.validation.validator;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
-import com.codzs.framework.entity.BaseEntity;
 import com.codzs.framework.validation.annotation.ValidEntityId;
 
+import java.util.List;
+
 /**
  * Validator implementation for ValidEntityId annotation.
  * Validates that a string ID references an existing entity in the database.
+ * Lookups go through {@link EntityIdExistenceBatcher}, so IDs prefetched for the
+ * request are not queried again.
  * 
  * @author Codzs Team
  * @since 1.0
@@ -22,7 +22,7 @@ import com.codzs.framework.validation.annotation.ValidEntityId;
 public class EntityIdValidator implements ConstraintValidator<ValidEntityId, String> {
 
     @Autowired
-    private MongoTemplate mongoTemplate;
+    private EntityIdExistenceBatcher entityIdExistenceBatcher;
 
     private Class<?> entityClass;
     private boolean allowNull;
@@ -48,26 +48,9 @@ public class EntityIdValidator implements ConstraintValidator<ValidEntityId, Str
         }
 
         try {
-            // Build the query
-            Query query = new Query(Criteria.where("id").is(value));
-            
-            // Add deletion status criteria if the entity extends BaseEntity
-            if (BaseEntity.class.isAssignableFrom(entityClass)) {
-                switch (checkDeleted) {
-                    case NON_DELETED:
-                        query.addCriteria(Criteria.where("deletedDate").is(null));
-                        break;
-                    case DELETED_ONLY:
-                        query.addCriteria(Criteria.where("deletedDate").ne(null));
-                        break;
-                    case ALL:
-                        // No additional criteria needed
-                        break;
-                }
-            }
-            
             // Check if entity exists
-            boolean exists = mongoTemplate.exists(query, entityClass);
+            boolean exists = entityIdExistenceBatcher.findExisting(entityClass, checkDeleted, List.of(value))
+                    .contains(value);
             
             if (!exists) {
                 // Customize error message based on deletion status
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.jose;
+
+import java.security.Key;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.proc.JWSVerifierFactory;
+
+/**
+ * {@link JWSVerifierFactory} that reuses verifiers per key ID instead of building one per token.
+ * A cached verifier is only reused for the same key and algorithm; entries for keys that
+ * are no longer published are dropped through {@link #retainKeyIds(Collection)}.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class CachingJWSVerifierFactory implements JWSVerifierFactory {
+
+	private final DefaultJWSVerifierFactory delegate = new DefaultJWSVerifierFactory();
+
+	private final Map<String, CachedVerifier> verifiers = new ConcurrentHashMap<>();
+
+	@Override
+	public JWSVerifier createJWSVerifier(JWSHeader header, Key key) throws JOSEException {
+		String keyId = header.getKeyID();
+		if (keyId == null) {
+			return this.delegate.createJWSVerifier(header, key);
+		}
+		CachedVerifier cached = this.verifiers.get(keyId);
+		if (cached != null && cached.algorithm().equals(header.getAlgorithm()) && cached.key().equals(key)) {
+			return cached.verifier();
+		}
+		JWSVerifier verifier = this.delegate.createJWSVerifier(header, key);
+		this.verifiers.put(keyId, new CachedVerifier(header.getAlgorithm(), key, verifier));
+		return verifier;
+	}
+
+	/**
+	 * Drops cached verifiers of keys not in the given set.
+	 */
+	public void retainKeyIds(Collection<String> keyIds) {
+		this.verifiers.keySet().retainAll(keyIds);
+	}
+
+	@Override
+	public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+		return this.delegate.supportedJWSAlgorithms();
+	}
+
+	@Override
+	public JCAContext getJCAContext() {
+		return this.delegate.getJCAContext();
+	}
+
+	private record CachedVerifier(JWSAlgorithm algorithm, Key key, JWSVerifier verifier) {
+	}
+
+}
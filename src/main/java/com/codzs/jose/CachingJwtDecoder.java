@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.jose;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} that remembers successfully decoded tokens until they expire.
+ *
+ * Entries are keyed by the SHA-256 of the token, hold the parsed {@link Jwt} and expire at
+ * the token's {@code exp}; tokens without an expiry are not cached. Entries signed by keys
+ * that are no longer published are dropped through {@link #retainKeyIds(Set)}.
+ *
+ * Cache statistics are exported as Caffeine metrics under the {@value #CACHE_NAME} cache
+ * name, and the signature verifications still performed as the {@code jwt.decode.verification} timer.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class CachingJwtDecoder implements JwtDecoder {
+
+	private static final String CACHE_NAME = "jwtDecode";
+
+	private static final String KEY_ID_HEADER = "kid";
+
+	private final JwtDecoder delegate;
+
+	private final Cache<String, Jwt> cache;
+
+	private final Timer verificationTimer;
+
+	public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new UntilTokenExpiry())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+		this.verificationTimer = Timer.builder("jwt.decode.verification")
+				.description("JWT signature verifications not served from the decode cache")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		String key = hash(token);
+		Jwt cached = this.cache.getIfPresent(key);
+		if (cached != null && cached.getTokenValue().equals(token)) {
+			return cached;
+		}
+
+		Timer.Sample sample = Timer.start();
+		Jwt jwt;
+		try {
+			jwt = this.delegate.decode(token);
+		} finally {
+			sample.stop(this.verificationTimer);
+		}
+		if (jwt.getExpiresAt() != null) {
+			this.cache.put(key, jwt);
+		}
+		return jwt;
+	}
+
+	/**
+	 * Drops cached tokens not signed by one of the given keys.
+	 */
+	public void retainKeyIds(Set<String> keyIds) {
+		this.cache.asMap().values().removeIf(jwt -> !keyIds.contains(jwt.getHeaders().get(KEY_ID_HEADER)));
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Expires each entry at its token's {@code exp}.
+	 */
+	private static final class UntilTokenExpiry implements Expiry<String, Jwt> {
+
+		@Override
+		public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, jwt, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
+}
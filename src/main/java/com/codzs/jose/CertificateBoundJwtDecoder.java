@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.jose;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.codzs.constant.OAuth2Constant;
+import com.codzs.token.CertificateThumbprintCache;
+
+/**
+ * {@link JwtDecoder} confirming certificate-bound tokens (RFC 8705) on every use.
+ *
+ * A token carrying a {@code cnf} claim with {@code x5t#S256} is only accepted when the
+ * current request presents a client certificate with that thumbprint. The check runs after
+ * the delegate, including tokens served from a decode cache, and reuses thumbprints from
+ * {@link CertificateThumbprintCache}.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class CertificateBoundJwtDecoder implements JwtDecoder {
+
+	private static final String X509_CERTIFICATE_ATTRIBUTE = "jakarta.servlet.request.X509Certificate";
+
+	private final JwtDecoder delegate;
+
+	private final CertificateThumbprintCache certificateThumbprintCache;
+
+	public CertificateBoundJwtDecoder(JwtDecoder delegate, CertificateThumbprintCache certificateThumbprintCache) {
+		this.delegate = delegate;
+		this.certificateThumbprintCache = certificateThumbprintCache;
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		Jwt jwt = this.delegate.decode(token);
+		Map<String, Object> confirmation = jwt.getClaimAsMap(OAuth2Constant.Claims.CNF);
+		if (confirmation == null || !(confirmation.get(OAuth2Constant.Claims.X5T_S256) instanceof String thumbprint)) {
+			return jwt;
+		}
+		if (!this.certificateThumbprintCache.matches(presentedCertificate(), thumbprint)) {
+			OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+					"Client certificate does not match the certificate the token is bound to", null);
+			throw new JwtValidationException(error.getDescription(), List.of(error));
+		}
+		return jwt;
+	}
+
+	private static X509Certificate presentedCertificate() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return null;
+		}
+		Object certificates = attributes.getAttribute(X509_CERTIFICATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (certificates instanceof X509Certificate[] chain && chain.length > 0) {
+			return chain[0];
+		}
+		return null;
+	}
+
+}
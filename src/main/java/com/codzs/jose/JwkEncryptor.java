@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.jose;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encrypts serialized private JWKs at rest with AES-256-GCM.
+ * The output is Base64 of a random 96-bit IV followed by the ciphertext and tag.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class JwkEncryptor {
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final int KEY_LENGTH_BYTES = 32;
+	private static final int IV_LENGTH_BYTES = 12;
+	private static final int TAG_LENGTH_BITS = 128;
+
+	private final SecretKey key;
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	/**
+	 * @param base64Key Base64 encoded 256-bit AES key
+	 */
+	public JwkEncryptor(String base64Key) {
+		byte[] keyBytes = Base64.getDecoder().decode(base64Key);
+		if (keyBytes.length != KEY_LENGTH_BYTES) {
+			throw new IllegalArgumentException("JWK encryption key must be " + KEY_LENGTH_BYTES + " bytes");
+		}
+		this.key = new SecretKeySpec(keyBytes, "AES");
+	}
+
+	public String encrypt(String plaintext) {
+		byte[] iv = new byte[IV_LENGTH_BYTES];
+		this.secureRandom.nextBytes(iv);
+		try {
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(Cipher.ENCRYPT_MODE, this.key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+			byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(
+					ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array());
+		} catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Failed to encrypt JWK", ex);
+		}
+	}
+
+	public String decrypt(String encrypted) {
+		byte[] data = Base64.getDecoder().decode(encrypted);
+		try {
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(Cipher.DECRYPT_MODE, this.key, new GCMParameterSpec(TAG_LENGTH_BITS, data, 0, IV_LENGTH_BYTES));
+			byte[] plaintext = cipher.doFinal(data, IV_LENGTH_BYTES, data.length - IV_LENGTH_BYTES);
+			return new String(plaintext, StandardCharsets.UTF_8);
+		} catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Failed to decrypt JWK", ex);
+		}
+	}
+
+}
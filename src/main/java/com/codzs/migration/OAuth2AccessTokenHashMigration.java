@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.migration;
+
+import com.codzs.constant.OAuth2Constant;
+import com.codzs.util.oauth2.OAuth2Util;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.stream.Stream;
+
+/**
+ * Backfills accessTokenHash on existing oauth2_authorization documents and creates the
+ * index access tokens are looked up by.
+ *
+ * @author Nitin Khaitan
+ * @since 1.2
+ */
+@ChangeUnit(id = "oauth2-access-token-hash", order = "004", author = "Nitin Khaitan")
+public class OAuth2AccessTokenHashMigration {
+
+    private static final String COLLECTION = OAuth2Constant.Collections.OAUTH2_AUTHORIZATION;
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Computes missing access token hashes and creates access_token_hash_idx.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @Execution
+    public void backfillAccessTokenHashes(MongoTemplate mongoTemplate) {
+        Query query = new Query(Criteria.where("accessTokenValue").ne(null).and("accessTokenHash").exists(false));
+        query.fields().include("accessTokenValue");
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        int pending = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, COLLECTION)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                bulkOps.updateOne(new Query(Criteria.where("_id").is(document.get("_id"))),
+                        new Update().set("accessTokenHash", OAuth2Util.hashToken(document.getString("accessTokenValue"))));
+                if (++pending == BATCH_SIZE) {
+                    bulkOps.execute();
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulkOps.execute();
+        }
+
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                .on("accessTokenHash", Sort.Direction.ASC)
+                .named("access_token_hash_idx"));
+    }
+
+    /**
+     * Drops the access token hash index and field.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @RollbackExecution
+    public void rollback(MongoTemplate mongoTemplate) {
+        mongoTemplate.indexOps(COLLECTION).dropIndex("access_token_hash_idx");
+        mongoTemplate.updateMulti(new Query(Criteria.where("accessTokenHash").exists(true)),
+                new Update().unset("accessTokenHash"), COLLECTION);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.migration;
+
+import com.codzs.constant.OAuth2Constant;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Converts the authorities of existing oauth2_authorization_consent documents from a
+ * comma-delimited string to an array.
+ *
+ * @author Nitin Khaitan
+ * @since 1.2
+ */
+@ChangeUnit(id = "oauth2-consent-authorities-array", order = "005", author = "Nitin Khaitan")
+public class OAuth2ConsentAuthoritiesMigration {
+
+    private static final String COLLECTION = OAuth2Constant.Collections.OAUTH2_AUTHORIZATION_CONSENT;
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Splits string authorities into arrays.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @Execution
+    public void convertAuthoritiesToArray(MongoTemplate mongoTemplate) {
+        rewriteAuthorities(mongoTemplate, JsonSchemaObject.Type.STRING, String.class, authorities ->
+                Arrays.stream(StringUtils.commaDelimitedListToStringArray((String) authorities))
+                        .map(String::trim)
+                        .filter(StringUtils::hasText)
+                        .distinct()
+                        .toList());
+    }
+
+    /**
+     * Joins array authorities back into comma-delimited strings.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @RollbackExecution
+    public void rollback(MongoTemplate mongoTemplate) {
+        rewriteAuthorities(mongoTemplate, JsonSchemaObject.Type.ARRAY, List.class, authorities ->
+                StringUtils.collectionToCommaDelimitedString((List<?>) authorities));
+    }
+
+    private void rewriteAuthorities(MongoTemplate mongoTemplate, JsonSchemaObject.Type fromType,
+                                    Class<?> fromClass, Function<Object, Object> converter) {
+        Query query = new Query(Criteria.where("authorities").type(fromType));
+        query.fields().include("authorities");
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        int pending = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, COLLECTION)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                // $type also matches arrays containing the type, so check the value itself
+                Object authorities = document.get("authorities");
+                if (!fromClass.isInstance(authorities)) {
+                    continue;
+                }
+                bulkOps.updateOne(new Query(Criteria.where("_id").is(document.get("_id"))),
+                        new Update().set("authorities", converter.apply(authorities)));
+                if (++pending == BATCH_SIZE) {
+                    bulkOps.execute();
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulkOps.execute();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.migration;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+/**
+ * Creates the organization_plan indexes used by the conflicting-period existence
+ * check and by the sharded expired-plan processor. The validity range index has
+ * organizationId and isActive as its prefix, so the former org_active_idx is dropped.
+ *
+ * @author Nitin Khaitan
+ * @since 1.2
+ */
+@ChangeUnit(id = "organization-plan-indexes", order = "003", author = "Nitin Khaitan")
+public class OrganizationPlanIndexesMigration {
+
+    private static final String COLLECTION = "organization_plan";
+
+    /**
+     * Creates the validity range and plan shard indexes.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @Execution
+    public void createIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations indexOps = mongoTemplate.indexOps(COLLECTION);
+        indexOps.ensureIndex(new Index()
+                .on("organizationId", Sort.Direction.ASC)
+                .on("isActive", Sort.Direction.ASC)
+                .on("validFrom", Sort.Direction.ASC)
+                .on("validTo", Sort.Direction.ASC)
+                .named("org_active_validity_range_idx"));
+        indexOps.ensureIndex(new Index()
+                .on("planId", Sort.Direction.ASC)
+                .on("isActive", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("plan_active_id_idx"));
+
+        boolean hasRedundantIndex = indexOps.getIndexInfo().stream()
+                .anyMatch(index -> "org_active_idx".equals(index.getName()));
+        if (hasRedundantIndex) {
+            indexOps.dropIndex("org_active_idx");
+        }
+    }
+
+    /**
+     * Restores the previous organization_plan indexes.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @RollbackExecution
+    public void rollback(MongoTemplate mongoTemplate) {
+        IndexOperations indexOps = mongoTemplate.indexOps(COLLECTION);
+        indexOps.ensureIndex(new Index()
+                .on("organizationId", Sort.Direction.ASC)
+                .on("isActive", Sort.Direction.ASC)
+                .named("org_active_idx"));
+        indexOps.dropIndex("org_active_validity_range_idx");
+        indexOps.dropIndex("plan_active_id_idx");
+    }
+}
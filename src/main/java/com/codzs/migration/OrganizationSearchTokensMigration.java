@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.migration;
+
+import com.codzs.constant.organization.OrganizationConstants;
+import com.codzs.entity.organization.Organization;
+import com.codzs.framework.util.SearchTokenUtil;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.stream.Stream;
+
+/**
+ * Backfills the organization searchTokens field and its index.
+ * Organizations created before search tokens existed are tokenized from their
+ * name and display name in unordered bulk batches.
+ *
+ * @author Nitin Khaitan
+ * @since 1.2
+ */
+@ChangeUnit(id = "organization-search-tokens", order = "002", author = "Nitin Khaitan")
+public class OrganizationSearchTokensMigration {
+
+    private static final String COLLECTION = "organization";
+
+    /**
+     * Creates the search token index and backfills tokens on existing organizations.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @Execution
+    public void backfillSearchTokens(MongoTemplate mongoTemplate) {
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                .on("deletedDate", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("searchTokens", Sort.Direction.ASC)
+                .named("org_search_token_idx"));
+
+        Query query = new Query();
+        query.fields().include("name").include("displayName");
+        query.cursorBatchSize(OrganizationConstants.EXPORT_CURSOR_BATCH_SIZE);
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        int pending = 0;
+
+        try (Stream<Document> organizations = mongoTemplate.stream(query, Document.class, COLLECTION)) {
+            for (Document organization : (Iterable<Document>) organizations::iterator) {
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("_id").is(organization.get("_id"))),
+                        Update.update("searchTokens", SearchTokenUtil.buildSearchTokens(
+                                organization.getString("name"), organization.getString("displayName"))));
+
+                if (++pending == OrganizationConstants.BULK_IMPORT_BATCH_SIZE) {
+                    bulkOps.execute();
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+                    pending = 0;
+                }
+            }
+        }
+
+        if (pending > 0) {
+            bulkOps.execute();
+        }
+    }
+
+    /**
+     * Removes the search token index and field.
+     *
+     * @param mongoTemplate MongoDB template for operations
+     */
+    @RollbackExecution
+    public void rollback(MongoTemplate mongoTemplate) {
+        mongoTemplate.indexOps(Organization.class).dropIndex("org_search_token_idx");
+        mongoTemplate.updateMulti(new Query(), new Update().unset("searchTokens"), Organization.class);
+    }
+}
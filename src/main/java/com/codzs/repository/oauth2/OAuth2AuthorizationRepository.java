@@ -17,7 +17,7 @@ import java.util.Optional;
  * @since 1.2
  */
 @Repository
-public interface OAuth2AuthorizationRepository extends MongoRepository<OAuth2Authorization, String> {
+public interface OAuth2AuthorizationRepository extends MongoRepository<OAuth2Authorization, String>, OAuth2AuthorizationRepositoryCustom {
 
     /**
      * Find authorization by state.
@@ -43,6 +43,14 @@ public interface OAuth2AuthorizationRepository extends MongoRepository<OAuth2Aut
      */
     Optional<OAuth2Authorization> findByAccessTokenValue(String accessTokenValue);
 
+    /**
+     * Find authorization by the hash of its access token value.
+     * 
+     * @param accessTokenHash the access token hash, see {@code OAuth2Util.hashToken}
+     * @return Optional containing the authorization if found
+     */
+    Optional<OAuth2Authorization> findByAccessTokenHash(String accessTokenHash);
+
     /**
      * Find authorization by refresh token value.
      * 
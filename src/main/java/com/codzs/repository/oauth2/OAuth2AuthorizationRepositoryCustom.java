@@ -0,0 +1,25 @@
+package com.codzs.repository.oauth2;
+
+import com.codzs.entity.oauth2.OAuth2Authorization;
+
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for OAuth2Authorization writes that need the replaced document.
+ * Implemented by {@link OAuth2AuthorizationRepositoryImpl} and exposed through {@link OAuth2AuthorizationRepository}.
+ * 
+ * @author Nitin Khaitan
+ * @since 1.2
+ */
+public interface OAuth2AuthorizationRepositoryCustom {
+
+    /**
+     * Inserts or replaces an authorization and returns the access token fields of the replaced version,
+     * in one round-trip.
+     * 
+     * @param authorization the authorization to store
+     * @return the replaced version with only accessTokenHash and accessTokenMetadata set,
+     *         or empty if the authorization was inserted
+     */
+    Optional<OAuth2Authorization> saveReturningPreviousAccessToken(OAuth2Authorization authorization);
+}
@@ -0,0 +1,35 @@
+package com.codzs.repository.oauth2;
+
+import com.codzs.entity.oauth2.OAuth2Authorization;
+
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link OAuth2AuthorizationRepositoryCustom}.
+ * 
+ * @author Nitin Khaitan
+ * @since 1.2
+ */
+public class OAuth2AuthorizationRepositoryImpl implements OAuth2AuthorizationRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public OAuth2AuthorizationRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<OAuth2Authorization> saveReturningPreviousAccessToken(OAuth2Authorization authorization) {
+        Query query = new Query(Criteria.where("_id").is(authorization.getId()));
+        query.fields().include("accessTokenHash", "accessTokenMetadata");
+
+        // findAndReplace returns the document as it was before the replacement
+        return Optional.ofNullable(mongoTemplate.findAndReplace(query, authorization,
+                FindAndReplaceOptions.options().upsert()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.codzs.repository.oauth2;
+
+import com.codzs.entity.oauth2.OAuth2SigningKey;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for OAuth2SigningKey MongoDB documents.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Repository
+public interface OAuth2SigningKeyRepository extends MongoRepository<OAuth2SigningKey, String> {
+
+    /**
+     * Find keys still published in the JWK set.
+     *
+     * @param now the current time
+     * @return keys expiring after the given time
+     */
+    List<OAuth2SigningKey> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Delete keys removed from the JWK set.
+     *
+     * @param now the current time
+     * @return number of deleted keys
+     */
+    long deleteByExpiresAtBefore(Instant now);
+}
@@ -1,7 +1,10 @@
 package com.codzs.repository.organization;
 
+import com.codzs.constant.organization.OrganizationConstants;
 import com.codzs.entity.organization.DatabaseSchema;
 import com.codzs.entity.organization.Organization;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,6 +19,7 @@ import org.springframework.data.mongodb.repository.Update;
  * @since 1.0
  */
 @Repository
+@CacheConfig(cacheManager = OrganizationConstants.CACHE_MANAGER)
 public interface DatabaseConfigRepository extends MongoRepository<Organization, String> {
 
     // ========== DATABASE CONFIG OPERATIONS ==========
@@ -24,6 +28,7 @@ public interface DatabaseConfigRepository extends MongoRepository<Organization,
      * Updates the database connection string for an organization.
      * Only updates the connectionString field, preserving other database config fields.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DATABASES }, key = "#p0")
     @Update("{ '$set': { 'database.connectionString': ?1 } }")
     @Query("{ '_id': ?0 }")
     void updateDatabaseConnectionString(String organizationId, String connectionString);
@@ -32,6 +37,7 @@ public interface DatabaseConfigRepository extends MongoRepository<Organization,
      * Updates the database certificate for an organization.
      * Only updates the certificate field, preserving other database config fields.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DATABASES }, key = "#p0")
     @Update("{ '$set': { 'database.certificate': ?1 } }")
     @Query("{ '_id': ?0 }")
     void updateDatabaseCertificate(String organizationId, String certificate);
@@ -42,6 +48,7 @@ public interface DatabaseConfigRepository extends MongoRepository<Organization,
      * Adds a new database schema to an organization's database configuration.
      * Uses MongoDB $push operator to add the schema to the schemas array.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DATABASES }, key = "#p0")
     @Update("{ '$push': { 'database.schemas': ?1 } }")
     @Query("{ '_id': ?0 }")
     void addDatabaseSchema(String organizationId, DatabaseSchema schema);
@@ -50,6 +57,7 @@ public interface DatabaseConfigRepository extends MongoRepository<Organization,
      * Removes a database schema from an organization's database configuration.
      * Uses MongoDB $pull operator to remove the schema by ID from the schemas array.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DATABASES }, key = "#p0")
     @Update("{ '$pull': { 'database.schemas': { 'id': ?1 } } }")
     @Query("{ '_id': ?0 }")
     void removeDatabaseSchema(String organizationId, String schemaId);
@@ -58,6 +66,7 @@ public interface DatabaseConfigRepository extends MongoRepository<Organization,
      * Updates an entire database schema in one operation.
      * Uses MongoDB positional operator ($) to update the specific schema in the array.
      */
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DATABASES }, key = "#p0")
     @Update("{ '$set': { 'database.schemas.$': ?2 } }")
     @Query("{ '_id': ?0, 'database.schemas.id': ?1 }")
     void updateDatabaseSchema(String organizationId, String schemaId, DatabaseSchema schema);
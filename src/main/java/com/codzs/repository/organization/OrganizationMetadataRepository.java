@@ -1,7 +1,10 @@
 package com.codzs.repository.organization;
 
+import com.codzs.constant.organization.OrganizationConstants;
 import com.codzs.entity.organization.Organization;
 import com.codzs.entity.organization.OrganizationMetadata;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Update;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Repository;
  * @since 1.0
  */
 @Repository
+@CacheConfig(cacheNames = OrganizationConstants.CACHE_ORGANIZATION, cacheManager = OrganizationConstants.CACHE_MANAGER)
 public interface OrganizationMetadataRepository extends MongoRepository<Organization, String> {
 
     // ========== METADATA OPERATIONS ==========
@@ -23,6 +27,7 @@ public interface OrganizationMetadataRepository extends MongoRepository<Organiza
      * Updates the entire metadata object for an organization.
      * Uses MongoDB $set operator to update the metadata sub-object.
      */
+    @CacheEvict(key = "#p0")
     @Update("{ '$set': { 'metadata': ?1 } }")
     @Query("{ '_id': ?0 }")
     void updateOrganizationMetadata(String organizationId, OrganizationMetadata metadata);
@@ -31,6 +36,7 @@ public interface OrganizationMetadataRepository extends MongoRepository<Organiza
      * Updates only the industry field in organization metadata.
      * Uses MongoDB $set operator to update the specific field.
      */
+    @CacheEvict(key = "#p0")
     @Update("{ '$set': { 'metadata.industry': ?1 } }")
     @Query("{ '_id': ?0 }")
     void updateIndustry(String organizationId, String industry);
@@ -39,6 +45,7 @@ public interface OrganizationMetadataRepository extends MongoRepository<Organiza
      * Updates only the size field in organization metadata.
      * Uses MongoDB $set operator to update the specific field.
      */
+    @CacheEvict(key = "#p0")
     @Update("{ '$set': { 'metadata.size': ?1 } }")
     @Query("{ '_id': ?0 }")
     void updateSize(String organizationId, String size);
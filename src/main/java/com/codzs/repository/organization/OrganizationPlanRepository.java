@@ -19,7 +19,7 @@ import java.util.Optional;
  * @since 1.0
  */
 @Repository
-public interface OrganizationPlanRepository extends MongoRepository<OrganizationPlan, String> {
+public interface OrganizationPlanRepository extends MongoRepository<OrganizationPlan, String>, OrganizationPlanRepositoryCustom {
 
     // Current active plan queries
     Optional<OrganizationPlan> findByOrganizationIdAndIsActiveTrueAndDeletedDateIsNull(String organizationId);
@@ -46,23 +46,13 @@ public interface OrganizationPlanRepository extends MongoRepository<Organization
 
     // Plan validation and conflict checks
     boolean existsByOrganizationIdAndPlanIdAndIsActiveTrueAndDeletedDateIsNull(String organizationId, String planId);
-    
-    @Query("{ 'organizationId': ?0, 'isActive': true, 'deletedDate': null, " +
-           "'validFrom': { $lte: ?1 }, " +
-           "$or: [ " +
-           "  { 'validTo': null }, " +
-           "  { 'validTo': { $gte: ?2 } } " +
-           "] }")
-    List<OrganizationPlan> findConflictingPlans(String organizationId, Instant newValidFrom, Instant newValidTo);
+
+    // Overlapping periods are checked with existsConflictingPlan (OrganizationPlanRepositoryCustom)
 
     // Deactivate previous plans (for plan transitions)
     @Query("{ 'organizationId': ?0, 'isActive': true, 'deletedDate': null }")
     List<OrganizationPlan> findActivePlansForOrganization(String organizationId);
 
-    // Expired plans cleanup
-    @Query("{ 'isActive': true, 'deletedDate': null, 'validTo': { $lt: ?0 } }")
-    List<OrganizationPlan> findExpiredActivePlans(Instant currentTime);
-
     // Bulk operations for organization deletion
     List<OrganizationPlan> findByOrganizationIdAndDeletedDateIsNull(String organizationId);
 
@@ -0,0 +1,27 @@
+package com.codzs.repository.organization;
+
+import java.time.Instant;
+
+/**
+ * Custom repository fragment for OrganizationPlan queries that are built dynamically
+ * with Criteria instead of a fixed {@code @Query} string.
+ * Implemented by {@link OrganizationPlanRepositoryImpl} and exposed through {@link OrganizationPlanRepository}.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface OrganizationPlanRepositoryCustom {
+
+    /**
+     * Checks whether an active plan association of the organization overlaps the given period.
+     * Runs as a limit-1 existence query on the organization validity index.
+     *
+     * @param organizationId the organization ID
+     * @param validFrom inclusive start of the period, or null for unbounded
+     * @param validTo inclusive end of the period, or null for unbounded
+     * @param excludePlanAssociationId association to ignore, such as the one being updated (optional)
+     * @return true if an overlapping association exists
+     */
+    boolean existsConflictingPlan(String organizationId, Instant validFrom, Instant validTo,
+                                  String excludePlanAssociationId);
+}
@@ -0,0 +1,51 @@
+package com.codzs.repository.organization;
+
+import com.codzs.entity.organization.OrganizationPlan;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+
+/**
+ * MongoTemplate-backed implementation of {@link OrganizationPlanRepositoryCustom}.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public class OrganizationPlanRepositoryImpl implements OrganizationPlanRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public OrganizationPlanRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean existsConflictingPlan(String organizationId, Instant validFrom, Instant validTo,
+                                         String excludePlanAssociationId) {
+        Criteria criteria = Criteria.where("organizationId").is(organizationId)
+                .and("isActive").is(true);
+
+        // Two closed periods overlap when each one starts before the other ends
+        if (validTo != null) {
+            criteria = criteria.and("validFrom").lte(validTo);
+        }
+        if (validFrom != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("validTo").is(null),
+                    Criteria.where("validTo").gte(validFrom));
+        }
+        if (StringUtils.hasText(excludePlanAssociationId)) {
+            criteria = criteria.and("_id").ne(excludePlanAssociationId);
+        }
+        criteria = criteria.and("deletedDate").is(null);
+
+        // exists() fetches at most one _id; served by org_active_validity_range_idx
+        return mongoTemplate.exists(new Query(criteria), OrganizationPlan.class);
+    }
+}
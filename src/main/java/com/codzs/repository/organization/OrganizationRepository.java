@@ -1,7 +1,12 @@
 package com.codzs.repository.organization;
 
+import com.codzs.constant.organization.OrganizationConstants;
 import com.codzs.constant.organization.OrganizationStatusEnum;
 import com.codzs.entity.organization.Organization;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -10,6 +15,7 @@ import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,16 +23,28 @@ import java.util.Optional;
  * Repository interface for Organization MongoDB documents.
  * Provides methods for managing organizations with root-level attribute operations only.
  * Nested sub-objects (setting, metadata, domains, database) are handled by their respective repositories.
+ * Dynamically built queries live in {@link OrganizationRepositoryCustom}.
+ * Lookups by ID are cached in the organization cache; every write evicts the affected entry.
  * 
  * @author Codzs Team
  * @since 1.0
  */
 @Repository
-public interface OrganizationRepository extends MongoRepository<Organization, String> {
+@CacheConfig(cacheNames = OrganizationConstants.CACHE_ORGANIZATION, cacheManager = OrganizationConstants.CACHE_MANAGER)
+public interface OrganizationRepository extends MongoRepository<Organization, String>, OrganizationRepositoryCustom {
 
     // ========== BASIC CRUD OPERATIONS ==========
     
+    @Cacheable(key = "#p0", unless = "#result == null")
     Optional<Organization> findByIdAndDeletedDateIsNull(String id);
+
+    @Override
+    @CacheEvict(key = "#p0.id", condition = "#p0.id != null")
+    <S extends Organization> S save(S organization);
+
+    @Override
+    @CacheEvict(key = "#p0")
+    void deleteById(String id);
     
     Optional<Organization> findByNameAndDeletedDateIsNull(String name);
     
@@ -36,40 +54,62 @@ public interface OrganizationRepository extends MongoRepository<Organization, St
     
     boolean existsByAbbrAndDeletedDateIsNull(String abbr);
 
+    List<Organization> findByIdInAndDeletedDateIsNull(Collection<String> ids);
+
+    // ========== BATCH UNIQUENESS CHECKS ==========
+
+    @Query(value = "{ 'name': { $in: ?0 }, 'deletedDate': null }", fields = "{ 'name': 1 }")
+    List<Organization> findNamesIn(Collection<String> names);
+
+    @Query(value = "{ 'abbr': { $in: ?0 }, 'deletedDate': null }", fields = "{ 'abbr': 1 }")
+    List<Organization> findAbbrsIn(Collection<String> abbrs);
+
     // ========== ROOT-LEVEL ATTRIBUTE UPDATES ==========
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
-    @Update("{ '$set': { 'name': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
-    void updateOrganizationName(String organizationId, String name, Instant lastModifiedDate, String lastModifiedBy);
+    @Update("{ '$set': { 'name': ?1, 'searchTokens': ?2, 'lastModifiedDate': ?3, 'lastModifiedBy': ?4 } }")
+    void updateOrganizationName(String organizationId, String name, List<String> searchTokens, Instant lastModifiedDate, String lastModifiedBy);
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'abbr': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateOrganizationAbbr(String organizationId, String abbr, Instant lastModifiedDate, String lastModifiedBy);
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
-    @Update("{ '$set': { 'displayName': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
-    void updateOrganizationDisplayName(String organizationId, String displayName, Instant lastModifiedDate, String lastModifiedBy);
+    @Update("{ '$set': { 'displayName': ?1, 'searchTokens': ?2, 'lastModifiedDate': ?3, 'lastModifiedBy': ?4 } }")
+    void updateOrganizationDisplayName(String organizationId, String displayName, List<String> searchTokens, Instant lastModifiedDate, String lastModifiedBy);
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'description': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateOrganizationDescription(String organizationId, String description, Instant lastModifiedDate, String lastModifiedBy);
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'status': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateOrganizationStatus(String organizationId, OrganizationStatusEnum status, Instant lastModifiedDate, String lastModifiedBy);
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'organizationType': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateOrganizationType(String organizationId, String organizationType, Instant lastModifiedDate, String lastModifiedBy);
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'billingEmail': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateOrganizationBillingEmail(String organizationId, String billingEmail, Instant lastModifiedDate, String lastModifiedBy);
     
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'expiresDate': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateOrganizationExpiresDate(String organizationId, Instant expiresDate, Instant lastModifiedDate, String lastModifiedBy);
     
+    @Caching(evict = {
+        @CacheEvict(key = "#p0"),
+        @CacheEvict(cacheNames = OrganizationConstants.CACHE_ORGANIZATION_HIERARCHY, allEntries = true)
+    })
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'parentOrganizationId': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateOrganizationParent(String organizationId, String parentOrganizationId, Instant lastModifiedDate, String lastModifiedBy);
@@ -81,45 +121,7 @@ public interface OrganizationRepository extends MongoRepository<Organization, St
     Page<Organization> findByStatusAndDeletedDateIsNull(OrganizationStatusEnum status, Pageable pageable);
 
     // ========== SEARCH AND FILTERING ==========
-    
-    @Query("{ 'deletedDate': null, $and: [ " +
-           "{ $or: [ " +
-           "  { 'status': { $in: ?0 } }, " +
-           "  { $expr: { $eq: [{ $size: { $ifNull: [?0, []] } }, 0] } } " +
-           "] }, " +
-           "{ $or: [ " +
-           "  { 'organizationType': { $in: ?1 } }, " +
-           "  { $expr: { $eq: [{ $size: { $ifNull: [?1, []] } }, 0] } } " +
-           "] }, " +
-           "{ $or: [ " +
-           "  { 'metadata.industry': { $in: ?2 } }, " +
-           "  { $expr: { $eq: [{ $size: { $ifNull: [?2, []] } }, 0] } } " +
-           "] }, " +
-           "{ $or: [ " +
-           "  { 'metadata.size': { $in: ?3 } }, " +
-           "  { $expr: { $eq: [{ $size: { $ifNull: [?3, []] } }, 0] } } " +
-           "] }, " +
-           "{ $or: [ " +
-           "  { 'name': { $regex: ?4, $options: 'i' } }, " +
-           "  { 'displayName': { $regex: ?4, $options: 'i' } }, " +
-           "  { $expr: { $eq: [{ $ifNull: [?4, ''] }, ''] } } " +
-           "] } " +
-           "] }")
-    Page<Organization> findWithFilters(List<OrganizationStatusEnum> statuses, 
-                                      List<String> organizationTypes,
-                                      List<String> industries, 
-                                      List<String> sizes, 
-                                      String searchText, 
-                                      Pageable pageable);
-
-    // ========== AUTOCOMPLETE FUNCTIONALITY ==========
-    
-    @Query("{ 'deletedDate': null, 'status': { $in: ?0 }, " +
-           "$or: [ " +
-           "  { 'name': { $regex: ?1, $options: 'i' } }, " +
-           "  { 'displayName': { $regex: ?1, $options: 'i' } } " +
-           "] }")
-    List<Organization> findForAutocomplete(List<OrganizationStatusEnum> statuses, String searchQuery, Pageable pageable);
+    // findWithFilters and findForAutocomplete are built dynamically in OrganizationRepositoryCustom
 
     // ========== HIERARCHY MANAGEMENT ==========
     
@@ -127,20 +129,7 @@ public interface OrganizationRepository extends MongoRepository<Organization, St
     
     Page<Organization> findByParentOrganizationIdAndDeletedDateIsNull(String parentOrganizationId, Pageable pageable);
     
-    @Query("{ 'deletedDate': null, 'parentOrganizationId': ?0, $and: [ " +
-           "{ $or: [ " +
-           "  { 'status': { $in: ?1 } }, " +
-           "  { $expr: { $eq: [{ $size: { $ifNull: [?1, []] } }, 0] } } " +
-           "] }, " +
-           "{ $or: [ " +
-           "  { 'organizationType': { $in: ?2 } }, " +
-           "  { $expr: { $eq: [{ $size: { $ifNull: [?2, []] } }, 0] } } " +
-           "] } " +
-           "] }")
-    Page<Organization> findChildrenWithFilters(String parentOrganizationId, 
-                                              List<OrganizationStatusEnum> statuses,
-                                              List<String> organizationTypes, 
-                                              Pageable pageable);
+    // findChildrenWithFilters is built dynamically in OrganizationRepositoryCustom
 
     // ========== ACCESS CONTROL HELPERS ==========
     
@@ -0,0 +1,129 @@
+package com.codzs.repository.organization;
+
+import com.codzs.constant.organization.OrganizationStatusEnum;
+import com.codzs.entity.organization.Organization;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for Organization queries that are built dynamically
+ * with Criteria instead of a fixed {@code @Query} string.
+ * Implemented by {@link OrganizationRepositoryImpl} and exposed through {@link OrganizationRepository}.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface OrganizationRepositoryCustom {
+
+    /**
+     * Finds organizations matching the filters with offset pagination.
+     * Empty filters are omitted from the query; the search term is matched as a
+     * prefix of the normalized name/displayName search tokens.
+     *
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param industries filter by industries (optional)
+     * @param sizes filter by sizes (optional)
+     * @param searchText search in name/displayName (optional)
+     * @param pageable pagination parameters
+     * @return page of matching organizations
+     */
+    Page<Organization> findWithFilters(List<OrganizationStatusEnum> statuses,
+                                       List<String> organizationTypes,
+                                       List<String> industries,
+                                       List<String> sizes,
+                                       String searchText,
+                                       Pageable pageable);
+
+    /**
+     * Finds organizations for autocomplete by search-token prefix.
+     *
+     * @param statuses filter by statuses (optional)
+     * @param searchQuery the search query (optional)
+     * @param pageable pagination parameters
+     * @return list of matching organizations
+     */
+    List<Organization> findForAutocomplete(List<OrganizationStatusEnum> statuses, String searchQuery, Pageable pageable);
+
+    /**
+     * Finds child organizations matching the filters with offset pagination.
+     *
+     * @param parentOrganizationId the parent organization ID
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param pageable pagination parameters
+     * @return page of child organizations
+     */
+    Page<Organization> findChildrenWithFilters(String parentOrganizationId,
+                                               List<OrganizationStatusEnum> statuses,
+                                               List<String> organizationTypes,
+                                               Pageable pageable);
+
+    /**
+     * Streams organizations matching the filters in ascending {@code _id} order over a Mongo cursor.
+     * Empty filters are omitted from the query. The returned stream holds an open cursor
+     * and must be closed by the caller.
+     *
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param industries filter by industries (optional)
+     * @param sizes filter by sizes (optional)
+     * @param searchText search in name/displayName (optional)
+     * @param afterId only return organizations with an ID greater than this one (optional)
+     * @return stream of matching organizations
+     */
+    Stream<Organization> streamWithFilters(List<OrganizationStatusEnum> statuses,
+                                           List<String> organizationTypes,
+                                           List<String> industries,
+                                           List<String> sizes,
+                                           String searchText,
+                                           String afterId);
+
+    /**
+     * Returns one keyset page of organizations matching the filters, seeking on
+     * (sort key, _id) instead of skipping. No count query is executed.
+     *
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param industries filter by industries (optional)
+     * @param sizes filter by sizes (optional)
+     * @param searchText search in name/displayName (optional)
+     * @param position position to continue from; {@code ScrollPosition.keyset()} for the first page
+     * @param limit maximum number of organizations to return
+     * @param sort sort order; _id is appended as a tiebreaker
+     * @return window of organizations with the position of each element
+     */
+    Window<Organization> scrollWithFilters(List<OrganizationStatusEnum> statuses,
+                                           List<String> organizationTypes,
+                                           List<String> industries,
+                                           List<String> sizes,
+                                           String searchText,
+                                           KeysetScrollPosition position,
+                                           int limit,
+                                           Sort sort);
+
+    /**
+     * Returns one keyset page of child organizations matching the filters.
+     *
+     * @param parentOrganizationId the parent organization ID
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param position position to continue from; {@code ScrollPosition.keyset()} for the first page
+     * @param limit maximum number of organizations to return
+     * @param sort sort order; _id is appended as a tiebreaker
+     * @return window of child organizations with the position of each element
+     */
+    Window<Organization> scrollChildrenWithFilters(String parentOrganizationId,
+                                                   List<OrganizationStatusEnum> statuses,
+                                                   List<String> organizationTypes,
+                                                   KeysetScrollPosition position,
+                                                   int limit,
+                                                   Sort sort);
+}
@@ -0,0 +1,181 @@
+package com.codzs.repository.organization;
+
+import com.codzs.constant.organization.OrganizationConstants;
+import com.codzs.constant.organization.OrganizationStatusEnum;
+import com.codzs.entity.organization.Organization;
+import com.codzs.framework.util.SearchTokenUtil;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate-backed implementation of {@link OrganizationRepositoryCustom}.
+ * Builds queries from only the filters that are actually supplied, so that
+ * unused filters never reach MongoDB.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public class OrganizationRepositoryImpl implements OrganizationRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public OrganizationRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Page<Organization> findWithFilters(List<OrganizationStatusEnum> statuses,
+                                              List<String> organizationTypes,
+                                              List<String> industries,
+                                              List<String> sizes,
+                                              String searchText,
+                                              Pageable pageable) {
+        List<Criteria> criteria = buildFilterCriteria(statuses, organizationTypes, industries, sizes, searchText);
+        return page(criteria, pageable);
+    }
+
+    @Override
+    public List<Organization> findForAutocomplete(List<OrganizationStatusEnum> statuses,
+                                                  String searchQuery,
+                                                  Pageable pageable) {
+        List<Criteria> criteria = buildFilterCriteria(statuses, null, null, null, searchQuery);
+        Query query = new Query(new Criteria().andOperator(criteria)).with(pageable);
+        return mongoTemplate.find(query, Organization.class);
+    }
+
+    @Override
+    public Page<Organization> findChildrenWithFilters(String parentOrganizationId,
+                                                      List<OrganizationStatusEnum> statuses,
+                                                      List<String> organizationTypes,
+                                                      Pageable pageable) {
+        List<Criteria> criteria = buildFilterCriteria(statuses, organizationTypes, null, null, null);
+        criteria.add(Criteria.where("parentOrganizationId").is(parentOrganizationId));
+        return page(criteria, pageable);
+    }
+
+    @Override
+    public Stream<Organization> streamWithFilters(List<OrganizationStatusEnum> statuses,
+                                                  List<String> organizationTypes,
+                                                  List<String> industries,
+                                                  List<String> sizes,
+                                                  String searchText,
+                                                  String afterId) {
+        List<Criteria> criteria = buildFilterCriteria(statuses, organizationTypes, industries, sizes, searchText);
+        if (StringUtils.hasText(afterId)) {
+            criteria.add(Criteria.where("id").gt(afterId));
+        }
+
+        Query query = new Query(new Criteria().andOperator(criteria))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .cursorBatchSize(OrganizationConstants.EXPORT_CURSOR_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, Organization.class);
+    }
+
+    @Override
+    public Window<Organization> scrollWithFilters(List<OrganizationStatusEnum> statuses,
+                                                  List<String> organizationTypes,
+                                                  List<String> industries,
+                                                  List<String> sizes,
+                                                  String searchText,
+                                                  KeysetScrollPosition position,
+                                                  int limit,
+                                                  Sort sort) {
+        List<Criteria> criteria = buildFilterCriteria(statuses, organizationTypes, industries, sizes, searchText);
+        return scroll(criteria, position, limit, sort);
+    }
+
+    @Override
+    public Window<Organization> scrollChildrenWithFilters(String parentOrganizationId,
+                                                          List<OrganizationStatusEnum> statuses,
+                                                          List<String> organizationTypes,
+                                                          KeysetScrollPosition position,
+                                                          int limit,
+                                                          Sort sort) {
+        List<Criteria> criteria = buildFilterCriteria(statuses, organizationTypes, null, null, null);
+        criteria.add(Criteria.where("parentOrganizationId").is(parentOrganizationId));
+        return scroll(criteria, position, limit, sort);
+    }
+
+    // ========== QUERY BUILDING ==========
+
+    /**
+     * Executes an offset page query. The count query only runs when the total
+     * cannot be derived from the returned page itself.
+     */
+    private Page<Organization> page(List<Criteria> criteria, Pageable pageable) {
+        Query query = new Query(new Criteria().andOperator(criteria)).with(pageable);
+        List<Organization> content = mongoTemplate.find(query, Organization.class);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Organization.class));
+    }
+
+    /**
+     * Executes a keyset scroll query, appending _id to the sort so every key is unique.
+     */
+    private Window<Organization> scroll(List<Criteria> criteria, KeysetScrollPosition position, int limit, Sort sort) {
+        Query query = new Query(new Criteria().andOperator(criteria))
+                .with(withIdTiebreaker(sort))
+                .with(position)
+                .limit(limit);
+
+        return mongoTemplate.scroll(query, Organization.class);
+    }
+
+    private Sort withIdTiebreaker(Sort sort) {
+        if (sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream().findFirst().map(Sort.Order::getDirection).orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Builds the list of criteria for the organization listing filters.
+     * Always excludes soft-deleted organizations; every other filter is added only when supplied.
+     */
+    private List<Criteria> buildFilterCriteria(List<OrganizationStatusEnum> statuses,
+                                               List<String> organizationTypes,
+                                               List<String> industries,
+                                               List<String> sizes,
+                                               String searchText) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("deletedDate").is(null));
+
+        if (!CollectionUtils.isEmpty(statuses)) {
+            criteria.add(Criteria.where("status").in(statuses));
+        }
+        if (!CollectionUtils.isEmpty(organizationTypes)) {
+            criteria.add(Criteria.where("organizationType").in(organizationTypes));
+        }
+        if (!CollectionUtils.isEmpty(industries)) {
+            criteria.add(Criteria.where("metadata.industry").in(industries));
+        }
+        if (!CollectionUtils.isEmpty(sizes)) {
+            criteria.add(Criteria.where("metadata.size").in(sizes));
+        }
+        String searchPrefix = SearchTokenUtil.toPrefixRegex(searchText);
+        if (searchPrefix != null) {
+            criteria.add(Criteria.where("searchTokens").regex(searchPrefix));
+        }
+
+        return criteria;
+    }
+}
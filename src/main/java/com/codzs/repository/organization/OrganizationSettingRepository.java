@@ -1,8 +1,11 @@
 package com.codzs.repository.organization;
 
+import com.codzs.constant.organization.OrganizationConstants;
 import com.codzs.entity.organization.Organization;
 import com.codzs.entity.organization.OrganizationSetting;
 
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Update;
@@ -19,6 +22,7 @@ import java.util.Optional;
  * @since 1.0
  */
 @Repository
+@CacheConfig(cacheNames = OrganizationConstants.CACHE_ORGANIZATION, cacheManager = OrganizationConstants.CACHE_MANAGER)
 public interface OrganizationSettingRepository extends MongoRepository<Organization, String> {
 
     // Setting retrieval
@@ -26,23 +30,28 @@ public interface OrganizationSettingRepository extends MongoRepository<Organizat
     Optional<Organization> findSettingById(String organizationId);
 
     // Bulk setting update using MongoDB update operators
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'setting': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateAllSetting(String organizationId, OrganizationSetting setting, Instant lastModifiedDate, String lastModifiedBy);
 
     // Individual setting field updates
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'setting.timezone': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateTimezone(String organizationId, String timezone, Instant lastModifiedDate, String lastModifiedBy);
 
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'setting.currency': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateCurrency(String organizationId, String currency, Instant lastModifiedDate, String lastModifiedBy);
 
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'setting.language': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateLanguage(String organizationId, String language, Instant lastModifiedDate, String lastModifiedBy);
 
+    @CacheEvict(key = "#p0")
     @Query("{ '_id': ?0, 'deletedDate': null }")
     @Update("{ '$set': { 'setting.country': ?1, 'lastModifiedDate': ?2, 'lastModifiedBy': ?3 } }")
     void updateCountry(String organizationId, String country, Instant lastModifiedDate, String lastModifiedBy);
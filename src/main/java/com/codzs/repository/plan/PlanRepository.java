@@ -18,7 +18,7 @@ import java.util.Optional;
  * @since 1.0
  */
 @Repository
-public interface PlanRepository extends MongoRepository<Plan, String> {
+public interface PlanRepository extends MongoRepository<Plan, String>, PlanRepositoryCustom {
 
     // ========== FIND BY UNIQUE FIELDS ==========
 
@@ -135,17 +135,6 @@ public interface PlanRepository extends MongoRepository<Plan, String> {
 
     // ========== BUSINESS VALIDATION QUERIES ==========
 
-    /**
-     * Checks if plan has active subscriptions.
-     * Note: This is a placeholder query. In a real implementation,
-     * this would join with subscription/organization tables.
-     *
-     * @param planId the plan ID
-     * @return count of active subscriptions (placeholder)
-     */
-    @Query("{ 'id': ?0, 'deletedDate': null }")
-    long countActiveSubscriptionsByPlanId(String planId);
-
     /**
      * Finds plans by multiple IDs (not soft deleted).
      *
@@ -0,0 +1,39 @@
+package com.codzs.repository.plan;
+
+import com.codzs.entity.plan.Plan;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for Plan queries that are built dynamically
+ * with Criteria instead of a fixed {@code @Query} string.
+ * Implemented by {@link PlanRepositoryImpl} and exposed through {@link PlanRepository}.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface PlanRepositoryCustom {
+
+    /**
+     * Returns one keyset page of plans matching the filters, seeking on
+     * (sort key, _id) instead of skipping. No count query is executed.
+     *
+     * @param isActiveList list of active status values (optional)
+     * @param planTypes list of plan types (optional)
+     * @param searchText search text for name or description (optional)
+     * @param position position to continue from; {@code ScrollPosition.keyset()} for the first page
+     * @param limit maximum number of plans to return
+     * @param sort sort order; _id is appended as a tiebreaker
+     * @return window of plans with the position of each element
+     */
+    Window<Plan> scrollWithFilters(List<Boolean> isActiveList,
+                                   List<String> planTypes,
+                                   String searchText,
+                                   KeysetScrollPosition position,
+                                   int limit,
+                                   Sort sort);
+}
@@ -0,0 +1,73 @@
+package com.codzs.repository.plan;
+
+import com.codzs.entity.plan.Plan;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * MongoTemplate-backed implementation of {@link PlanRepositoryCustom}.
+ * Builds queries from only the filters that are actually supplied.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public class PlanRepositoryImpl implements PlanRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public PlanRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Window<Plan> scrollWithFilters(List<Boolean> isActiveList,
+                                          List<String> planTypes,
+                                          String searchText,
+                                          KeysetScrollPosition position,
+                                          int limit,
+                                          Sort sort) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("deletedDate").is(null));
+
+        if (!CollectionUtils.isEmpty(isActiveList)) {
+            criteria.add(Criteria.where("isActive").in(isActiveList));
+        }
+        if (!CollectionUtils.isEmpty(planTypes)) {
+            criteria.add(Criteria.where("type").in(planTypes));
+        }
+        if (StringUtils.hasText(searchText)) {
+            String pattern = Pattern.quote(searchText.trim());
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("name").regex(pattern, "i"),
+                    Criteria.where("description").regex(pattern, "i")));
+        }
+
+        Query query = new Query(new Criteria().andOperator(criteria))
+                .with(withIdTiebreaker(sort))
+                .with(position)
+                .limit(limit);
+
+        return mongoTemplate.scroll(query, Plan.class);
+    }
+
+    private Sort withIdTiebreaker(Sort sort) {
+        if (sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream().findFirst().map(Sort.Order::getDirection).orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, "id"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.codzs.repository.plan;
+
+import com.codzs.entity.plan.PlanStats;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for PlanStats MongoDB operations.
+ * Counter updates are provided by {@link PlanStatsRepositoryCustom}.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Repository
+public interface PlanStatsRepository extends MongoRepository<PlanStats, String>, PlanStatsRepositoryCustom {
+}
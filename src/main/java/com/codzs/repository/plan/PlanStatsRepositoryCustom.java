@@ -0,0 +1,29 @@
+package com.codzs.repository.plan;
+
+import java.util.Map;
+
+/**
+ * Custom repository fragment for plan counter updates that need upserts.
+ * Implemented by {@link PlanStatsRepositoryImpl} and exposed through {@link PlanStatsRepository}.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface PlanStatsRepositoryCustom {
+
+    /**
+     * Atomically adds a delta to the active subscription counter of a plan,
+     * creating the counter document if needed.
+     *
+     * @param planId the plan ID
+     * @param delta value to add (negative to decrement)
+     */
+    void incrementActiveSubscriptions(String planId, long delta);
+
+    /**
+     * Overwrites the active subscription counters of the given plans in one unordered bulk write.
+     *
+     * @param activeSubscriptionsByPlanId counter values keyed by plan ID
+     */
+    void replaceActiveSubscriptions(Map<String, Long> activeSubscriptionsByPlanId);
+}
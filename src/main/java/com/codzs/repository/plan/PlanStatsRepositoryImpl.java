@@ -0,0 +1,54 @@
+package com.codzs.repository.plan;
+
+import com.codzs.entity.plan.PlanStats;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * MongoTemplate-backed implementation of {@link PlanStatsRepositoryCustom}.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public class PlanStatsRepositoryImpl implements PlanStatsRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public PlanStatsRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void incrementActiveSubscriptions(String planId, long delta) {
+        Update update = new Update()
+                .inc("activeSubscriptions", delta)
+                .set("lastModifiedDate", Instant.now());
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(planId)), update, PlanStats.class);
+    }
+
+    @Override
+    public void replaceActiveSubscriptions(Map<String, Long> activeSubscriptionsByPlanId) {
+        if (activeSubscriptionsByPlanId.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PlanStats.class);
+        activeSubscriptionsByPlanId.forEach((planId, count) -> bulkOps.upsert(
+                Query.query(Criteria.where("_id").is(planId)),
+                new Update()
+                        .set("activeSubscriptions", count)
+                        .set("lastModifiedDate", now)
+                        .set("lastReconciledDate", now)));
+        bulkOps.execute();
+    }
+}
@@ -1,10 +1,13 @@
 package com.codzs.repository.security;
 
 import com.codzs.entity.security.User;
+import com.codzs.entity.security.UserCredentials;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,21 @@ public interface UserRepository extends MongoRepository<User, String> {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Find a user by username together with its authority names, joining the
+     * 'authority' collection with $lookup so both are read in one round-trip.
+     * 
+     * @param username the username
+     * @return Optional containing the user credentials if found
+     */
+    @Aggregation(pipeline = {
+        "{ $match: { 'username': ?0 } }",
+        "{ $limit: 1 }",
+        "{ $lookup: { from: 'authority', localField: 'username', foreignField: 'username', as: 'authorities' } }",
+        "{ $project: { '_id': 0, 'username': 1, 'password': 1, 'enabled': 1, 'authorities': '$authorities.authority' } }"
+    })
+    Optional<UserCredentials> findCredentialsByUsername(String username);
+
     /**
      * Find a user by email.
      * 
@@ -34,6 +52,14 @@ public interface UserRepository extends MongoRepository<User, String> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Find all users whose email is in the given set, using a single $in query.
+     * 
+     * @param emails the email addresses
+     * @return list of matching users
+     */
+    List<User> findByEmailIn(Collection<String> emails);
+
     /**
      * Check if a username exists.
      * 
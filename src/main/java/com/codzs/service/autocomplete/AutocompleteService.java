@@ -0,0 +1,46 @@
+package com.codzs.service.autocomplete;
+
+import com.codzs.constant.organization.OrganizationStatusEnum;
+import com.codzs.entity.organization.Organization;
+import com.codzs.entity.plan.Plan;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for in-memory autocomplete over organizations and plans.
+ * Lookups are served from process-local prefix indexes that are loaded at startup
+ * and kept fresh from MongoDB change streams, so typing in an autocomplete box
+ * does not issue a database query per keystroke.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface AutocompleteService {
+
+    /**
+     * Finds organizations whose name or display name has a word starting with the query.
+     *
+     * @param statuses accepted organization statuses
+     * @param searchQuery the search query; blank matches every organization
+     * @param pageable pagination parameters (offset and page size)
+     * @return matching organizations with summary fields only, or empty if the index is not available
+     */
+    Optional<List<Organization>> findOrganizations(List<OrganizationStatusEnum> statuses, String searchQuery, Pageable pageable);
+
+    /**
+     * Finds plans whose name has a word starting with the query.
+     *
+     * @param isActiveList accepted plan activation states
+     * @param searchQuery the search query; blank matches every plan
+     * @param pageable pagination parameters (offset and page size)
+     * @return matching plans with summary fields only, or empty if the index is not available
+     */
+    Optional<List<Plan>> findPlans(List<Boolean> isActiveList, String searchQuery, Pageable pageable);
+
+    /**
+     * Reloads both indexes from MongoDB.
+     */
+    void reloadIndexes();
+}
@@ -0,0 +1,289 @@
+package com.codzs.service.autocomplete;
+
+import com.codzs.constant.organization.OrganizationStatusEnum;
+import com.codzs.entity.organization.Organization;
+import com.codzs.entity.plan.Plan;
+import com.codzs.framework.util.AutocompleteIndex;
+import com.codzs.framework.util.AutocompleteLoader;
+import com.codzs.framework.util.SearchTokenUtil;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of AutocompleteService backed by two {@link AutocompleteIndex} instances.
+ *
+ * Indexes are fully loaded when the application is ready and then maintained from
+ * MongoDB change streams on the organization and plan collections. Change events
+ * update the pending index content; a short scheduled task publishes a new snapshot
+ * when something changed. A periodic full reload heals any missed events, and is the
+ * only refresh path when change streams are unavailable (standalone MongoDB).
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class AutocompleteServiceImpl implements AutocompleteService, DisposableBean {
+
+    private static final String ORGANIZATION_COLLECTION = "organization";
+    private static final String PLAN_COLLECTION = "plan";
+
+    private static final int PLAN_INACTIVE = 0;
+    private static final int PLAN_ACTIVE = 1;
+
+    private final MongoTemplate mongoTemplate;
+    private final AutocompleteIndex<Organization> organizationIndex = new AutocompleteIndex<>();
+    private final AutocompleteIndex<Plan> planIndex = new AutocompleteIndex<>();
+    private MessageListenerContainer changeStreamContainer;
+
+    @Value("${autocomplete.index.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    public AutocompleteServiceImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // ========== LIFECYCLE ==========
+
+    /**
+     * Loads the indexes and subscribes to change streams once the application is ready.
+     * Subscribing first means changes made during the initial load are replayed on top of it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("Autocomplete index is disabled, autocomplete queries will go to MongoDB");
+            return;
+        }
+
+        subscribeToChangeStreams();
+        reloadIndexes();
+    }
+
+    @Override
+    public void destroy() {
+        if (changeStreamContainer != null) {
+            changeStreamContainer.stop();
+        }
+    }
+
+    /**
+     * Publishes pending index changes. Runs frequently and is a no-op when nothing changed.
+     */
+    @Scheduled(fixedDelayString = "${autocomplete.index.rebuild-interval-ms:1000}")
+    public void publishPendingChanges() {
+        if (!enabled) {
+            return;
+        }
+        if (organizationIndex.rebuildIfDirty()) {
+            log.debug("Published organization autocomplete index with {} entries", organizationIndex.size());
+        }
+        if (planIndex.rebuildIfDirty()) {
+            log.debug("Published plan autocomplete index with {} entries", planIndex.size());
+        }
+    }
+
+    /**
+     * Periodically reloads both indexes from MongoDB to recover from missed change events.
+     */
+    @Scheduled(initialDelayString = "${autocomplete.index.full-reload-interval-ms:900000}",
+               fixedDelayString = "${autocomplete.index.full-reload-interval-ms:900000}")
+    public void scheduledReload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reloadIndexes();
+        } catch (Exception e) {
+            log.error("Error during scheduled reload of autocomplete indexes", e);
+        }
+    }
+
+    // ========== LOOKUPS ==========
+
+    @Override
+    public Optional<List<Organization>> findOrganizations(List<OrganizationStatusEnum> statuses,
+                                                          String searchQuery,
+                                                          Pageable pageable) {
+        if (!enabled || !organizationIndex.isReady()) {
+            return Optional.empty();
+        }
+
+        long statusMask = 0L;
+        for (OrganizationStatusEnum status : statuses) {
+            statusMask |= AutocompleteIndex.statusMask(status.ordinal());
+        }
+
+        return Optional.of(organizationIndex.search(
+                SearchTokenUtil.normalize(searchQuery), statusMask, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    @Override
+    public Optional<List<Plan>> findPlans(List<Boolean> isActiveList, String searchQuery, Pageable pageable) {
+        if (!enabled || !planIndex.isReady()) {
+            return Optional.empty();
+        }
+
+        long statusMask = 0L;
+        for (Boolean isActive : isActiveList) {
+            statusMask |= AutocompleteIndex.statusMask(planStatus(isActive));
+        }
+
+        return Optional.of(planIndex.search(
+                SearchTokenUtil.normalize(searchQuery), statusMask, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    @Override
+    public void reloadIndexes() {
+        log.debug("Reloading autocomplete indexes");
+
+        Query organizationQuery = new Query(Criteria.where("deletedDate").is(null));
+        organizationQuery.fields().include("name", "abbr", "displayName", "status",
+                "organizationType", "billingEmail", "parentOrganizationId");
+        organizationIndex.reload(loader -> {
+            try (Stream<Organization> organizations = mongoTemplate.stream(organizationQuery, Organization.class)) {
+                organizations.forEach(organization -> indexOrganization(loader, organization));
+            }
+        });
+
+        Query planQuery = new Query(Criteria.where("deletedDate").is(null));
+        planQuery.fields().include("name", "type", "isActive", "isDeprecated");
+        planIndex.reload(loader -> {
+            try (Stream<Plan> plans = mongoTemplate.stream(planQuery, Plan.class)) {
+                plans.forEach(plan -> indexPlan(loader, plan));
+            }
+        });
+
+        log.info("Loaded autocomplete indexes - organizations: {}, plans: {}",
+                organizationIndex.size(), planIndex.size());
+    }
+
+    // ========== CHANGE STREAMS ==========
+
+    private void subscribeToChangeStreams() {
+        changeStreamContainer = new DefaultMessageListenerContainer(mongoTemplate);
+
+        ChangeStreamRequest<Organization> organizationRequest = ChangeStreamRequest.<Organization>builder(this::onOrganizationChange)
+                .collection(ORGANIZATION_COLLECTION)
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .build();
+        ChangeStreamRequest<Plan> planRequest = ChangeStreamRequest.<Plan>builder(this::onPlanChange)
+                .collection(PLAN_COLLECTION)
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .build();
+
+        changeStreamContainer.register(organizationRequest, Organization.class, this::onChangeStreamError);
+        changeStreamContainer.register(planRequest, Plan.class, this::onChangeStreamError);
+        changeStreamContainer.start();
+    }
+
+    private void onOrganizationChange(Message<ChangeStreamDocument<Document>, Organization> message) {
+        Organization organization = message.getBody();
+        if (isRemoval(message.getRaw()) || organization == null || organization.getDeletedDate() != null) {
+            organizationIndex.remove(documentId(message.getRaw()));
+            return;
+        }
+        if (organization.getStatus() == null) {
+            organizationIndex.remove(organization.getId());
+            return;
+        }
+        indexOrganization(organizationIndex, organization);
+    }
+
+    private void onPlanChange(Message<ChangeStreamDocument<Document>, Plan> message) {
+        Plan plan = message.getBody();
+        if (isRemoval(message.getRaw()) || plan == null || plan.getDeletedDate() != null) {
+            planIndex.remove(documentId(message.getRaw()));
+            return;
+        }
+        indexPlan(planIndex, plan);
+    }
+
+    private void onChangeStreamError(Throwable error) {
+        log.warn("Autocomplete change stream error, indexes will refresh on the next full reload: {}",
+                error.getMessage());
+    }
+
+    private boolean isRemoval(ChangeStreamDocument<Document> event) {
+        return event == null || event.getOperationType() == OperationType.DELETE;
+    }
+
+    private String documentId(ChangeStreamDocument<Document> event) {
+        BsonValue id = event.getDocumentKey().get("_id");
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    // ========== INDEX ENTRIES ==========
+
+    /**
+     * Indexes an organization under its name/display name tokens, keeping only the
+     * fields needed for the autocomplete summary response. Organizations without a status
+     * are skipped, as no status filter can match them.
+     */
+    private void indexOrganization(AutocompleteLoader<Organization> target, Organization source) {
+        if (source.getStatus() == null) {
+            log.debug("Skipping organization {} without status in autocomplete index", source.getId());
+            return;
+        }
+
+        Organization summary = new Organization();
+        summary.setId(source.getId());
+        summary.setName(source.getName());
+        summary.setAbbr(source.getAbbr());
+        summary.setDisplayName(source.getDisplayName());
+        summary.setStatus(source.getStatus());
+        summary.setOrganizationType(source.getOrganizationType());
+        summary.setBillingEmail(source.getBillingEmail());
+        summary.setParentOrganizationId(source.getParentOrganizationId());
+
+        target.put(summary.getId(),
+                SearchTokenUtil.buildSearchTokens(summary.getName(), summary.getDisplayName()),
+                summary.getStatus().ordinal(),
+                summary);
+    }
+
+    /**
+     * Indexes a plan under its name tokens, keeping only summary fields.
+     */
+    private void indexPlan(AutocompleteLoader<Plan> target, Plan source) {
+        Plan summary = new Plan();
+        summary.setId(source.getId());
+        summary.setName(source.getName());
+        summary.setType(source.getType());
+        summary.setIsActive(source.getIsActive());
+        summary.setIsDeprecated(source.getIsDeprecated());
+
+        target.put(summary.getId(),
+                SearchTokenUtil.buildSearchTokens(summary.getName()),
+                planStatus(summary.getIsActive()),
+                summary);
+    }
+
+    private int planStatus(Boolean isActive) {
+        return Boolean.TRUE.equals(isActive) ? PLAN_ACTIVE : PLAN_INACTIVE;
+    }
+}
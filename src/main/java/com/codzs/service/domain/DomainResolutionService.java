@@ -0,0 +1,72 @@
+package com.codzs.service.domain;
+
+import com.codzs.entity.domain.Domain;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for resolving a host or email domain to the organization that owns it.
+ * Used by login, tenant routing and federated identity handling.
+ *
+ * Lookups are served from an in-memory index of verified domains: a hash map for exact
+ * names and a reversed-label trie for wildcard ({@code *.acme.com}) and subdomain matches.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface DomainResolutionService {
+
+    /**
+     * How a resolution was matched.
+     */
+    enum MatchType {
+        /** The host is a verified domain. */
+        EXACT,
+        /** The host is covered by a verified wildcard domain. */
+        WILDCARD,
+        /** The host is a subdomain of a verified domain. */
+        SUBDOMAIN
+    }
+
+    /**
+     * Owning organization of a domain.
+     *
+     * @param domainName the verified domain name that matched
+     * @param organizationId the owning organization ID
+     * @param isPrimary whether the matched domain is the organization's primary domain
+     * @param matchType how the host was matched
+     */
+    record DomainResolution(String domainName, String organizationId, boolean isPrimary, MatchType matchType) {
+    }
+
+    /**
+     * Resolves a host name, URL or email address to its owning organization.
+     * Exact matches take precedence; otherwise the closest wildcard or parent domain wins.
+     *
+     * @param hostOrEmail host name (optionally with scheme, port or path) or email address
+     * @return the resolution, or empty if no verified domain covers the host
+     */
+    Optional<DomainResolution> resolve(String hostOrEmail);
+
+    /**
+     * Replaces the indexed domains of an organization with its current verified domains.
+     * Inside a transaction the change is applied after commit.
+     *
+     * @param organizationId the organization ID
+     * @param domains the organization's current domains
+     */
+    void refreshOrganizationDomains(String organizationId, List<Domain> domains);
+
+    /**
+     * Removes every indexed domain of an organization.
+     *
+     * @param organizationId the organization ID
+     */
+    void removeOrganization(String organizationId);
+
+    /**
+     * Reloads the whole index from MongoDB.
+     */
+    void reloadIndex();
+}
@@ -0,0 +1,377 @@
+package com.codzs.service.domain;
+
+import com.codzs.entity.domain.Domain;
+import com.codzs.entity.organization.Organization;
+import com.codzs.util.domain.DomainLabelTrie;
+import com.codzs.util.domain.DomainUtil;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of DomainResolutionService.
+ *
+ * The index holds verified domains only. It is loaded when the application is ready,
+ * updated in-process right after domain mutations through {@link #refreshOrganizationDomains},
+ * and kept current across nodes from a MongoDB change stream on the organization collection.
+ * A periodic full reload recovers from missed change events; updates that arrive while a
+ * reload streams the collection are buffered and replayed onto the reloaded index before it
+ * replaces the current one, so they are not lost.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class DomainResolutionServiceImpl implements DomainResolutionService, DisposableBean {
+
+    private static final String ORGANIZATION_COLLECTION = "organization";
+
+    private final MongoTemplate mongoTemplate;
+    private final Object updateLock = new Object();
+    private volatile DomainIndex index = new DomainIndex();
+    private List<PendingUpdate> updatesDuringReload;
+    private MessageListenerContainer changeStreamContainer;
+
+    @Value("${domain.resolution.change-stream.enabled:true}")
+    private boolean changeStreamEnabled;
+
+    @Autowired
+    public DomainResolutionServiceImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // ========== LIFECYCLE ==========
+
+    /**
+     * Subscribes to organization changes and loads the index once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (changeStreamEnabled) {
+            subscribeToChangeStream();
+        }
+        reloadIndex();
+    }
+
+    @Override
+    public void destroy() {
+        if (changeStreamContainer != null) {
+            changeStreamContainer.stop();
+        }
+    }
+
+    /**
+     * Periodically reloads the index to recover from missed change events.
+     */
+    @Scheduled(initialDelayString = "${domain.resolution.full-reload-interval-ms:900000}",
+               fixedDelayString = "${domain.resolution.full-reload-interval-ms:900000}")
+    public void scheduledReload() {
+        try {
+            reloadIndex();
+        } catch (Exception e) {
+            log.error("Error during scheduled reload of domain resolution index", e);
+        }
+    }
+
+    // ========== RESOLUTION ==========
+
+    @Override
+    public Optional<DomainResolution> resolve(String hostOrEmail) {
+        String host = normalizeHost(hostOrEmail);
+        if (host == null) {
+            return Optional.empty();
+        }
+
+        DomainIndex current = index;
+        DomainResolution exact = current.exactDomains.get(host);
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+
+        DomainLabelTrie.Match<DomainResolution> match = current.trie.findClosestAncestor(host);
+        if (match == null) {
+            return Optional.empty();
+        }
+        DomainResolution owner = match.owner();
+        return Optional.of(new DomainResolution(owner.domainName(), owner.organizationId(), owner.isPrimary(),
+                match.wildcard() ? MatchType.WILDCARD : MatchType.SUBDOMAIN));
+    }
+
+    // ========== INDEX MAINTENANCE ==========
+
+    @Override
+    public void refreshOrganizationDomains(String organizationId, List<Domain> domains) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyUpdate(organizationId, domains);
+                }
+            });
+            return;
+        }
+        applyUpdate(organizationId, domains);
+    }
+
+    @Override
+    public void removeOrganization(String organizationId) {
+        applyUpdate(organizationId, List.of());
+    }
+
+    @Override
+    public synchronized void reloadIndex() {
+        log.debug("Reloading domain resolution index");
+
+        synchronized (updateLock) {
+            updatesDuringReload = new ArrayList<>();
+        }
+
+        DomainIndex reloaded = new DomainIndex();
+        try {
+            Query query = new Query(Criteria.where("deletedDate").is(null).and("domains.isVerified").is(true));
+            query.fields().include("domains");
+
+            try (Stream<Organization> organizations = mongoTemplate.stream(query, Organization.class)) {
+                organizations.forEach(organization ->
+                        reloaded.replaceOrganization(organization.getId(), organization.getDomains()));
+            }
+        } catch (RuntimeException e) {
+            synchronized (updateLock) {
+                updatesDuringReload = null;
+            }
+            throw e;
+        }
+
+        synchronized (updateLock) {
+            // Replay in arrival order, so each organization ends with its latest update
+            for (PendingUpdate update : updatesDuringReload) {
+                reloaded.replaceOrganization(update.organizationId(), update.domains());
+            }
+            updatesDuringReload = null;
+            index = reloaded;
+        }
+
+        log.info("Loaded domain resolution index with {} verified domains", reloaded.exactDomains.size());
+    }
+
+    /**
+     * Applies an update to the current index and, while a reload runs, buffers it for replay.
+     */
+    private void applyUpdate(String organizationId, List<Domain> domains) {
+        synchronized (updateLock) {
+            index.replaceOrganization(organizationId, domains);
+            if (updatesDuringReload != null) {
+                updatesDuringReload.add(new PendingUpdate(organizationId, domains));
+            }
+        }
+    }
+
+    // ========== CHANGE STREAM ==========
+
+    private void subscribeToChangeStream() {
+        changeStreamContainer = new DefaultMessageListenerContainer(mongoTemplate);
+
+        ChangeStreamRequest<Organization> request = ChangeStreamRequest.<Organization>builder(this::onOrganizationChange)
+                .collection(ORGANIZATION_COLLECTION)
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .build();
+
+        changeStreamContainer.register(request, Organization.class, error ->
+                log.warn("Domain resolution change stream error, index will refresh on the next full reload: {}",
+                        error.getMessage()));
+        changeStreamContainer.start();
+    }
+
+    private void onOrganizationChange(Message<ChangeStreamDocument<Document>, Organization> message) {
+        ChangeStreamDocument<Document> event = message.getRaw();
+        Organization organization = message.getBody();
+        if (event == null) {
+            return;
+        }
+
+        String organizationId = documentId(event);
+        if (event.getOperationType() == OperationType.DELETE
+                || organization == null
+                || organization.getDeletedDate() != null) {
+            removeOrganization(organizationId);
+            return;
+        }
+        applyUpdate(organizationId, organization.getDomains());
+    }
+
+    private String documentId(ChangeStreamDocument<Document> event) {
+        BsonValue id = event.getDocumentKey().get("_id");
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Reduces a URL, host with port, or email address to a lowercase host name.
+     */
+    private String normalizeHost(String hostOrEmail) {
+        if (!StringUtils.hasText(hostOrEmail)) {
+            return null;
+        }
+
+        String host = hostOrEmail.trim();
+        int at = host.lastIndexOf('@');
+        if (at >= 0) {
+            host = host.substring(at + 1);
+        }
+        host = DomainUtil.normalizeDomainName(host);
+        if (host == null) {
+            return null;
+        }
+
+        int slash = host.indexOf('/');
+        if (slash >= 0) {
+            host = host.substring(0, slash);
+        }
+        int colon = host.indexOf(':');
+        if (colon >= 0) {
+            host = host.substring(0, colon);
+        }
+        if (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        return host.isEmpty() ? null : host;
+    }
+
+    private record PendingUpdate(String organizationId, List<Domain> domains) {
+    }
+
+    private record DomainClaim(DomainResolution resolution, Instant verifiedDate) {
+    }
+
+    /**
+     * Exact-name map, label trie and per-organization ownership, updated together.
+     * Reads are lock-free; writes are serialized on the index.
+     *
+     * A domain can be claimed by several organizations; every claim is kept and the most
+     * recently verified one resolves, with ties going to the lowest organization ID. The winner
+     * therefore does not depend on the order in which claims were loaded or updated. An update
+     * only touches the domains the organization added, removed or changed.
+     */
+    private static final class DomainIndex {
+
+        private static final Comparator<DomainClaim> CLAIM_PRECEDENCE = Comparator
+                .comparing(DomainClaim::verifiedDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(claim -> claim.resolution().organizationId(), Comparator.reverseOrder());
+
+        private final Map<String, DomainResolution> exactDomains = new ConcurrentHashMap<>();
+        private final DomainLabelTrie<DomainResolution> trie = new DomainLabelTrie<>();
+        private final Map<String, Set<String>> domainsByOrganization = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, DomainClaim>> claimsByDomain = new HashMap<>();
+
+        synchronized void replaceOrganization(String organizationId, List<Domain> domains) {
+            Map<String, DomainClaim> next = verifiedClaims(organizationId, domains);
+            Set<String> previous = domainsByOrganization.getOrDefault(organizationId, Set.of());
+
+            for (String domainName : previous) {
+                if (!next.containsKey(domainName)) {
+                    removeClaim(domainName, organizationId);
+                }
+            }
+            for (DomainClaim claim : next.values()) {
+                addClaim(claim);
+            }
+
+            if (next.isEmpty()) {
+                domainsByOrganization.remove(organizationId);
+            } else {
+                domainsByOrganization.put(organizationId, Set.copyOf(next.keySet()));
+            }
+        }
+
+        private Map<String, DomainClaim> verifiedClaims(String organizationId, List<Domain> domains) {
+            Map<String, DomainClaim> claims = new HashMap<>();
+            if (domains == null) {
+                return claims;
+            }
+            for (Domain domain : domains) {
+                String domainName = DomainUtil.normalizeDomainName(domain.getName());
+                if (domainName == null || !Boolean.TRUE.equals(domain.getIsVerified())) {
+                    continue;
+                }
+                DomainResolution resolution = new DomainResolution(domainName, organizationId,
+                        Boolean.TRUE.equals(domain.getIsPrimary()), MatchType.EXACT);
+                claims.put(domainName, new DomainClaim(resolution, domain.getVerifiedDate()));
+            }
+            return claims;
+        }
+
+        private void addClaim(DomainClaim claim) {
+            String domainName = claim.resolution().domainName();
+            String organizationId = claim.resolution().organizationId();
+            Map<String, DomainClaim> claims = claimsByDomain.computeIfAbsent(domainName, name -> new HashMap<>());
+            DomainClaim existing = claims.put(organizationId, claim);
+            if (claim.equals(existing)) {
+                return;
+            }
+            if (existing == null && claims.size() > 1) {
+                log.warn("Verified domain {} is claimed by organizations {}, resolving to {}",
+                        domainName, claims.keySet(), winner(claims).organizationId());
+            }
+            publish(domainName, winner(claims));
+        }
+
+        private void removeClaim(String domainName, String organizationId) {
+            Map<String, DomainClaim> claims = claimsByDomain.get(domainName);
+            if (claims == null || claims.remove(organizationId) == null) {
+                return;
+            }
+            if (claims.isEmpty()) {
+                claimsByDomain.remove(domainName);
+                exactDomains.remove(domainName);
+                trie.remove(domainName);
+            } else {
+                publish(domainName, winner(claims));
+            }
+        }
+
+        private void publish(String domainName, DomainResolution resolution) {
+            if (resolution.equals(exactDomains.get(domainName))) {
+                return;
+            }
+            exactDomains.put(domainName, resolution);
+            trie.put(domainName, resolution);
+        }
+
+        private DomainResolution winner(Map<String, DomainClaim> claims) {
+            return claims.values().stream().max(CLAIM_PRECEDENCE).orElseThrow().resolution();
+        }
+    }
+}
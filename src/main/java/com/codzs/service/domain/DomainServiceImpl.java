@@ -1,5 +1,6 @@
 package com.codzs.service.domain;
 
+import com.codzs.constant.domain.DomainConstants;
 import com.codzs.constant.domain.DomainSchemaConstants;
 import com.codzs.constant.domain.DomainVerificationMethodEnum;
 // OrganizationConstants removed - generic service doesn't have entity-specific constants
@@ -7,16 +8,26 @@ import com.codzs.entity.domain.Domain;
 import com.codzs.framework.context.spring.SpringContextHelper;
 
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -36,9 +47,31 @@ public class DomainServiceImpl<T> implements DomainService<T> {
     
     private static final Pattern DOMAIN_PATTERN = Pattern.compile(DomainSchemaConstants.DOMAIN_BUSINESS_VALIDATION_PATTERN);
 
+    private static final String DOMAINS_FIELD = "domains";
+    private static final String DOMAIN_ID_FIELD = "domains._id";
+
+    private final MongoTemplate mongoTemplate;
+    private final Class<T> entityClass;
+    private final Function<T, List<Domain>> domainsAccessor;
+
     @Autowired
     public DomainServiceImpl() {
         // this.domainRepository = domainRepository;
+        this(null, null, null);
+    }
+
+    /**
+     * Creates a domain service for a concrete entity type, enabling the atomic
+     * findAndModify-based domain mutations.
+     *
+     * @param mongoTemplate template used for findAndModify
+     * @param entityClass the entity type embedding the domains array
+     * @param domainsAccessor reads the domains array from a returned entity
+     */
+    protected DomainServiceImpl(MongoTemplate mongoTemplate, Class<T> entityClass, Function<T, List<Domain>> domainsAccessor) {
+        this.mongoTemplate = mongoTemplate;
+        this.entityClass = entityClass;
+        this.domainsAccessor = domainsAccessor;
     }
 
     @Override
@@ -52,15 +85,106 @@ public class DomainServiceImpl<T> implements DomainService<T> {
                normalized.length() <= DomainSchemaConstants.DOMAIN_NAME_MAX_LENGTH;
     }
 
+    // ========== ATOMIC DOMAIN MUTATIONS ==========
+
+    /**
+     * Adds a domain to an entity and returns the resulting domains array.
+     */
+    protected Optional<List<Domain>> addDomainAndGet(String entityId, Domain domain) {
+        return modifyDomainsAndGet(entityId, null, new Update().push(DOMAINS_FIELD, domain));
+    }
+
+    /**
+     * Replaces a domain in an entity and returns the resulting domains array.
+     */
+    protected Optional<List<Domain>> updateDomainAndGet(String entityId, String domainId, Domain domain) {
+        return modifyDomainsAndGet(entityId, domainId, new Update().set("domains.$", domain));
+    }
+
+    /**
+     * Removes a domain from an entity and returns the resulting domains array.
+     */
+    protected Optional<List<Domain>> removeDomainAndGet(String entityId, String domainId) {
+        Update update = new Update().pull(DOMAINS_FIELD,
+                Query.query(Criteria.where("_id").in(domainIdValues(domainId))));
+        return modifyDomainsAndGet(entityId, domainId, update);
+    }
+
+    /**
+     * Marks a domain as verified and returns the resulting domains array.
+     */
+    protected Optional<List<Domain>> markDomainVerifiedAndGet(String entityId, String domainId, Instant verifiedDate) {
+        Update update = new Update()
+                .set("domains.$.isVerified", true)
+                .set("domains.$.verifiedDate", verifiedDate);
+        return modifyDomainsAndGet(entityId, domainId, update);
+    }
+
+    /**
+     * Replaces the verification token of a domain and returns the resulting domains array.
+     */
+    protected Optional<List<Domain>> updateVerificationTokenAndGet(String entityId, String domainId, String newToken) {
+        return modifyDomainsAndGet(entityId, domainId, new Update().set("domains.$.verificationToken", newToken));
+    }
+
+    /**
+     * Makes one domain primary and every other domain non-primary in a single update,
+     * using two disjoint array filters, so there is never a moment without a primary domain.
+     */
+    protected Optional<List<Domain>> switchPrimaryDomainAndGet(String entityId, String domainId) {
+        Object[] domainIds = domainIdValues(domainId);
+        Update update = new Update()
+                .set("domains.$[primary].isPrimary", true)
+                .set("domains.$[other].isPrimary", false)
+                .filterArray(Criteria.where("primary._id").in(domainIds))
+                .filterArray(Criteria.where("other._id").nin(domainIds));
+        return modifyDomainsAndGet(entityId, domainId, update);
+    }
+
+    /**
+     * Applies an update to one entity with findAndModify and returns only the post-image
+     * of its domains array, avoiding a second read.
+     *
+     * @param entityId the entity ID
+     * @param domainId if not null, the entity must contain this domain (also enables the positional operator)
+     * @param update the update to apply
+     * @return the updated domains array, or empty if the entity (or domain) was not found
+     */
+    protected Optional<List<Domain>> modifyDomainsAndGet(String entityId, String domainId, UpdateDefinition update) {
+        Criteria criteria = Criteria.where("_id").is(entityId);
+        if (domainId != null) {
+            criteria = criteria.and(DOMAIN_ID_FIELD).in(domainIdValues(domainId));
+        }
+
+        Query query = new Query(criteria);
+        query.fields().include(DOMAINS_FIELD);
+
+        T entity = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), entityClass);
+        if (entity == null) {
+            return Optional.empty();
+        }
+
+        List<Domain> domains = domainsAccessor.apply(entity);
+        return Optional.of(domains != null ? domains : new ArrayList<>());
+    }
+
+    /**
+     * Domain IDs are generated as ObjectId hex strings and may be stored either as a string
+     * or as an ObjectId, so raw criteria match both representations.
+     */
+    private Object[] domainIdValues(String domainId) {
+        return ObjectId.isValid(domainId) ? new Object[] { domainId, new ObjectId(domainId) } : new Object[] { domainId };
+    }
+
     // ========== PRIVATE HELPER METHODS ==========
 
     protected String generateVerificationInstructions(Domain domain) {
         StringBuilder instructions = new StringBuilder();
         
         switch (domain.getVerificationMethod()) {
-            case "DNS":
+            case DomainConstants.VERIFICATION_METHOD_DNS:
                 instructions.append("Add the following TXT record to your DNS configuration:\n");
-                instructions.append("Name: _codzs-verification\n");
+                instructions.append("Name: ").append(DomainConstants.DNS_VERIFICATION_RECORD_LABEL).append("\n");
                 instructions.append("Value: ").append(domain.getVerificationToken()).append("\n");
                 instructions.append("TTL: 3600 (or your default)\n");
                 break;
@@ -70,9 +194,9 @@ public class DomainServiceImpl<T> implements DomainService<T> {
                 instructions.append("Click the verification link in the email to complete verification.\n");
                 break;
                 
-            case "FILE":
+            case DomainConstants.VERIFICATION_METHOD_FILE:
                 instructions.append("Upload a file named 'codzs-verification.txt' to your domain root:\n");
-                instructions.append("URL: http://").append(domain.getName()).append("/codzs-verification.txt\n");
+                instructions.append("URL: https://").append(domain.getName()).append(DomainConstants.FILE_VERIFICATION_PATH).append("\n");
                 instructions.append("Content: ").append(domain.getVerificationToken()).append("\n");
                 break;
                 
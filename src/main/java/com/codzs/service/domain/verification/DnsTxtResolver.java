@@ -0,0 +1,23 @@
+package com.codzs.service.domain.verification;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Looks up DNS TXT records for domain verification.
+ * The default implementation uses the JDK DNS provider; tests can register a local stub bean instead.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface DnsTxtResolver {
+
+    /**
+     * Resolves the TXT records of a name.
+     *
+     * @param name fully qualified record name
+     * @return the record values without surrounding quotes, or an empty list if the name does not exist
+     * @throws IOException if the lookup failed and should be retried later
+     */
+    List<String> resolveTxt(String name) throws IOException;
+}
@@ -0,0 +1,434 @@
+package com.codzs.service.domain.verification;
+
+import com.codzs.constant.domain.DomainConstants;
+import com.codzs.constant.organization.OrganizationConstants;
+import com.codzs.entity.domain.Domain;
+import com.codzs.entity.organization.Organization;
+import com.codzs.framework.constant.CommonConstants;
+import com.codzs.framework.service.lock.LeaseLockService;
+import com.codzs.service.domain.DomainResolutionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Background verification of DNS and FILE domains across all organizations.
+ *
+ * Each run holds a cluster-wide lease, so only one node probes at a time. It collects
+ * unverified domains that are not backing off, probes them concurrently (with a separate
+ * concurrency limit per resolver), and marks every domain whose published token matches in one
+ * unordered bulk write. Probes block on DNS and HTTP I/O, so they run on virtual threads when the
+ * runtime has them and on a fixed pool sized to the resolver limits otherwise; the semaphores
+ * bound concurrency either way. Lookup results are cached by probe target for a short time, so
+ * domains sharing a name cost one lookup per run. Verified domains leave the queue, so cached
+ * results are effectively negative; the TTL is kept below the initial backoff so that a retry
+ * always sees the current DNS record or file. Failed lookups are not cached, and failed domains
+ * are retried with exponential backoff.
+ *
+ * FILE domains are fetched over HTTPS. Plain HTTP is only tried after an HTTPS failure when
+ * {@code domain.verification.file.allow-http-fallback} is enabled. The {@link HttpContentResolver}
+ * refuses hosts that resolve to internal addresses.
+ *
+ * EMAIL domains are not probed; they are verified through
+ * {@code OrganizationDomainService.verifyDomainInOrganization}.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class DomainVerificationWorker implements DisposableBean {
+
+    private static final List<String> PROBED_METHODS =
+            List.of(DomainConstants.VERIFICATION_METHOD_DNS, DomainConstants.VERIFICATION_METHOD_FILE);
+    private static final String LEASE_NAME = "domain-verification-worker";
+
+    private final MongoTemplate mongoTemplate;
+    private final DnsTxtResolver dnsTxtResolver;
+    private final HttpContentResolver httpContentResolver;
+    private final DomainResolutionService domainResolutionService;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final LeaseLockService leaseLockService;
+
+    private final ExecutorService executor;
+    private final Semaphore dnsPermits;
+    private final Semaphore httpPermits;
+    private final Cache<String, List<String>> probeResults;
+    private final Map<String, Backoff> backoffs = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${domain.verification.worker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${domain.verification.worker.max-per-run:500}")
+    private int maxPerRun;
+
+    @Value("${domain.verification.worker.run-timeout-ms:120000}")
+    private long runTimeoutMs;
+
+    @Value("${domain.verification.worker.lease-ms:180000}")
+    private long leaseMs;
+
+    @Value("${domain.verification.file.allow-http-fallback:false}")
+    private boolean allowHttpFallback;
+
+    @Value("${domain.verification.backoff.initial-ms:60000}")
+    private long initialBackoffMs;
+
+    @Value("${domain.verification.backoff.max-ms:21600000}")
+    private long maxBackoffMs;
+
+    @Autowired
+    public DomainVerificationWorker(MongoTemplate mongoTemplate,
+                                    DnsTxtResolver dnsTxtResolver,
+                                    HttpContentResolver httpContentResolver,
+                                    DomainResolutionService domainResolutionService,
+                                    @Qualifier(OrganizationConstants.CACHE_MANAGER) CacheManager cacheManager,
+                                    MeterRegistry meterRegistry,
+                                    LeaseLockService leaseLockService,
+                                    @Value("${domain.verification.dns.max-concurrency:32}") int dnsConcurrency,
+                                    @Value("${domain.verification.http.max-concurrency:16}") int httpConcurrency,
+                                    @Value("${domain.verification.result-cache-ttl-ms:30000}") long resultCacheTtlMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.dnsTxtResolver = dnsTxtResolver;
+        this.httpContentResolver = httpContentResolver;
+        this.domainResolutionService = domainResolutionService;
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.leaseLockService = leaseLockService;
+        this.executor = newProbeExecutor(dnsConcurrency + httpConcurrency);
+        this.dnsPermits = new Semaphore(dnsConcurrency);
+        this.httpPermits = new Semaphore(httpConcurrency);
+        this.probeResults = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(resultCacheTtlMs))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // ========== SCHEDULED PROCESSING ==========
+
+    /**
+     * Probes pending domains and records the ones that are now verified.
+     * Runs do not overlap on a node, and are skipped while another node holds the lease.
+     */
+    @Scheduled(initialDelayString = "${domain.verification.worker.interval-ms:60000}",
+               fixedDelayString = "${domain.verification.worker.interval-ms:60000}")
+    public void processPendingVerifications() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        if (!leaseLockService.tryAcquire(LEASE_NAME, Duration.ofMillis(leaseMs))) {
+            log.debug("Skipping domain verification run, lease held by another node");
+            running.set(false);
+            return;
+        }
+
+        try {
+            List<PendingDomain> pending = collectPendingDomains(Instant.now());
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            log.debug("Probing {} pending domain verifications", pending.size());
+            List<PendingDomain> verified = probeAll(pending);
+            if (!verified.isEmpty()) {
+                markVerified(verified);
+            }
+            log.info("Domain verification run probed {} domains, verified {}", pending.size(), verified.size());
+        } catch (Exception e) {
+            log.error("Error during domain verification run", e);
+        } finally {
+            leaseLockService.release(LEASE_NAME);
+            running.set(false);
+        }
+    }
+
+    // ========== QUEUE ==========
+
+    /**
+     * Streams organizations with unverified DNS or FILE domains and returns the domains
+     * that are due, up to the per-run limit. Backoff entries for domains that are no
+     * longer pending are dropped.
+     */
+    private List<PendingDomain> collectPendingDomains(Instant now) {
+        Query query = new Query(Criteria.where("deletedDate").is(null)
+                .and("domains").elemMatch(Criteria.where("isVerified").is(false)
+                        .and("verificationMethod").in(PROBED_METHODS)
+                        .and("verificationToken").ne(null)));
+        query.fields().include("domains");
+
+        List<PendingDomain> pending = new ArrayList<>();
+        Set<String> pendingKeys = new HashSet<>();
+        try (Stream<Organization> organizations = mongoTemplate.stream(query, Organization.class)) {
+            organizations.forEach(organization -> {
+                if (organization.getDomains() == null) {
+                    return;
+                }
+                for (Domain domain : organization.getDomains()) {
+                    if (Boolean.TRUE.equals(domain.getIsVerified())
+                            || !PROBED_METHODS.contains(domain.getVerificationMethod())
+                            || !StringUtils.hasText(domain.getVerificationToken())
+                            || !StringUtils.hasText(domain.getName())) {
+                        continue;
+                    }
+
+                    PendingDomain candidate = new PendingDomain(organization.getId(), domain.getId(),
+                            domain.getName(), domain.getVerificationMethod(), domain.getVerificationToken());
+                    pendingKeys.add(candidate.key());
+
+                    Backoff backoff = backoffs.get(candidate.key());
+                    if (pending.size() < maxPerRun && (backoff == null || !backoff.nextAttempt().isAfter(now))) {
+                        pending.add(candidate);
+                    }
+                }
+            });
+        }
+
+        backoffs.keySet().retainAll(pendingKeys);
+        return pending;
+    }
+
+    // ========== PROBING ==========
+
+    /**
+     * Probes every domain in parallel and returns the ones whose token was found.
+     * Probes still running when the run timeout expires are cancelled and retried next run.
+     */
+    private List<PendingDomain> probeAll(List<PendingDomain> pending) throws InterruptedException {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(pending.size());
+        for (PendingDomain domain : pending) {
+            futures.add(CompletableFuture.supplyAsync(() -> probe(domain), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(runTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Domain verification run timed out after {} ms, unfinished probes will be retried", runTimeoutMs);
+        } catch (ExecutionException e) {
+            // Individual probes handle their own failures
+        }
+
+        List<PendingDomain> verified = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            CompletableFuture<Boolean> future = futures.get(i);
+            if (future.isDone() && Boolean.TRUE.equals(future.getNow(false))) {
+                verified.add(pending.get(i));
+            } else if (!future.isDone()) {
+                future.cancel(true);
+            }
+        }
+        return verified;
+    }
+
+    private boolean probe(PendingDomain domain) {
+        try {
+            List<String> values = lookup(domain);
+            boolean matched = values.contains(domain.token());
+            if (matched) {
+                backoffs.remove(domain.key());
+            } else {
+                scheduleRetry(domain);
+            }
+            countProbe(domain.method(), matched ? "verified" : "unverified");
+            return matched;
+        } catch (IOException e) {
+            log.debug("Verification probe failed for domain {}: {}", domain.name(), e.getMessage());
+            scheduleRetry(domain);
+            countProbe(domain.method(), "error");
+            return false;
+        }
+    }
+
+    /**
+     * Returns the published verification values for a domain, from the result cache when possible.
+     * Failed lookups are not cached.
+     */
+    private List<String> lookup(PendingDomain domain) throws IOException {
+        boolean dns = DomainConstants.VERIFICATION_METHOD_DNS.equals(domain.method());
+        String target = dns
+                ? DomainConstants.DNS_VERIFICATION_RECORD_LABEL + "." + domain.name()
+                : domain.name() + DomainConstants.FILE_VERIFICATION_PATH;
+        String cacheKey = domain.method() + '|' + target;
+
+        List<String> cached = probeResults.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Semaphore permits = dns ? dnsPermits : httpPermits;
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a resolver permit", e);
+        }
+
+        try {
+            List<String> values = dns
+                    ? List.copyOf(dnsTxtResolver.resolveTxt(target))
+                    : fetchFile(target).map(List::of).orElse(List.of());
+            probeResults.put(cacheKey, values);
+            return values;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Fetches a verification file over HTTPS, falling back to plain HTTP only when explicitly allowed.
+     */
+    private Optional<String> fetchFile(String location) throws IOException {
+        try {
+            return httpContentResolver.fetch(URI.create(CommonConstants.HTTPS_PROTOCOL + location));
+        } catch (IOException e) {
+            if (!allowHttpFallback) {
+                throw e;
+            }
+            log.debug("HTTPS fetch failed for {}, retrying over HTTP: {}", location, e.getMessage());
+            return httpContentResolver.fetch(URI.create(CommonConstants.HTTP_PROTOCOL + location));
+        }
+    }
+
+    private void scheduleRetry(PendingDomain domain) {
+        backoffs.compute(domain.key(), (key, previous) -> {
+            int failures = previous == null ? 1 : previous.failures() + 1;
+            long delayMs = initialBackoffMs << Math.min(failures - 1, 30);
+            if (delayMs <= 0 || delayMs > maxBackoffMs) {
+                delayMs = maxBackoffMs;
+            }
+            return new Backoff(failures, Instant.now().plusMillis(delayMs));
+        });
+    }
+
+    // ========== WRITE-BACK ==========
+
+    /**
+     * Marks verified domains in one unordered bulk write. A domain is only updated if it is still
+     * unverified and its token has not been regenerated since it was probed. Affected organizations
+     * are then evicted from the organization caches and refreshed in the domain resolution index.
+     */
+    private void markVerified(List<PendingDomain> verified) {
+        Instant verifiedDate = Instant.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Organization.class);
+        Set<String> organizationIds = new LinkedHashSet<>();
+
+        for (PendingDomain domain : verified) {
+            Query query = new Query(Criteria.where("_id").is(domain.organizationId())
+                    .and("domains").elemMatch(Criteria.where("_id").in(domainIdValues(domain.domainId()))
+                            .and("verificationToken").is(domain.token())
+                            .and("isVerified").is(false)));
+            Update update = new Update()
+                    .set("domains.$.isVerified", true)
+                    .set("domains.$.verifiedDate", verifiedDate);
+            bulkOps.updateOne(query, update);
+            organizationIds.add(domain.organizationId());
+        }
+
+        int modified = bulkOps.execute().getModifiedCount();
+        log.debug("Marked {} domains verified across {} organizations", modified, organizationIds.size());
+
+        for (String organizationId : organizationIds) {
+            evictOrganization(organizationId);
+        }
+
+        Query query = new Query(Criteria.where("_id").in(organizationIds));
+        query.fields().include("domains");
+        for (Organization organization : mongoTemplate.find(query, Organization.class)) {
+            domainResolutionService.refreshOrganizationDomains(organization.getId(), organization.getDomains());
+        }
+    }
+
+    private void evictOrganization(String organizationId) {
+        for (String cacheName : List.of(OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS)) {
+            org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(organizationId);
+            }
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Returns a virtual-thread-per-task executor on Java 21+, looked up reflectively so the class
+     * still compiles and runs on Java 17, or else a fixed pool with enough threads for both
+     * resolvers to use all their permits.
+     */
+    private static ExecutorService newProbeExecutor(int platformThreads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(platformThreads, new CustomizableThreadFactory("domain-verification-"));
+        }
+    }
+
+    private Object[] domainIdValues(String domainId) {
+        return ObjectId.isValid(domainId) ? new Object[] { domainId, new ObjectId(domainId) } : new Object[] { domainId };
+    }
+
+    private void countProbe(String method, String result) {
+        meterRegistry.counter("domain.verification.probes", "method", method, "result", result).increment();
+    }
+
+    /**
+     * An unverified domain awaiting a probe.
+     */
+    private record PendingDomain(String organizationId, String domainId, String name, String method, String token) {
+
+        String key() {
+            return organizationId + ':' + domainId;
+        }
+    }
+
+    /**
+     * Retry state of a domain that was probed without success.
+     */
+    private record Backoff(int failures, Instant nextAttempt) {
+    }
+}
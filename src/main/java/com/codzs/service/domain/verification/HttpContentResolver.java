@@ -0,0 +1,24 @@
+package com.codzs.service.domain.verification;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Fetches small text resources over HTTP for domain verification.
+ * The default implementation uses the JDK HTTP client; tests can register a local stub bean instead.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface HttpContentResolver {
+
+    /**
+     * Fetches a resource.
+     *
+     * @param uri the resource to fetch
+     * @return the trimmed body of a successful response, or empty if the resource does not exist
+     * @throws IOException if the request failed and should be retried later
+     */
+    Optional<String> fetch(URI uri) throws IOException;
+}
@@ -0,0 +1,120 @@
+package com.codzs.service.domain.verification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * HTTP resolver backed by the JDK HTTP client.
+ * Follows up to {@value #MAX_REDIRECTS} redirects (never from HTTPS to HTTP) and reads at most
+ * {@value #MAX_BODY_BYTES} bytes of the response.
+ *
+ * Domain names are user input, so every hop is checked before it is requested: hosts that
+ * resolve to a loopback, site-local, link-local, unique-local, wildcard or multicast address are
+ * refused. Redirects are followed by this class rather than the client so that each target is
+ * checked too.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public class JdkHttpContentResolver implements HttpContentResolver {
+
+    private static final int MAX_BODY_BYTES = 1024;
+    private static final int MAX_REDIRECTS = 5;
+    private static final Set<Integer> REDIRECT_STATUSES = Set.of(301, 302, 303, 307, 308);
+
+    private final HttpClient httpClient;
+    private final Duration timeout;
+
+    public JdkHttpContentResolver(Duration timeout) {
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Override
+    public Optional<String> fetch(URI uri) throws IOException {
+        URI current = uri;
+        for (int redirects = 0; ; redirects++) {
+            requirePublicHost(current);
+
+            HttpResponse<InputStream> response = send(current);
+            try (InputStream body = response.body()) {
+                int status = response.statusCode();
+                if (REDIRECT_STATUSES.contains(status)) {
+                    if (redirects >= MAX_REDIRECTS) {
+                        throw new IOException("Too many redirects fetching " + uri);
+                    }
+                    Optional<String> location = response.headers().firstValue("Location");
+                    if (location.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    URI next = current.resolve(location.get());
+                    if ("https".equalsIgnoreCase(current.getScheme()) && !"https".equalsIgnoreCase(next.getScheme())) {
+                        return Optional.empty();
+                    }
+                    current = next;
+                    continue;
+                }
+                if (status != 200) {
+                    return Optional.empty();
+                }
+                return Optional.of(new String(body.readNBytes(MAX_BODY_BYTES), StandardCharsets.UTF_8).trim());
+            }
+        }
+    }
+
+    private HttpResponse<InputStream> send(URI uri) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + uri, e);
+        }
+    }
+
+    /**
+     * Rejects URIs that are not HTTP(S) or whose host resolves to a non-public address.
+     */
+    private void requirePublicHost(URI uri) throws IOException {
+        String scheme = uri.getScheme();
+        if (!"https".equalsIgnoreCase(scheme) && !"http".equalsIgnoreCase(scheme)) {
+            throw new IOException("Refusing to fetch non-HTTP URI " + uri);
+        }
+        if (uri.getHost() == null) {
+            throw new IOException("Refusing to fetch URI without a host " + uri);
+        }
+
+        for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+            if (isNonPublic(address)) {
+                throw new IOException("Refusing to fetch " + uri + ": " + uri.getHost()
+                        + " resolves to non-public address " + address.getHostAddress());
+            }
+        }
+    }
+
+    private boolean isNonPublic(InetAddress address) {
+        return address.isLoopbackAddress()
+                || address.isSiteLocalAddress()
+                || address.isLinkLocalAddress()
+                || address.isAnyLocalAddress()
+                || address.isMulticastAddress()
+                // IPv6 unique local addresses (fc00::/7), the successor of site-local
+                || (address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc);
+    }
+}
@@ -0,0 +1,77 @@
+package com.codzs.service.domain.verification;
+
+import javax.naming.Context;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+
+/**
+ * DNS TXT resolver backed by the JDK JNDI DNS provider, using the system resolvers.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+public class JndiDnsTxtResolver implements DnsTxtResolver {
+
+    private static final String TXT = "TXT";
+
+    private final Hashtable<String, String> environment = new Hashtable<>();
+
+    public JndiDnsTxtResolver(Duration timeout) {
+        environment.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.dns.DnsContextFactory");
+        environment.put("com.sun.jndi.dns.timeout.initial", String.valueOf(timeout.toMillis()));
+        environment.put("com.sun.jndi.dns.timeout.retries", "1");
+    }
+
+    @Override
+    public List<String> resolveTxt(String name) throws IOException {
+        DirContext context = null;
+        try {
+            context = new InitialDirContext(environment);
+            Attributes attributes = context.getAttributes("dns:///" + name, new String[] { TXT });
+            Attribute txt = attributes.get(TXT);
+            List<String> values = new ArrayList<>();
+            if (txt == null) {
+                return values;
+            }
+
+            NamingEnumeration<?> records = txt.getAll();
+            while (records.hasMore()) {
+                values.add(unquote(String.valueOf(records.next())));
+            }
+            return values;
+        } catch (NameNotFoundException e) {
+            return List.of();
+        } catch (NamingException e) {
+            throw new IOException("TXT lookup failed for " + name + ": " + e.getMessage(), e);
+        } finally {
+            if (context != null) {
+                try {
+                    context.close();
+                } catch (NamingException ignored) {
+                    // Nothing to release
+                }
+            }
+        }
+    }
+
+    /**
+     * Joins the quoted character-strings of a TXT record ({@code "abc" "def"} becomes {@code abcdef}).
+     */
+    private String unquote(String value) {
+        String trimmed = value.trim();
+        if (!trimmed.startsWith("\"")) {
+            return trimmed;
+        }
+        return trimmed.replaceAll("\"\\s+\"", "").replace("\"", "");
+    }
+}
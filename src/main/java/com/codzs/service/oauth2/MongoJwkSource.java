@@ -0,0 +1,380 @@
+/*
+ * Copyright 2020-2025 Nitin Khaitan.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codzs.service.oauth2;
+
+import com.codzs.entity.oauth2.OAuth2SigningKey;
+import com.codzs.framework.service.lock.LeaseLockService;
+import com.codzs.jose.CachingJWSVerifierFactory;
+import com.codzs.jose.JwkEncryptor;
+import com.codzs.jose.Jwks;
+import com.codzs.repository.oauth2.OAuth2SigningKeyRepository;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * JWK source backed by the oauth2_signing_key collection, shared by all nodes.
+ *
+ * Keys rotate on a fixed period. A new key is created and published {@code publishAhead}
+ * before it starts signing, so relying parties pick it up ahead of use, and a retired key
+ * stays published for {@code retention} so tokens it signed remain verifiable. Rotation
+ * runs on one node at a time under a lease; every node reloads the collection periodically
+ * and switches signing keys on the activation time recorded in MongoDB.
+ *
+ * Parsed keys are kept per key ID, so token signers cached by the JWT encoder for a JWK
+ * instance stay valid across reloads, and verifiers are reused per key ID through
+ * {@link CachingJWSVerifierFactory}. The public JWK set is serialized once per change.
+ *
+ * One key chain rotates per configured algorithm (RS256, ES256). Selection: a matcher naming
+ * key IDs (token verification) is served from every published key; any other matcher (token
+ * signing) sees only the current signing key of each algorithm, and the JWS header's
+ * algorithm picks between them.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Slf4j
+public class MongoJwkSource implements JWKSource<SecurityContext> {
+
+    private static final String ROTATION_LEASE = "oauth2-jwk-rotation";
+    private static final Duration ROTATION_LEASE_DURATION = Duration.ofMinutes(1);
+    private static final long MIN_ON_DEMAND_RELOAD_INTERVAL_MS = 1000;
+    private static final Set<JWSAlgorithm> SUPPORTED_ALGORITHMS = Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
+    private final OAuth2SigningKeyRepository signingKeyRepository;
+    private final JwkEncryptor jwkEncryptor;
+    private final LeaseLockService leaseLockService;
+    private final Set<JWSAlgorithm> algorithms;
+    private final Duration rotationPeriod;
+    private final Duration publishAhead;
+    private final Duration retention;
+
+    private final CachingJWSVerifierFactory verifierFactory = new CachingJWSVerifierFactory();
+    private final Map<String, JWK> parsedKeys = new ConcurrentHashMap<>();
+    private final List<Consumer<Set<String>>> keySetListeners = new CopyOnWriteArrayList<>();
+    private volatile KeySnapshot snapshot = KeySnapshot.EMPTY;
+    private volatile long lastReloadMillis;
+
+    public MongoJwkSource(OAuth2SigningKeyRepository signingKeyRepository, JwkEncryptor jwkEncryptor,
+                          LeaseLockService leaseLockService, List<String> algorithms, Duration rotationPeriod,
+                          Duration publishAhead, Duration retention) {
+        Assert.notNull(signingKeyRepository, "signingKeyRepository cannot be null");
+        Assert.notNull(jwkEncryptor, "jwkEncryptor cannot be null");
+        Assert.notNull(leaseLockService, "leaseLockService cannot be null");
+        Assert.notEmpty(algorithms, "algorithms cannot be empty");
+        Assert.isTrue(publishAhead.compareTo(rotationPeriod) < 0, "publishAhead must be shorter than rotationPeriod");
+        this.signingKeyRepository = signingKeyRepository;
+        this.jwkEncryptor = jwkEncryptor;
+        this.leaseLockService = leaseLockService;
+        this.algorithms = parseAlgorithms(algorithms);
+        Assert.isTrue(this.algorithms.contains(JWSAlgorithm.RS256), "RS256 is required as the default signing algorithm");
+        this.rotationPeriod = rotationPeriod;
+        this.publishAhead = publishAhead;
+        this.retention = retention;
+    }
+
+    // ========== JWK SOURCE ==========
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        KeySnapshot current = currentSnapshot();
+        Set<String> keyIds = jwkSelector.getMatcher().getKeyIDs();
+        if (keyIds != null && !keyIds.isEmpty()) {
+            return jwkSelector.select(current.publishedKeys());
+        }
+        return jwkSelector.select(current.signingKeys());
+    }
+
+    /**
+     * Public JWK set as served by the JWK set endpoint.
+     */
+    public PublishedJwkSet getPublishedJwkSet() {
+        return currentSnapshot().published();
+    }
+
+    /**
+     * Whether a key of the given JWS algorithm is currently signing.
+     *
+     * @param algorithm JWS algorithm name, e.g. ES256
+     */
+    public boolean canSign(String algorithm) {
+        return currentSnapshot().signingKeyIds().containsKey(algorithm);
+    }
+
+    /**
+     * Configured signing algorithms, in order of preference.
+     */
+    public Set<JWSAlgorithm> getAlgorithms() {
+        return algorithms;
+    }
+
+    /**
+     * Registers a callback receiving the published key IDs whenever keys are added or removed.
+     */
+    public void addKeySetListener(Consumer<Set<String>> listener) {
+        keySetListeners.add(listener);
+    }
+
+    /**
+     * Verifier factory reusing verifiers of published keys.
+     */
+    public CachingJWSVerifierFactory getVerifierFactory() {
+        return verifierFactory;
+    }
+
+    // ========== LIFECYCLE ==========
+
+    /**
+     * Makes sure a signing key exists and loads the keys once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rotate();
+        reload();
+    }
+
+    /**
+     * Creates the next key when the current one is about to retire and removes expired keys.
+     */
+    @Scheduled(initialDelayString = "${oauth2.jwk.rotation-check-interval-ms:3600000}",
+               fixedDelayString = "${oauth2.jwk.rotation-check-interval-ms:3600000}")
+    public void scheduledRotate() {
+        try {
+            rotate();
+            reload();
+        } catch (Exception e) {
+            log.error("Error during scheduled JWK rotation", e);
+        }
+    }
+
+    /**
+     * Reloads published keys so every node switches signing keys on schedule.
+     */
+    @Scheduled(initialDelayString = "${oauth2.jwk.reload-interval-ms:60000}",
+               fixedDelayString = "${oauth2.jwk.reload-interval-ms:60000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("Error during scheduled JWK reload", e);
+        }
+    }
+
+    // ========== ROTATION ==========
+
+    /**
+     * For each algorithm, creates a key activating now if none is usable, or the next key once
+     * the current one is within {@code publishAhead} of retiring. Does nothing if another node
+     * holds the rotation lease.
+     */
+    public void rotate() {
+        if (!leaseLockService.tryAcquire(ROTATION_LEASE, ROTATION_LEASE_DURATION)) {
+            log.debug("JWK rotation lease held by another node");
+            return;
+        }
+
+        try {
+            Instant now = Instant.now();
+            List<OAuth2SigningKey> keys = signingKeyRepository.findByExpiresAtAfter(now);
+            for (JWSAlgorithm algorithm : algorithms) {
+                OAuth2SigningKey latest = keys.stream()
+                        .filter(key -> algorithm.getName().equals(key.getAlgorithm()))
+                        .max(Comparator.comparing(OAuth2SigningKey::getActivatesAt))
+                        .orElse(null);
+
+                if (latest == null || !latest.getRetiresAt().isAfter(now)) {
+                    createKey(algorithm, now);
+                } else if (!latest.getRetiresAt().minus(publishAhead).isAfter(now)) {
+                    createKey(algorithm, latest.getRetiresAt());
+                }
+            }
+
+            long removed = signingKeyRepository.deleteByExpiresAtBefore(now);
+            if (removed > 0) {
+                log.info("Removed {} expired signing key(s)", removed);
+            }
+        } finally {
+            leaseLockService.release(ROTATION_LEASE);
+        }
+    }
+
+    private void createKey(JWSAlgorithm algorithm, Instant activatesAt) {
+        JWK jwk = generateKey(algorithm);
+        Instant retiresAt = activatesAt.plus(rotationPeriod);
+
+        OAuth2SigningKey signingKey = new OAuth2SigningKey();
+        signingKey.setId(jwk.getKeyID());
+        signingKey.setAlgorithm(algorithm.getName());
+        signingKey.setPublicJwk(jwk.toPublicJWK().toJSONString());
+        signingKey.setEncryptedPrivateJwk(jwkEncryptor.encrypt(jwk.toJSONString()));
+        signingKey.setCreatedDate(Instant.now());
+        signingKey.setActivatesAt(activatesAt);
+        signingKey.setRetiresAt(retiresAt);
+        signingKey.setExpiresAt(retiresAt.plus(retention));
+        signingKeyRepository.save(signingKey);
+
+        log.info("Created {} signing key {} activating at {}", algorithm, signingKey.getId(), activatesAt);
+    }
+
+    private JWK generateKey(JWSAlgorithm algorithm) {
+        if (JWSAlgorithm.ES256.equals(algorithm)) {
+            return new ECKey.Builder(Jwks.generateEc()).algorithm(algorithm).keyUse(KeyUse.SIGNATURE).build();
+        }
+        return new RSAKey.Builder(Jwks.generateRsa()).algorithm(algorithm).keyUse(KeyUse.SIGNATURE).build();
+    }
+
+    private Set<JWSAlgorithm> parseAlgorithms(List<String> names) {
+        Set<JWSAlgorithm> parsed = new LinkedHashSet<>();
+        for (String name : names) {
+            JWSAlgorithm algorithm = JWSAlgorithm.parse(name.trim());
+            Assert.isTrue(SUPPORTED_ALGORITHMS.contains(algorithm),
+                    "Unsupported JWK signing algorithm " + name + ", expected one of " + SUPPORTED_ALGORITHMS);
+            parsed.add(algorithm);
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+
+    // ========== LOADING ==========
+
+    /**
+     * Reloads published keys from MongoDB and recomputes the current signing key of each algorithm.
+     */
+    public synchronized void reload() {
+        lastReloadMillis = System.currentTimeMillis();
+        Instant now = Instant.now();
+        List<OAuth2SigningKey> keys = signingKeyRepository.findByExpiresAtAfter(now);
+        keys.sort(Comparator.comparing(OAuth2SigningKey::getActivatesAt).reversed());
+
+        List<JWK> published = new ArrayList<>();
+        Map<String, JWK> signing = new LinkedHashMap<>();
+        for (OAuth2SigningKey key : keys) {
+            JWK jwk = parsedKeys.computeIfAbsent(key.getId(), id -> parse(key));
+            if (jwk == null) {
+                continue;
+            }
+            published.add(jwk);
+            // Newest key already active per algorithm; keys are sorted by activation time, newest first
+            if (!key.getActivatesAt().isAfter(now) && key.getRetiresAt().isAfter(now)) {
+                signing.putIfAbsent(key.getAlgorithm(), jwk);
+            }
+        }
+
+        Set<String> publishedIds = published.stream().map(JWK::getKeyID).collect(Collectors.toSet());
+        parsedKeys.keySet().retainAll(publishedIds);
+        verifierFactory.retainKeyIds(publishedIds);
+
+        KeySnapshot next = KeySnapshot.of(published, signing);
+        KeySnapshot previous = snapshot;
+        if (next.publishedKeyIds().equals(previous.publishedKeyIds())
+                && next.signingKeyIds().equals(previous.signingKeyIds())) {
+            return;
+        }
+
+        snapshot = next;
+        if (!next.publishedKeyIds().equals(previous.publishedKeyIds())) {
+            keySetListeners.forEach(listener -> listener.accept(next.publishedKeyIds()));
+        }
+        if (signing.isEmpty()) {
+            log.warn("No active signing key among {} published key(s)", published.size());
+        } else if (!next.signingKeyIds().equals(previous.signingKeyIds())) {
+            log.info("Signing with keys {}, {} key(s) published", next.signingKeyIds(), published.size());
+        }
+    }
+
+    private JWK parse(OAuth2SigningKey key) {
+        try {
+            return JWK.parse(jwkEncryptor.decrypt(key.getEncryptedPrivateJwk()));
+        } catch (ParseException | RuntimeException e) {
+            log.error("Skipping unreadable signing key {}: {}", key.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private KeySnapshot currentSnapshot() {
+        KeySnapshot current = snapshot;
+        if (current.signingKeyIds().isEmpty()
+                && System.currentTimeMillis() - lastReloadMillis >= MIN_ON_DEMAND_RELOAD_INTERVAL_MS) {
+            // First use before startup completed, or keys were created by another node since the last reload
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // ========== SNAPSHOT ==========
+
+    /**
+     * Pre-serialized public JWK set and its strong ETag.
+     */
+    public record PublishedJwkSet(byte[] body, String eTag) {
+
+        static PublishedJwkSet of(JWKSet jwkSet) {
+            byte[] body = jwkSet.toString(true).getBytes(StandardCharsets.UTF_8);
+            return new PublishedJwkSet(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+    }
+
+    /**
+     * Immutable view of the keys: every published key, the signing key of each algorithm,
+     * and the serialized public set.
+     */
+    private record KeySnapshot(JWKSet publishedKeys, JWKSet signingKeys, Set<String> publishedKeyIds,
+                               Map<String, String> signingKeyIds, PublishedJwkSet published) {
+
+        static final KeySnapshot EMPTY = of(List.of(), Map.of());
+
+        static KeySnapshot of(List<JWK> published, Map<String, JWK> signing) {
+            JWKSet publishedKeys = new JWKSet(published);
+            Map<String, String> signingKeyIds = new LinkedHashMap<>();
+            signing.forEach((algorithm, jwk) -> signingKeyIds.put(algorithm, jwk.getKeyID()));
+            return new KeySnapshot(
+                    publishedKeys,
+                    new JWKSet(List.copyOf(signing.values())),
+                    published.stream().map(JWK::getKeyID).collect(Collectors.toUnmodifiableSet()),
+                    Map.copyOf(signingKeyIds),
+                    PublishedJwkSet.of(publishedKeys));
+        }
+    }
+}
@@ -16,35 +16,70 @@
 package com.codzs.service.oauth2;
 
 import com.codzs.entity.oauth2.OAuth2AuthorizationConsent;
+import com.codzs.framework.cache.CacheInvalidationBus;
+import com.codzs.framework.cache.InvalidationTarget;
 import com.codzs.repository.oauth2.OAuth2AuthorizationConsentRepository;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsentService;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.util.Assert;
-import org.springframework.util.StringUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * MongoDB implementation of OAuth2AuthorizationConsentService.
  * Follows the same pattern as Spring's JdbcOAuth2AuthorizationConsentService but uses MongoDB as the data store.
  * 
+ * Consents, including the absence of one, are kept in a per-node near-cache keyed by
+ * registered client ID and principal name. Saves and removals write through to the cache,
+ * so this node always sees its own changes, and are published through the
+ * {@link CacheInvalidationBus} so other nodes drop their entry. If a publication is lost,
+ * other nodes see the change once the near-cache TTL passes. The registered client is only
+ * checked when a consent is loaded.
+ * 
  * @author Nitin Khaitan
  * @since 1.2
  */
-public class MongoOAuth2AuthorizationConsentService implements OAuth2AuthorizationConsentService {
+public class MongoOAuth2AuthorizationConsentService implements OAuth2AuthorizationConsentService, InvalidationTarget {
+
+    public static final String INVALIDATION_TARGET_NAME = "oauth2-authorization-consents";
+
+    private static final String KEY_SEPARATOR = ":";
 
     private final OAuth2AuthorizationConsentRepository authorizationConsentRepository;
     private final RegisteredClientRepository registeredClientRepository;
+    private final Cache<String, Optional<org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsent>> consentCache;
+    private final CacheInvalidationBus invalidationBus;
 
     public MongoOAuth2AuthorizationConsentService(
             OAuth2AuthorizationConsentRepository authorizationConsentRepository,
             RegisteredClientRepository registeredClientRepository) {
+        this(authorizationConsentRepository, registeredClientRepository, Duration.ofSeconds(30), 10_000, null);
+    }
+
+    /**
+     * @param invalidationBus bus used to publish near-cache evictions, or null for a single node
+     */
+    public MongoOAuth2AuthorizationConsentService(
+            OAuth2AuthorizationConsentRepository authorizationConsentRepository,
+            RegisteredClientRepository registeredClientRepository,
+            Duration nearCacheTtl,
+            long nearCacheMaximumSize,
+            CacheInvalidationBus invalidationBus) {
         Assert.notNull(authorizationConsentRepository, "authorizationConsentRepository cannot be null");
         Assert.notNull(registeredClientRepository, "registeredClientRepository cannot be null");
+        Assert.notNull(nearCacheTtl, "nearCacheTtl cannot be null");
         this.authorizationConsentRepository = authorizationConsentRepository;
         this.registeredClientRepository = registeredClientRepository;
+        this.invalidationBus = invalidationBus;
+        this.consentCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTtl)
+                .build();
     }
 
     @Override
@@ -53,6 +88,9 @@ public class MongoOAuth2AuthorizationConsentService implements OAuth2Authorizati
         
         OAuth2AuthorizationConsent entity = toEntity(authorizationConsent);
         authorizationConsentRepository.save(entity);
+        String key = consentKey(authorizationConsent.getRegisteredClientId(), authorizationConsent.getPrincipalName());
+        consentCache.put(key, Optional.of(authorizationConsent));
+        publishEviction(key);
     }
 
     @Override
@@ -63,6 +101,9 @@ public class MongoOAuth2AuthorizationConsentService implements OAuth2Authorizati
                 authorizationConsent.getRegisteredClientId(),
                 authorizationConsent.getPrincipalName()
         );
+        String key = consentKey(authorizationConsent.getRegisteredClientId(), authorizationConsent.getPrincipalName());
+        consentCache.put(key, Optional.empty());
+        publishEviction(key);
     }
 
     @Override
@@ -71,10 +112,45 @@ public class MongoOAuth2AuthorizationConsentService implements OAuth2Authorizati
         Assert.hasText(registeredClientId, "registeredClientId cannot be empty");
         Assert.hasText(principalName, "principalName cannot be empty");
         
-        Optional<OAuth2AuthorizationConsent> consent = authorizationConsentRepository
-                .findByRegisteredClientIdAndPrincipalName(registeredClientId, principalName);
-        
-        return consent.map(this::toObject).orElse(null);
+        return consentCache.get(consentKey(registeredClientId, principalName),
+                key -> authorizationConsentRepository
+                        .findByRegisteredClientIdAndPrincipalName(registeredClientId, principalName)
+                        .map(this::toObject))
+                .orElse(null);
+    }
+
+    // ========== CROSS-NODE EVICTION ==========
+
+    @Override
+    public String getName() {
+        return INVALIDATION_TARGET_NAME;
+    }
+
+    /**
+     * Evicts a consent saved or removed on another node. The key is built by {@link #consentKey}.
+     */
+    @Override
+    public void evictLocal(Object key) {
+        consentCache.invalidate(String.valueOf(key));
+    }
+
+    @Override
+    public void clearLocal() {
+        consentCache.invalidateAll();
+    }
+
+    private void publishEviction(String key) {
+        if (invalidationBus != null) {
+            invalidationBus.publishEvict(INVALIDATION_TARGET_NAME, key);
+        }
+    }
+
+    /**
+     * Near-cache and invalidation key of a consent. The registered client ID is length-prefixed,
+     * so the key stays unique whatever characters either part contains.
+     */
+    private static String consentKey(String registeredClientId, String principalName) {
+        return registeredClientId.length() + KEY_SEPARATOR + registeredClientId + principalName;
     }
 
     private OAuth2AuthorizationConsent toEntity(
@@ -83,11 +159,9 @@ public class MongoOAuth2AuthorizationConsentService implements OAuth2Authorizati
         entity.setRegisteredClientId(authorizationConsent.getRegisteredClientId());
         entity.setPrincipalName(authorizationConsent.getPrincipalName());
         entity.setAuthorities(
-                StringUtils.collectionToCommaDelimitedString(
-                        authorizationConsent.getAuthorities().stream()
-                                .map(authority -> authority.getAuthority())
-                                .toList()
-                )
+                authorizationConsent.getAuthorities().stream()
+                        .map(authority -> authority.getAuthority())
+                        .toList()
         );
         return entity;
     }
@@ -103,18 +177,12 @@ public class MongoOAuth2AuthorizationConsentService implements OAuth2Authorizati
                 org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsent
                         .withId(entity.getRegisteredClientId(), entity.getPrincipalName());
 
-        Set<String> authorities = resolveAuthorities(entity.getAuthorities());
-        for (String authority : authorities) {
-            builder.authority(new org.springframework.security.core.authority.SimpleGrantedAuthority(authority));
+        if (entity.getAuthorities() != null) {
+            for (String authority : entity.getAuthorities()) {
+                builder.authority(new org.springframework.security.core.authority.SimpleGrantedAuthority(authority));
+            }
         }
 
         return builder.build();
     }
-
-    private static Set<String> resolveAuthorities(String authorities) {
-        if (StringUtils.hasText(authorities)) {
-            return Set.of(StringUtils.commaDelimitedListToStringArray(authorities));
-        }
-        return Set.of();
-    }
 }
\ No newline at end of file
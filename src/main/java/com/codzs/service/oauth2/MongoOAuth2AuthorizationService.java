@@ -16,6 +16,8 @@
 package com.codzs.service.oauth2;
 
 import com.codzs.entity.oauth2.OAuth2Authorization;
+import com.codzs.framework.cache.CacheInvalidationBus;
+import com.codzs.framework.cache.InvalidationTarget;
 import com.codzs.repository.oauth2.OAuth2AuthorizationRepository;
 import com.codzs.util.oauth2.OAuth2Util;
 
@@ -34,13 +36,18 @@ import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -55,24 +62,59 @@ import com.fasterxml.jackson.databind.Module;
  * Follows the same pattern as Spring's JdbcOAuth2AuthorizationService but uses MongoDB as the data store.
  * Simplified implementation without complex object reconstruction logic.
  * 
+ * Access tokens are looked up by the SHA-256 of their value (indexed), never by the value
+ * itself, and resolved authorizations are kept in a short-lived near-cache keyed by that hash.
+ * This makes repeated introspection of reference tokens a memory lookup. Entries are evicted
+ * locally on every save or removal of the authorization. Other nodes are told through the
+ * {@link CacheInvalidationBus} only when an access token they may have cached changes or is
+ * removed (for example on revocation), not when a new token is issued. If a publication is
+ * lost, other nodes see the change once the near-cache TTL passes.
+ * 
  * @author Nitin Khaitan
  * @since 1.2
  */
-public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationService {
+public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationService, InvalidationTarget {
+
+    public static final String INVALIDATION_TARGET_NAME = "oauth2-authorizations";
 
-    
     private final OAuth2AuthorizationRepository authorizationRepository;
     private final RegisteredClientRepository registeredClientRepository;
     private final ObjectMapper objectMapper;
+    private final Cache<String, org.springframework.security.oauth2.server.authorization.OAuth2Authorization> accessTokenCache;
+    private final Map<String, String> accessTokenHashById = new ConcurrentHashMap<>();
+    private final CacheInvalidationBus invalidationBus;
 
     public MongoOAuth2AuthorizationService(
             OAuth2AuthorizationRepository authorizationRepository,
             RegisteredClientRepository registeredClientRepository) {
+        this(authorizationRepository, registeredClientRepository, Duration.ofSeconds(30), 10_000, null);
+    }
+
+    /**
+     * @param invalidationBus bus used to publish near-cache evictions, or null for a single node
+     */
+    public MongoOAuth2AuthorizationService(
+            OAuth2AuthorizationRepository authorizationRepository,
+            RegisteredClientRepository registeredClientRepository,
+            Duration nearCacheTtl,
+            long nearCacheMaximumSize,
+            CacheInvalidationBus invalidationBus) {
         Assert.notNull(authorizationRepository, "authorizationRepository cannot be null");
         Assert.notNull(registeredClientRepository, "registeredClientRepository cannot be null");
         this.authorizationRepository = authorizationRepository;
         this.registeredClientRepository = registeredClientRepository;
+        this.invalidationBus = invalidationBus;
         this.objectMapper = createObjectMapper();
+        this.accessTokenCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTtl)
+                .<String, org.springframework.security.oauth2.server.authorization.OAuth2Authorization>evictionListener(
+                        (hash, authorization, cause) -> {
+                            if (authorization != null) {
+                                accessTokenHashById.remove(authorization.getId(), hash);
+                            }
+                        })
+                .build();
     }
     
     private ObjectMapper createObjectMapper() {
@@ -98,7 +140,13 @@ public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationServi
         Assert.notNull(authorization, "authorization cannot be null");
         
         OAuth2Authorization entity = toEntity(authorization);
-        authorizationRepository.save(entity);
+        Optional<OAuth2Authorization> previous = authorizationRepository.saveReturningPreviousAccessToken(entity);
+        evictAccessToken(authorization.getId());
+
+        // Issuing a token, or saving a code or refresh token, cannot make another node's cache stale
+        if (previous.map(old -> accessTokenChanged(old, entity)).orElse(false)) {
+            publishEviction(authorization.getId());
+        }
     }
 
     @Override
@@ -106,6 +154,10 @@ public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationServi
         Assert.notNull(authorization, "authorization cannot be null");
         
         authorizationRepository.deleteById(authorization.getId());
+        evictAccessToken(authorization.getId());
+        if (authorization.getAccessToken() != null) {
+            publishEviction(authorization.getId());
+        }
     }
 
     @Override
@@ -124,14 +176,16 @@ public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationServi
         Optional<OAuth2Authorization> result = Optional.empty();
         
         if (tokenType == null) {
-            // Search all token types
+            // Search all token types, access tokens first since introspection is the main caller
+            org.springframework.security.oauth2.server.authorization.OAuth2Authorization authorization =
+                    findByAccessToken(token);
+            if (authorization != null) {
+                return authorization;
+            }
             result = authorizationRepository.findByState(token);
             if (result.isEmpty()) {
                 result = authorizationRepository.findByAuthorizationCodeValue(token);
             }
-            if (result.isEmpty()) {
-                result = authorizationRepository.findByAccessTokenValue(token);
-            }
             if (result.isEmpty()) {
                 result = authorizationRepository.findByRefreshTokenValue(token);
             }
@@ -149,7 +203,7 @@ public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationServi
         } else if (OAuth2ParameterNames.CODE.equals(tokenType.getValue())) {
             result = authorizationRepository.findByAuthorizationCodeValue(token);
         } else if (OAuth2TokenType.ACCESS_TOKEN.equals(tokenType)) {
-            result = authorizationRepository.findByAccessTokenValue(token);
+            return findByAccessToken(token);
         } else if (OAuth2TokenType.REFRESH_TOKEN.equals(tokenType)) {
             result = authorizationRepository.findByRefreshTokenValue(token);
         } else if (OidcParameterNames.ID_TOKEN.equals(tokenType.getValue())) {
@@ -159,6 +213,72 @@ public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationServi
         return result.map(this::toObject).orElse(null);
     }
 
+    // ========== ACCESS TOKEN LOOKUP ==========
+
+    private org.springframework.security.oauth2.server.authorization.OAuth2Authorization findByAccessToken(String token) {
+        String hash = OAuth2Util.hashToken(token);
+        org.springframework.security.oauth2.server.authorization.OAuth2Authorization cached =
+                accessTokenCache.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        org.springframework.security.oauth2.server.authorization.OAuth2Authorization authorization =
+                authorizationRepository.findByAccessTokenHash(hash)
+                        .filter(entity -> token.equals(entity.getAccessTokenValue()))
+                        .map(this::toObject)
+                        .orElse(null);
+        if (authorization != null) {
+            accessTokenHashById.put(authorization.getId(), hash);
+            accessTokenCache.put(hash, authorization);
+        }
+        return authorization;
+    }
+
+    private void evictAccessToken(String authorizationId) {
+        String hash = accessTokenHashById.remove(authorizationId);
+        if (hash != null) {
+            accessTokenCache.invalidate(hash);
+        }
+    }
+
+    // ========== CROSS-NODE EVICTION ==========
+
+    @Override
+    public String getName() {
+        return INVALIDATION_TARGET_NAME;
+    }
+
+    /**
+     * Evicts an authorization saved or removed on another node. The key is the authorization ID.
+     */
+    @Override
+    public void evictLocal(Object key) {
+        evictAccessToken(String.valueOf(key));
+    }
+
+    @Override
+    public void clearLocal() {
+        accessTokenCache.invalidateAll();
+        accessTokenHashById.clear();
+    }
+
+    /**
+     * Whether a save replaced or altered an access token that other nodes may have cached,
+     * for example when it is revoked (its metadata changes) or rotated.
+     */
+    private boolean accessTokenChanged(OAuth2Authorization previous, OAuth2Authorization current) {
+        return previous.getAccessTokenHash() != null
+                && (!previous.getAccessTokenHash().equals(current.getAccessTokenHash())
+                        || !Objects.equals(previous.getAccessTokenMetadata(), current.getAccessTokenMetadata()));
+    }
+
+    private void publishEviction(String authorizationId) {
+        if (invalidationBus != null) {
+            invalidationBus.publishEvict(INVALIDATION_TARGET_NAME, authorizationId);
+        }
+    }
+
     private OAuth2Authorization toEntity(org.springframework.security.oauth2.server.authorization.OAuth2Authorization authorization) {
         OAuth2Authorization entity = new OAuth2Authorization();
         entity.setId(authorization.getId());
@@ -182,6 +302,9 @@ public class MongoOAuth2AuthorizationService implements OAuth2AuthorizationServi
         setTokenDataOnEntity(entity, accessToken, entity::setAccessTokenValue,
                 entity::setAccessTokenIssuedAt, entity::setAccessTokenExpiresAt,
                 entity::setAccessTokenMetadata);
+        if (accessToken != null) {
+            entity.setAccessTokenHash(OAuth2Util.hashToken(accessToken.getToken().getTokenValue()));
+        }
         if (accessToken != null && accessToken.getToken().getScopes() != null) {
             entity.setAccessTokenScopes(String.join(",", accessToken.getToken().getScopes()));
             entity.setAccessTokenType(accessToken.getToken().getTokenType().getValue());
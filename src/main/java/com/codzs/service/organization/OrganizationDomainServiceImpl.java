@@ -7,6 +7,7 @@ import com.codzs.exception.util.ExceptionUtils;
 import com.codzs.framework.aware.audit.AuditorAwareImpl;
 import com.codzs.repository.organization.OrganizationDomainRepository;
 import com.codzs.repository.organization.OrganizationRepository;
+import com.codzs.service.domain.DomainResolutionService;
 import com.codzs.service.domain.DomainServiceImpl;
 import com.codzs.validation.organization.OrganizationDomainBusinessValidator;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -41,13 +44,17 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
     private final OrganizationDomainBusinessValidator organizationDomainBusinessValidator;
     private final OrganizationDomainRepository organizationDomainRepository;
     private final AuditorAwareImpl auditorAware;
+    private final DomainResolutionService domainResolutionService;
 
     @Autowired
     public OrganizationDomainServiceImpl(OrganizationDomainRepository organizationDomainRepository,
                            OrganizationRepository organizationRepository, 
-                           ObjectMapper objectMapper) {
-        super();
+                           ObjectMapper objectMapper,
+                           DomainResolutionService domainResolutionService,
+                           MongoTemplate mongoTemplate) {
+        super(mongoTemplate, Organization.class, Organization::getDomains);
         this.organizationDomainRepository = organizationDomainRepository;
+        this.domainResolutionService = domainResolutionService;
         this.baseOrganizationService = new BaseOrganizationServiceImpl(organizationRepository, objectMapper);
         this.organizationDomainBusinessValidator = new OrganizationDomainBusinessValidator();
         this.auditorAware = new AuditorAwareImpl();
@@ -57,6 +64,8 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS },
+                key = "#p0", cacheManager = OrganizationConstants.CACHE_MANAGER)
     public List<Domain> addDomainToOrganization(String organizationId, Domain domain) {
         log.debug("Adding domain {} to organization ID: {}", domain.getName(), organizationId);
         
@@ -81,17 +90,19 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
             domain.setIsVerified(false);
         }
         
-        // Use MongoDB array operation to add domain directly
-        organizationDomainRepository.addDomainToEntity(organizationId, domain);
+        // Add the domain and read back the resulting domains in one round-trip
+        List<Domain> domains = addDomainAndGet(organizationId, domain)
+                .orElseThrow(() -> ExceptionUtils.organizationNotFound(organizationId));
         
         log.info("Added domain {} to organization ID: {}", domain.getName(), organizationId);
         
-        // Return updated list of domains
-        return getDomainsForEntity(organizationId);
+        return refreshDomainResolution(organizationId, domains);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS },
+                key = "#p0", cacheManager = OrganizationConstants.CACHE_MANAGER)
     public List<Domain> updateDomainInOrganization(String organizationId, Domain domain) {
         log.debug("Updating domain {} in organization ID: {}", domain.getId(), organizationId);
         
@@ -111,17 +122,19 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
         // Business validation for domain update
         organizationDomainBusinessValidator.validateDomainUpdate(existingDomain, domain, isDomainAlreadyRegistered);
         
-        // Use MongoDB array operation to update entire domain in one go
-        organizationDomainRepository.updateDomain(organizationId, domain.getId(), domain);
+        // Update the entire domain and read back the resulting domains in one round-trip
+        List<Domain> domains = updateDomainAndGet(organizationId, domain.getId(), domain)
+                .orElseThrow(() -> ExceptionUtils.domainNotFound(domain.getId()));
         
         log.info("Updated domain {} in organization ID: {}", domain.getId(), organizationId);
         
-        // Return updated list of domains
-        return getDomainsForEntity(organizationId);
+        return refreshDomainResolution(organizationId, domains);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS },
+                key = "#p0", cacheManager = OrganizationConstants.CACHE_MANAGER)
     public List<Domain> removeDomainFromOrganization(String organizationId, String domainId) {
         log.debug("Removing domain {} from organization ID: {}", domainId, organizationId);
         
@@ -141,17 +154,19 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
         // Business validation for domain removal
         organizationDomainBusinessValidator.validateDomainRemoval(organization, domainId, hasUsersInDomain, userCountInDomain);
         
-        // Use MongoDB array operation to remove domain directly
-        organizationDomainRepository.removeDomainFromEntity(organizationId, domainId);
+        // Remove the domain and read back the remaining domains in one round-trip
+        List<Domain> domains = removeDomainAndGet(organizationId, domainId)
+                .orElseThrow(() -> ExceptionUtils.domainNotFound(domainId));
         
         log.info("Removed domain {} from organization ID: {}", domainId, organizationId);
         
-        // Return updated list of domains
-        return getDomainsForEntity(organizationId);
+        return refreshDomainResolution(organizationId, domains);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS },
+                key = "#p0", cacheManager = OrganizationConstants.CACHE_MANAGER)
     public Domain verifyDomainInOrganization(String organizationId, String domainId, 
                                                  String verificationMethod, String verificationToken) {
         log.debug("Verifying domain {} in organization ID: {}", domainId, organizationId);
@@ -168,17 +183,20 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
         // Business validation for domain verification
         organizationDomainBusinessValidator.validateDomainVerificationRequest(domain, verificationMethod, verificationToken);
         
-        // Use MongoDB array operation to update verification status
-        organizationDomainRepository.updateDomainVerificationStatus(organizationId, domainId, Instant.now());
+        // Mark the domain verified and read back the resulting domains in one round-trip
+        List<Domain> domains = markDomainVerifiedAndGet(organizationId, domainId, Instant.now())
+                .orElseThrow(() -> ExceptionUtils.domainNotFound(domainId));
         
         log.info("Verified domain {} in organization ID: {}", domainId, organizationId);
         
         // Return the verified domain
-        return getDomainInEntity(organizationId, domainId).orElse(null);
+        return findDomain(refreshDomainResolution(organizationId, domains), domainId);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS },
+                key = "#p0", cacheManager = OrganizationConstants.CACHE_MANAGER)
     public List<Domain> setPrimaryDomain(String organizationId, String domainId) {
         log.debug("Setting domain {} as primary for organization ID: {}", domainId, organizationId);
         
@@ -194,14 +212,13 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
         // Business validation for setting primary domain
         organizationDomainBusinessValidator.validateSetPrimaryDomain(domain);
         
-        // Use MongoDB array operations to update primary domain setting
-        organizationDomainRepository.unsetAllPrimaryDomains(organizationId);
-        organizationDomainRepository.setPrimaryDomain(organizationId, domainId);
+        // Switch the primary flag atomically in a single array-filtered update
+        List<Domain> domains = switchPrimaryDomainAndGet(organizationId, domainId)
+                .orElseThrow(() -> ExceptionUtils.domainNotFound(domainId));
         
         log.info("Set domain {} as primary for organization ID: {}", domainId, organizationId);
         
-        // Return updated list of domains
-        return getDomainsForEntity(organizationId);
+        return refreshDomainResolution(organizationId, domains);
     }
 
     @Override
@@ -225,6 +242,8 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = { OrganizationConstants.CACHE_ORGANIZATION, OrganizationConstants.CACHE_ORGANIZATION_DOMAINS },
+                key = "#p0", cacheManager = OrganizationConstants.CACHE_MANAGER)
     public Domain regenerateDomainVerificationToken(String organizationId, String domainId) {
         log.debug("Regenerating verification token for domain {} in organization ID: {}", domainId, organizationId);
         
@@ -240,13 +259,14 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
         // Generate new verification token
         String newToken = generateVerificationToken(domain.getName(), domain.getVerificationMethod());
         
-        // Use MongoDB array operation to update verification token
-        organizationDomainRepository.updateDomainVerificationToken(organizationId, domainId, newToken);
+        // Update the verification token and read back the resulting domains in one round-trip
+        List<Domain> domains = updateVerificationTokenAndGet(organizationId, domainId, newToken)
+                .orElseThrow(() -> ExceptionUtils.domainNotFound(domainId));
         
         log.info("Regenerated verification token for domain {} in organization ID: {}", domainId, organizationId);
         
         // Return the domain with updated verification token
-        return getDomainInEntity(organizationId, domainId).orElse(null);
+        return findDomain(domains, domainId);
     }
  
     @Override
@@ -319,12 +339,24 @@ public class OrganizationDomainServiceImpl extends DomainServiceImpl<Organizatio
         }
     }
 
+    /**
+     * Pushes the organization's post-update domains to the domain resolution index.
+     */
+    private List<Domain> refreshDomainResolution(String organizationId, List<Domain> domains) {
+        domainResolutionService.refreshOrganizationDomains(organizationId, domains);
+        return domains;
+    }
+
     private Domain findDomainInOrganization(Organization organization, String domainId) {
-        if (organization.getDomains() == null) {
+        return findDomain(organization.getDomains(), domainId);
+    }
+
+    private Domain findDomain(List<Domain> domains, String domainId) {
+        if (domains == null) {
             return null;
         }
         
-        return organization.getDomains().stream()
+        return domains.stream()
                 .filter(domain -> domainId.equals(domain.getId()))
                 .findFirst()
                 .orElse(null);
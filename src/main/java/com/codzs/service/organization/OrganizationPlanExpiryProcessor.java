@@ -0,0 +1,202 @@
+package com.codzs.service.organization;
+
+import com.codzs.entity.organization.OrganizationPlan;
+import com.codzs.framework.aware.audit.AuditorAwareImpl;
+import com.codzs.framework.service.lock.LeaseLockService;
+import com.codzs.service.plan.PlanStatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Deactivates expired organization plan associations in bounded chunks.
+ *
+ * Work is sharded by plan ID. For each shard a node takes a lease, so exactly one node
+ * processes it at a time. It then walks the expired associations in _id order, one batch
+ * at a time, and deactivates each batch with an unordered bulk write. After every batch
+ * the last processed _id is stored as a checkpoint and the lease is renewed, so a node
+ * that takes over an abandoned shard resumes where the previous holder stopped. The
+ * checkpoint is cleared once a shard is drained.
+ *
+ * Deactivations decrement the plan's active subscription counter by the number of
+ * documents actually modified.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class OrganizationPlanExpiryProcessor {
+
+    private static final String LEASE_PREFIX = "organization-plan-expiry:";
+    private static final String CHECKPOINT_COLLECTION = "job_checkpoint";
+    private static final String LAST_PROCESSED_ID = "lastProcessedId";
+
+    private final MongoTemplate mongoTemplate;
+    private final LeaseLockService leaseLockService;
+    private final PlanStatsService planStatsService;
+    private final AuditorAwareImpl auditorAware;
+    private final Counter expiredCounter;
+    private final Timer batchTimer;
+
+    @Value("${organization.plan.expiry.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${organization.plan.expiry.lease-ms:120000}")
+    private long leaseMs;
+
+    @Autowired
+    public OrganizationPlanExpiryProcessor(MongoTemplate mongoTemplate,
+                                           LeaseLockService leaseLockService,
+                                           PlanStatsService planStatsService,
+                                           MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseLockService = leaseLockService;
+        this.planStatsService = planStatsService;
+        this.auditorAware = new AuditorAwareImpl();
+        this.expiredCounter = Counter.builder("organization.plans.expired")
+                .description("Organization plan associations deactivated after expiry")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("organization.plans.expiry.batch")
+                .description("Time to deactivate one batch of expired organization plan associations")
+                .register(meterRegistry);
+    }
+
+    // ========== SCHEDULED PROCESSING ==========
+
+    @Scheduled(initialDelayString = "${organization.plan.expiry.interval-ms:300000}",
+               fixedDelayString = "${organization.plan.expiry.interval-ms:300000}")
+    public void scheduledProcess() {
+        try {
+            processExpiredPlans();
+        } catch (Exception e) {
+            log.error("Error during expired organization plan processing", e);
+        }
+    }
+
+    /**
+     * Processes every shard with expired associations that no other node holds.
+     *
+     * @return number of associations deactivated by this node
+     */
+    public long processExpiredPlans() {
+        Instant now = Instant.now();
+        List<String> planIds = mongoTemplate.findDistinct(new Query(expiredCriteria(now)), "planId",
+                OrganizationPlan.class, String.class);
+
+        long processed = 0;
+        for (String planId : planIds) {
+            String lease = LEASE_PREFIX + planId;
+            if (!leaseLockService.tryAcquire(lease, Duration.ofMillis(leaseMs))) {
+                log.debug("Skipping expired plan shard {} held by another node", planId);
+                continue;
+            }
+            try {
+                processed += processShard(planId, lease, now);
+            } finally {
+                leaseLockService.release(lease);
+            }
+        }
+
+        if (processed > 0) {
+            log.info("Deactivated {} expired organization plans across {} plans", processed, planIds.size());
+        }
+        return processed;
+    }
+
+    // ========== SHARD PROCESSING ==========
+
+    private long processShard(String planId, String lease, Instant now) {
+        String lastProcessedId = readCheckpoint(lease);
+        long processed = 0;
+
+        while (true) {
+            Criteria criteria = expiredCriteria(now).and("planId").is(planId);
+            if (lastProcessedId != null) {
+                criteria = criteria.and("_id").gt(lastProcessedId);
+            }
+            Query query = new Query(criteria)
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(batchSize);
+            query.fields().include("_id");
+
+            List<OrganizationPlan> batch = mongoTemplate.find(query, OrganizationPlan.class);
+            if (batch.isEmpty()) {
+                clearCheckpoint(lease);
+                return processed;
+            }
+
+            long modified = batchTimer.record(() -> deactivateBatch(batch, now));
+            processed += modified;
+            expiredCounter.increment(modified);
+            planStatsService.adjustActiveSubscriptions(planId, -modified);
+
+            lastProcessedId = batch.get(batch.size() - 1).getId();
+            writeCheckpoint(lease, lastProcessedId);
+
+            if (!leaseLockService.renew(lease, Duration.ofMillis(leaseMs))) {
+                log.warn("Lost lease {} after {} expired plans, stopping", lease, processed);
+                return processed;
+            }
+        }
+    }
+
+    /**
+     * Deactivates one batch. Each update re-checks expiry, so associations reactivated or
+     * extended since they were read are left untouched.
+     */
+    private long deactivateBatch(List<OrganizationPlan> batch, Instant now) {
+        String modifiedBy = auditorAware.getCurrentUserId();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrganizationPlan.class);
+        for (OrganizationPlan organizationPlan : batch) {
+            bulkOps.updateOne(
+                    new Query(expiredCriteria(now).and("_id").is(organizationPlan.getId())),
+                    new Update()
+                            .set("isActive", false)
+                            .set("lastModifiedDate", now)
+                            .set("lastModifiedBy", modifiedBy));
+        }
+        return bulkOps.execute().getModifiedCount();
+    }
+
+    private Criteria expiredCriteria(Instant now) {
+        return Criteria.where("isActive").is(true)
+                .and("deletedDate").is(null)
+                .and("validTo").lt(now);
+    }
+
+    // ========== CHECKPOINTS ==========
+
+    private String readCheckpoint(String lease) {
+        Document checkpoint = mongoTemplate.findById(lease, Document.class, CHECKPOINT_COLLECTION);
+        return checkpoint != null ? checkpoint.getString(LAST_PROCESSED_ID) : null;
+    }
+
+    private void writeCheckpoint(String lease, String lastProcessedId) {
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(lease)),
+                new Update()
+                        .set(LAST_PROCESSED_ID, lastProcessedId)
+                        .set("updatedAt", Instant.now()),
+                CHECKPOINT_COLLECTION);
+    }
+
+    private void clearCheckpoint(String lease) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(lease)), CHECKPOINT_COLLECTION);
+    }
+}
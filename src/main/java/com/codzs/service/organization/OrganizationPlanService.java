@@ -114,12 +114,12 @@ public interface OrganizationPlanService {
     OrganizationPlan removeOrganizationPlan(String organizationId, String planAssociationId, String deletedBy);
 
     /**
-     * Processes expired organization plans.
+     * Processes expired organization plans in bounded batches, shard by shard.
      * API: POST /api/v1/admin/organization-plans/process-expired
      *
-     * @return list of processed expired organization plans
+     * @return number of expired organization plans deactivated
      */
-    List<OrganizationPlan> processExpiredOrganizationPlans();
+    long processExpiredOrganizationPlans();
 
     // ========== UTILITY METHODS FOR BUSINESS VALIDATION ==========
 
@@ -8,6 +8,7 @@ import com.codzs.exception.type.ValidationException;
 import com.codzs.repository.organization.OrganizationPlanRepository;
 import com.codzs.repository.organization.OrganizationRepository;
 import com.codzs.service.plan.PlanService;
+import com.codzs.service.plan.PlanStatsService;
 import com.codzs.validation.organization.OrganizationPlanBusinessValidator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -16,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -40,17 +42,23 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
     private final OrganizationPlanRepository organizationPlanRepository;
     private final PlanService planService;
     private final OrganizationPlanBusinessValidator organizationPlanBusinessValidator;
+    private final PlanStatsService planStatsService;
+    private final OrganizationPlanExpiryProcessor organizationPlanExpiryProcessor;
 
     @Autowired
     public OrganizationPlanServiceImpl(OrganizationPlanRepository organizationPlanRepository,
                                      PlanService planService,
                                      OrganizationPlanBusinessValidator organizationPlanBusinessValidator,
+                                     PlanStatsService planStatsService,
+                                     OrganizationPlanExpiryProcessor organizationPlanExpiryProcessor,
                                      OrganizationRepository organizationRepository, 
                                      ObjectMapper objectMapper) {
         super(organizationRepository, objectMapper);
         this.organizationPlanRepository = organizationPlanRepository;
         this.planService = planService;
         this.organizationPlanBusinessValidator = organizationPlanBusinessValidator;
+        this.planStatsService = planStatsService;
+        this.organizationPlanExpiryProcessor = organizationPlanExpiryProcessor;
     }
 
     // ========== API FLOW METHODS ==========
@@ -100,7 +108,7 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         applyPlanAssociationBusinessLogic(organization, organizationPlan);
         
         // Save organization plan association
-        OrganizationPlan savedPlan = organizationPlanRepository.save(organizationPlan);
+        OrganizationPlan savedPlan = saveAndTrackActiveSubscriptions(organizationPlan, false);
         
         log.info("Associated plan {} with organization ID: {} with association ID: {}", 
                 organizationPlan.getPlanId(), organization.getId(), savedPlan.getId());
@@ -124,13 +132,14 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         validateOrganizationPlanUpdateFlow(organization, organizationPlan, existingPlan);
         
         // Update existing plan with new data
+        boolean wasActive = isCountedAsActive(existingPlan);
         updatePlanFields(existingPlan, organizationPlan);
         
         // Apply update business logic
         applyPlanUpdateBusinessLogic(organization, existingPlan);
         
         // Save updated organization plan
-        OrganizationPlan updatedPlan = organizationPlanRepository.save(existingPlan);
+        OrganizationPlan updatedPlan = saveAndTrackActiveSubscriptions(existingPlan, wasActive);
         
         log.info("Updated organization plan association ID: {} for organization ID: {}", 
                 organizationPlan.getId(), organization.getId());
@@ -189,7 +198,7 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         applyPlanActivationBusinessLogic(organizationPlan);
         
         // Save activated plan
-        OrganizationPlan activatedPlan = organizationPlanRepository.save(organizationPlan);
+        OrganizationPlan activatedPlan = saveAndTrackActiveSubscriptions(organizationPlan, false);
         
         log.info("Activated organization plan association ID: {} for organization ID: {}", 
                 planAssociationId, organizationId);
@@ -219,7 +228,7 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         applyPlanDeactivationBusinessLogic(organizationPlan);
         
         // Save deactivated plan
-        OrganizationPlan deactivatedPlan = organizationPlanRepository.save(organizationPlan);
+        OrganizationPlan deactivatedPlan = saveAndTrackActiveSubscriptions(organizationPlan, true);
         
         log.info("Deactivated organization plan association ID: {} for organization ID: {}", 
                 planAssociationId, organizationId);
@@ -276,7 +285,7 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         applyPlanChangeBusinessLogic(organization, newOrganizationPlan);
         
         // Save new plan association
-        OrganizationPlan savedPlan = organizationPlanRepository.save(newOrganizationPlan);
+        OrganizationPlan savedPlan = saveAndTrackActiveSubscriptions(newOrganizationPlan, false);
         
         log.info("Changed plan for organization ID: {} to plan ID: {} with association ID: {}", 
                 organization.getId(), newOrganizationPlan.getPlanId(), savedPlan.getId());
@@ -314,13 +323,14 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         validatePlanRemovalFlow(organizationId, organizationPlan);
         
         // Perform soft delete
+        boolean wasActive = isCountedAsActive(organizationPlan);
         organizationPlan.softDelete(deletedBy);
         
         // Apply removal business logic
         applyPlanRemovalBusinessLogic(organizationPlan);
         
         // Save deleted plan
-        OrganizationPlan deletedPlan = organizationPlanRepository.save(organizationPlan);
+        OrganizationPlan deletedPlan = saveAndTrackActiveSubscriptions(organizationPlan, wasActive);
         
         log.info("Removed organization plan association ID: {} for organization ID: {}", 
                 planAssociationId, organizationId);
@@ -329,28 +339,12 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
     }
 
     @Override
-    @Transactional
-    public List<OrganizationPlan> processExpiredOrganizationPlans() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processExpiredOrganizationPlans() {
         log.debug("Processing expired organization plans");
         
-        List<OrganizationPlan> expiredPlans = organizationPlanRepository.findExpiredActivePlans(Instant.now());
-        
-        for (OrganizationPlan expiredPlan : expiredPlans) {
-            log.info("Processing expired plan association ID: {} for organization ID: {}", 
-                    expiredPlan.getId(), expiredPlan.getOrganizationId());
-            
-            // Deactivate expired plan
-            expiredPlan.deactivate(getCurrentUser());
-            
-            // Apply expiration business logic
-            applyPlanExpirationBusinessLogic(expiredPlan);
-            
-            organizationPlanRepository.save(expiredPlan);
-        }
-        
-        log.info("Processed {} expired organization plans", expiredPlans.size());
-        
-        return expiredPlans;
+        // Chunked bulk processing; deliberately not one transaction over every expired plan
+        return organizationPlanExpiryProcessor.processExpiredPlans();
     }
 
     // ========== UTILITY METHODS FOR BUSINESS VALIDATION ==========
@@ -389,15 +383,8 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
     @Override
     public boolean hasConflictingPlans(String organizationId, Instant validFrom, Instant validTo, 
                                      String excludePlanAssociationId) {
-        List<OrganizationPlan> conflictingPlans = organizationPlanRepository.findConflictingPlans(
-                organizationId, validFrom, validTo);
-        
-        // Exclude the plan being updated from conflict check
-        if (StringUtils.hasText(excludePlanAssociationId)) {
-            conflictingPlans.removeIf(plan -> excludePlanAssociationId.equals(plan.getId()));
-        }
-        
-        return !conflictingPlans.isEmpty();
+        return organizationPlanRepository.existsConflictingPlan(
+                organizationId, validFrom, validTo, excludePlanAssociationId);
     }
 
     @Override
@@ -461,13 +448,32 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         
         for (OrganizationPlan activePlan : activePlans) {
             activePlan.deactivate(lastModifiedBy);
-            organizationPlanRepository.save(activePlan);
+            saveAndTrackActiveSubscriptions(activePlan, true);
             
             log.debug("Deactivated existing plan association ID: {} for organization ID: {}", 
                     activePlan.getId(), organizationId);
         }
     }
 
+    /**
+     * Saves an organization plan and adjusts the plan's active subscription counter
+     * when the association starts or stops counting as active.
+     */
+    private OrganizationPlan saveAndTrackActiveSubscriptions(OrganizationPlan organizationPlan, boolean wasActive) {
+        OrganizationPlan savedPlan = organizationPlanRepository.save(organizationPlan);
+        
+        boolean isActive = isCountedAsActive(savedPlan);
+        if (isActive != wasActive) {
+            planStatsService.adjustActiveSubscriptions(savedPlan.getPlanId(), isActive ? 1 : -1);
+        }
+        
+        return savedPlan;
+    }
+
+    private boolean isCountedAsActive(OrganizationPlan organizationPlan) {
+        return Boolean.TRUE.equals(organizationPlan.getIsActive()) && organizationPlan.getDeletedDate() == null;
+    }
+
     private void updatePlanFields(OrganizationPlan existingPlan, OrganizationPlan updatedPlan) {
         // Update allowed fields
         if (updatedPlan.getComment() != null) {
@@ -574,9 +580,4 @@ public class OrganizationPlanServiceImpl extends BaseOrganizationServiceImpl imp
         // Apply any additional plan removal business logic here
         log.debug("Applied plan removal business logic for association ID: {}", organizationPlan.getId());
     }
-
-    private void applyPlanExpirationBusinessLogic(OrganizationPlan organizationPlan) {
-        // Apply any additional plan expiration business logic here
-        log.debug("Applied plan expiration business logic for association ID: {}", organizationPlan.getId());
-    }
 }
\ No newline at end of file
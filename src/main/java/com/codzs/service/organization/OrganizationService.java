@@ -4,9 +4,13 @@ import com.codzs.constant.organization.OrganizationProjectionEnum;
 import com.codzs.entity.organization.Organization;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service interface for Organization-related business operations.
@@ -29,6 +33,18 @@ public interface OrganizationService {
      */
     Organization createOrganization(Organization organization);
 
+    /**
+     * Creates a batch of organizations with a single unordered bulk insert.
+     * Each organization is created with its default domain, AUTH schema and
+     * billing-email owner user, exactly as {@link #createOrganization(Organization)} does.
+     * API: POST /api/v1/organizations/bulk
+     *
+     * @param organizations the organization entities to create
+     * @return failure reasons keyed by index in the supplied list; organizations
+     *         without an entry were created and carry their generated ID
+     */
+    Map<Integer, String> bulkCreateOrganizations(List<Organization> organizations);
+
     /**
      * Updates an existing organization.
      * API: PUT /api/v1/organizations/{id}
@@ -76,6 +92,50 @@ public interface OrganizationService {
                                        String searchText, 
                                        Pageable pageable);
 
+    /**
+     * Lists organizations with filters using keyset (cursor) pagination.
+     * Seeks on (sort key, _id) rather than skipping, and never runs a count query.
+     * API: GET /api/v1/organizations/scroll
+     *
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param industries filter by industries (optional)
+     * @param sizes filter by sizes (optional)
+     * @param searchText search in name/displayName (optional)
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param limit maximum number of organizations to return
+     * @param sort sort order
+     * @return window of organization entities
+     */
+    Window<Organization> scrollOrganizations(List<String> statuses,
+                                             List<String> organizationTypes,
+                                             List<String> industries,
+                                             List<String> sizes,
+                                             String searchText,
+                                             String cursor,
+                                             int limit,
+                                             Sort sort);
+
+    /**
+     * Streams organizations with filters for export, in ascending ID order.
+     * The stream is backed by an open Mongo cursor and must be closed by the caller.
+     * API: GET /api/v1/organizations/export
+     *
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param industries filter by industries (optional)
+     * @param sizes filter by sizes (optional)
+     * @param searchText search in name/displayName (optional)
+     * @param resumeToken ID of the last organization already received, to resume an interrupted export (optional)
+     * @return stream of organization entities
+     */
+    Stream<Organization> exportOrganizations(List<String> statuses,
+                                             List<String> organizationTypes,
+                                             List<String> industries,
+                                             List<String> sizes,
+                                             String searchText,
+                                             String resumeToken);
+
     /**
      * Activates an organization.
      * API: PUT /api/v1/organizations/{id}/activate
@@ -120,6 +180,24 @@ public interface OrganizationService {
                                            List<String> organizationTypes,
                                            Pageable pageable);
 
+    /**
+     * Gets child organizations with filters using keyset (cursor) pagination.
+     *
+     * @param parentId the parent organization ID
+     * @param statuses filter by statuses (optional)
+     * @param organizationTypes filter by types (optional)
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param limit maximum number of organizations to return
+     * @param sort sort order
+     * @return window of child organization entities
+     */
+    Window<Organization> scrollChildOrganizations(String parentId,
+                                                  List<String> statuses,
+                                                  List<String> organizationTypes,
+                                                  String cursor,
+                                                  int limit,
+                                                  Sort sort);
+
     /**
      * Gets organizations for autocomplete.
      * API: GET /api/v1/organizations/autocomplete
@@ -4,29 +4,49 @@ import com.codzs.constant.organization.OrganizationConstants;
 import com.codzs.constant.organization.OrganizationProjectionEnum;
 import com.codzs.constant.organization.OrganizationStatusEnum;
 import com.codzs.entity.domain.Domain;
+import com.codzs.entity.organization.DatabaseConfig;
 import com.codzs.entity.organization.DatabaseSchema;
 import com.codzs.entity.organization.Organization;
 import com.codzs.entity.organization.OrganizationPlan;
 import com.codzs.repository.organization.OrganizationRepository;
 import com.codzs.validation.organization.OrganizationBusinessValidator;
+import com.codzs.service.autocomplete.AutocompleteService;
 import com.codzs.service.user.UserService;
 import com.codzs.entity.security.User;
+import com.codzs.framework.util.ScrollPositionUtil;
+import com.codzs.util.organization.DatabaseSchemaUtil;
+import com.codzs.framework.util.SearchTokenUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired; 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for Organization-related business operations.
@@ -47,6 +67,11 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
     private final DatabaseSchemaService databaseSchemaService;
     private final OrganizationDomainService organizationDomainService;
     private final UserService userService;
+    private final MongoTemplate mongoTemplate;
+    private final AutocompleteService autocompleteService;
+
+    @Value("${spring.profiles.active:dev}")
+    private String activeProfile;
 
     @Autowired
     public OrganizationServiceImpl(OrganizationRepository organizationRepository,
@@ -54,7 +79,9 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
                                  ObjectMapper objectMapper,
                                  DatabaseSchemaService databaseSchemaService,
                                  OrganizationDomainService organizationDomainService,
-                                 UserService userService) {
+                                 UserService userService,
+                                 MongoTemplate mongoTemplate,
+                                 AutocompleteService autocompleteService) {
         super(organizationRepository, objectMapper);
         this.organizationRepository = organizationRepository;
         this.organizationBusinessValidator = organizationBusinessValidator;
@@ -62,6 +89,8 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
         this.databaseSchemaService = databaseSchemaService;
         this.organizationDomainService = organizationDomainService;
         this.userService = userService;
+        this.mongoTemplate = mongoTemplate;
+        this.autocompleteService = autocompleteService;
     }
 
     // ========== API FLOW METHODS ==========
@@ -114,6 +143,99 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
         return getOrganizationAndValidate(organization.getId());
     }
 
+    /**
+     * Not transactional: a write error inside a MongoDB transaction aborts every insert of the
+     * batch, which would contradict the per-row results of the unordered bulk insert. Owner users
+     * created for rows whose insert fails are kept and reused on retry.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Integer, String> bulkCreateOrganizations(List<Organization> organizations) {
+        log.debug("Bulk creating {} organizations", organizations.size());
+        
+        Map<Integer, String> failures = new HashMap<>();
+        if (organizations.isEmpty()) {
+            return failures;
+        }
+        
+        // Resolve uniqueness and hierarchy data for the whole batch with $in queries
+        Set<String> existingNames = organizationRepository.findNamesIn(collectValues(organizations, Organization::getName)).stream()
+                .map(Organization::getName)
+                .collect(Collectors.toSet());
+        Set<String> existingAbbrs = organizationRepository.findAbbrsIn(collectValues(organizations, Organization::getAbbr)).stream()
+                .map(Organization::getAbbr)
+                .collect(Collectors.toSet());
+        Map<String, Organization> parentsById = organizationRepository
+                .findByIdInAndDeletedDateIsNull(collectValues(organizations, Organization::getParentOrganizationId)).stream()
+                .collect(Collectors.toMap(Organization::getId, Function.identity()));
+        Map<String, Integer> depthByParentId = new HashMap<>();
+        
+        Set<String> batchNames = new HashSet<>();
+        Set<String> batchAbbrs = new HashSet<>();
+        List<Organization> accepted = new ArrayList<>(organizations.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(organizations.size());
+        
+        // Business validation per row, reusing the single-create validator
+        for (int i = 0; i < organizations.size(); i++) {
+            Organization organization = organizations.get(i);
+            try {
+                String parentId = organization.getParentOrganizationId();
+                int depth = StringUtils.hasText(parentId)
+                        ? depthByParentId.computeIfAbsent(parentId, this::calculateOrganizationHierarchyDepth)
+                        : 0;
+                boolean isNameAlreadyExists = existingNames.contains(organization.getName()) 
+                        || batchNames.contains(organization.getName());
+                boolean isAbbrAlreadyExists = existingAbbrs.contains(organization.getAbbr()) 
+                        || batchAbbrs.contains(organization.getAbbr());
+                Optional<Organization> parentOrganization = Optional.ofNullable(parentId).map(parentsById::get);
+                
+                organizationBusinessValidator.validateOrganizationCreationFlow(organization, false, depth, isNameAlreadyExists, isAbbrAlreadyExists, parentOrganization);
+                
+                batchNames.add(organization.getName());
+                batchAbbrs.add(organization.getAbbr());
+                accepted.add(organization);
+                acceptedIndexes.add(i);
+            } catch (RuntimeException e) {
+                failures.put(i, e.getMessage());
+            }
+        }
+        
+        if (accepted.isEmpty()) {
+            return failures;
+        }
+        
+        // Pre-resolve owner users for every billing email with a single $in query
+        Map<String, User> ownersByEmail = userService.findOrCreateUsersByEmails(
+                collectValues(accepted, Organization::getBillingEmail));
+        
+        // Embed default domain and AUTH schema so each organization is a single insert
+        for (Organization organization : accepted) {
+            applyCreationBusinessLogic(organization);
+            if (StringUtils.hasText(organization.getBillingEmail())) {
+                User ownerUser = ownersByEmail.get(organization.getBillingEmail().toLowerCase().trim());
+                if (ownerUser != null) {
+                    addOwnerUserId(organization, ownerUser);
+                }
+            }
+            organization.setId(ObjectId.get().toString());
+            applyBulkCreationDefaults(organization);
+        }
+        
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Organization.class);
+        bulkOperations.insert(accepted);
+        try {
+            bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(acceptedIndexes.get(error.getIndex()), error.getMessage());
+            }
+        }
+        
+        log.info("Bulk created {} of {} organizations", organizations.size() - failures.size(), organizations.size());
+        
+        return failures;
+    }
+
     @Override
     @Transactional
     public Organization updateOrganization(Organization organization) {
@@ -154,19 +276,67 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
         // Convert string statuses to enum statuses
         List<OrganizationStatusEnum> statusEnums = convertToStatusEnums(statuses);
         
-        // Normalize search text
-        String normalizedSearchText = StringUtils.hasText(searchText) ? searchText.trim() : "";
-        
+        // Empty filters are dropped from the query by the repository
         return organizationRepository.findWithFilters(
-                statusEnums != null ? statusEnums : new ArrayList<>(),
-                organizationTypes != null ? organizationTypes : new ArrayList<>(),
-                industries != null ? industries : new ArrayList<>(),
-                sizes != null ? sizes : new ArrayList<>(),
-                normalizedSearchText,
+                statusEnums,
+                organizationTypes,
+                industries,
+                sizes,
+                searchText,
                 pageable
         );
     }
 
+    @Override
+    public Window<Organization> scrollOrganizations(List<String> statuses,
+                                                    List<String> organizationTypes,
+                                                    List<String> industries,
+                                                    List<String> sizes,
+                                                    String searchText,
+                                                    String cursor,
+                                                    int limit,
+                                                    Sort sort) {
+        log.debug("Scrolling organizations with filters - statuses: {}, types: {}, search: {}, limit: {}", 
+                statuses, organizationTypes, searchText, limit);
+        
+        return organizationRepository.scrollWithFilters(
+                convertToStatusEnums(statuses),
+                organizationTypes,
+                industries,
+                sizes,
+                searchText,
+                ScrollPositionUtil.decode(cursor, sort),
+                limit,
+                sort
+        );
+    }
+
+    /**
+     * Not transactional: the returned stream is consumed by the caller after this method returns,
+     * so a transaction here would already be closed while the cursor is read. The export is a
+     * single cursor in ascending ID order and is resumable by ID, so it needs no snapshot.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Stream<Organization> exportOrganizations(List<String> statuses,
+                                                    List<String> organizationTypes,
+                                                    List<String> industries,
+                                                    List<String> sizes,
+                                                    String searchText,
+                                                    String resumeToken) {
+        log.debug("Exporting organizations with filters - statuses: {}, types: {}, search: {}, resumeToken: {}", 
+                statuses, organizationTypes, searchText, resumeToken);
+        
+        return organizationRepository.streamWithFilters(
+                convertToStatusEnums(statuses),
+                organizationTypes,
+                industries,
+                sizes,
+                searchText,
+                resumeToken
+        );
+    }
+
     @Override
     @Transactional
     public Organization activateOrganization(String organizationId) {
@@ -252,12 +422,31 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
         
         return organizationRepository.findChildrenWithFilters(
                 parentId,
-                statusEnums != null ? statusEnums : new ArrayList<>(),
-                organizationTypes != null ? organizationTypes : new ArrayList<>(),
+                statusEnums,
+                organizationTypes,
                 pageable
         );
     }
 
+    @Override
+    public Window<Organization> scrollChildOrganizations(String parentId,
+                                                         List<String> statuses,
+                                                         List<String> organizationTypes,
+                                                         String cursor,
+                                                         int limit,
+                                                         Sort sort) {
+        log.debug("Scrolling child organizations for parent ID: {}", parentId);
+        
+        return organizationRepository.scrollChildrenWithFilters(
+                parentId,
+                convertToStatusEnums(statuses),
+                organizationTypes,
+                ScrollPositionUtil.decode(cursor, sort),
+                limit,
+                sort
+        );
+    }
+
     @Override
     public List<Organization> getOrganizationsForAutocomplete(List<String> statuses,
                                                             String searchQuery,
@@ -272,9 +461,10 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
             statusEnums = Arrays.asList(OrganizationStatusEnum.ACTIVE);
         }
         
-        String normalizedQuery = StringUtils.hasText(searchQuery) ? searchQuery.trim() : "";
-        
-        return organizationRepository.findForAutocomplete(statusEnums, normalizedQuery, pageable);
+        // Served from the in-memory index; MongoDB is only queried until the index is loaded
+        List<OrganizationStatusEnum> acceptedStatuses = statusEnums;
+        return autocompleteService.findOrganizations(acceptedStatuses, searchQuery, pageable)
+                .orElseGet(() -> organizationRepository.findForAutocomplete(acceptedStatuses, searchQuery, pageable));
     }
 
     @Override
@@ -432,6 +622,9 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
             organization.setDisplayName(organization.getName());
         }
 
+        organization.setSearchTokens(
+                SearchTokenUtil.buildSearchTokens(organization.getName(), organization.getDisplayName()));
+
         log.debug("Applied creation business logic for organization: {}", organization.getName());
     }
 
@@ -498,6 +691,39 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
         log.info("Successfully created default AUTH schema for organization ID: {}", organization.getId());
     }
 
+    /**
+     * Attaches the default domain and AUTH schema directly to a not-yet-persisted
+     * organization, so bulk creation does not need follow-up writes per organization.
+     */
+    private void applyBulkCreationDefaults(Organization organization) {
+        Domain defaultDomain = createDefaultDomainObject(organization);
+        defaultDomain.setVerificationToken(organizationDomainService.generateVerificationToken(
+                defaultDomain.getId(), defaultDomain.getVerificationMethod()));
+        List<Domain> domains = new ArrayList<>(organization.getDomains() != null ? organization.getDomains() : List.of());
+        domains.add(defaultDomain);
+        organization.setDomains(domains);
+        
+        DatabaseConfig database = organization.getDatabase();
+        if (database != null) {
+            DatabaseSchema authSchema = createAuthSchemaObject(organization);
+            DatabaseSchemaUtil.applySchemaBusinessLogic(organization, authSchema, activeProfile);
+            List<DatabaseSchema> schemas = new ArrayList<>(database.getSchemas() != null ? database.getSchemas() : List.of());
+            schemas.add(authSchema);
+            database.setSchemas(schemas);
+        }
+    }
+
+    /**
+     * Collects the distinct non-blank values of an organization field across a batch.
+     */
+    private Set<String> collectValues(List<Organization> organizations, Function<Organization, String> field) {
+        return organizations.stream()
+                .map(field)
+                .filter(Objects::nonNull)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Creates AUTH schema object with default values.
      */
@@ -589,17 +815,24 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
         Instant now = Instant.now();
         String user = getCurrentUser();
         
+        // Search tokens are derived from the effective name and display name after this update
+        boolean nameChanged = hasFieldChanged(newOrg.getName(), existingOrg.getName());
+        boolean displayNameChanged = hasFieldChanged(newOrg.getDisplayName(), existingOrg.getDisplayName());
+        List<String> searchTokens = SearchTokenUtil.buildSearchTokens(
+                nameChanged ? newOrg.getName() : existingOrg.getName(),
+                displayNameChanged ? newOrg.getDisplayName() : existingOrg.getDisplayName());
+        
         // Update each field only if it has changed
-        if (hasFieldChanged(newOrg.getName(), existingOrg.getName())) {
-            organizationRepository.updateOrganizationName(newOrg.getId(), newOrg.getName(), now, user);
+        if (nameChanged) {
+            organizationRepository.updateOrganizationName(newOrg.getId(), newOrg.getName(), searchTokens, now, user);
         }
         
         if (hasFieldChanged(newOrg.getAbbr(), existingOrg.getAbbr())) {
             updateAbbrWithDomainSync(newOrg.getId(), newOrg.getAbbr(), existingOrg.getAbbr(), now, user);
         }
         
-        if (hasFieldChanged(newOrg.getDisplayName(), existingOrg.getDisplayName())) {
-            organizationRepository.updateOrganizationDisplayName(newOrg.getId(), newOrg.getDisplayName(), now, user);
+        if (displayNameChanged) {
+            organizationRepository.updateOrganizationDisplayName(newOrg.getId(), newOrg.getDisplayName(), searchTokens, now, user);
         }
         
         if (hasFieldChanged(newOrg.getDescription(), existingOrg.getDescription())) {
@@ -655,26 +888,7 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
             // Find or create user by billing email
             User ownerUser = userService.findOrCreateUserByEmail(billingEmail);
             
-            // Initialize ownerUserIds list if null or ensure it's mutable
-            List<String> ownerUserIds = organization.getOwnerUserIds();
-            if (ownerUserIds == null) {
-                ownerUserIds = new ArrayList<>();
-                organization.setOwnerUserIds(ownerUserIds);
-            } else if (!(ownerUserIds instanceof ArrayList)) {
-                // Convert to mutable list if it's immutable (e.g., from List.of())
-                ownerUserIds = new ArrayList<>(ownerUserIds);
-                organization.setOwnerUserIds(ownerUserIds);
-            }
-
-            // Add user ID to ownerUserIds if not already present
-            if (!ownerUserIds.contains(ownerUser.getId())) {
-                ownerUserIds.add(ownerUser.getId());
-                log.info("Added user ID {} (email: {}) to ownerUserIds for organization: {}", 
-                        ownerUser.getId(), billingEmail, organization.getName());
-            } else {
-                log.debug("User ID {} already exists in ownerUserIds for organization: {}", 
-                         ownerUser.getId(), organization.getName());
-            }
+            addOwnerUserId(organization, ownerUser);
 
         } catch (Exception e) {
             log.error("Failed to process owner user from billing email for organization: {}", 
@@ -684,6 +898,32 @@ public class OrganizationServiceImpl extends BaseOrganizationServiceImpl impleme
         }
     }
 
+    /**
+     * Adds the owner user's ID to the organization's ownerUserIds if not already present.
+     */
+    private void addOwnerUserId(Organization organization, User ownerUser) {
+        // Initialize ownerUserIds list if null or ensure it's mutable
+        List<String> ownerUserIds = organization.getOwnerUserIds();
+        if (ownerUserIds == null) {
+            ownerUserIds = new ArrayList<>();
+            organization.setOwnerUserIds(ownerUserIds);
+        } else if (!(ownerUserIds instanceof ArrayList)) {
+            // Convert to mutable list if it's immutable (e.g., from List.of())
+            ownerUserIds = new ArrayList<>(ownerUserIds);
+            organization.setOwnerUserIds(ownerUserIds);
+        }
+
+        // Add user ID to ownerUserIds if not already present
+        if (!ownerUserIds.contains(ownerUser.getId())) {
+            ownerUserIds.add(ownerUser.getId());
+            log.info("Added user ID {} (email: {}) to ownerUserIds for organization: {}", 
+                    ownerUser.getId(), ownerUser.getEmail(), organization.getName());
+        } else {
+            log.debug("User ID {} already exists in ownerUserIds for organization: {}", 
+                     ownerUser.getId(), organization.getName());
+        }
+    }
+
     private List<OrganizationStatusEnum> convertToStatusEnums(List<String> statuses) {
         if (statuses == null || statuses.isEmpty()) {
             return null;
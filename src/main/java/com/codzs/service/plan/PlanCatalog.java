@@ -0,0 +1,235 @@
+package com.codzs.service.plan;
+
+import com.codzs.constant.plan.PlanConstants;
+import com.codzs.entity.plan.Plan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable in-memory snapshot of plan capabilities used by the plan compatibility checks.
+ *
+ * Organization types, organization sizes and regions are each mapped to a bit position once,
+ * and every plan carries one bitmask per dimension, so a compatibility check is a map lookup
+ * and a bit test instead of a MongoDB read and a list scan.
+ *
+ * The snapshot is loaded when the application is ready, updated after commit whenever a plan
+ * is saved or deleted on this node, and reloaded periodically to pick up changes made on
+ * other nodes. Plans missing from the snapshot are loaded on demand by {@link PlanServiceImpl}.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class PlanCatalog {
+
+    /**
+     * Mask of a plan compatible with every value of a dimension, including unknown values.
+     */
+    private static final long ALL = -1L;
+
+    private static final Map<String, Integer> ORGANIZATION_TYPE_BITS = new HashMap<>();
+    private static final Map<String, Integer> ORGANIZATION_SIZE_BITS = new HashMap<>();
+    private static final Map<String, Integer> REGION_BITS = new HashMap<>();
+
+    static {
+        assignBits(ORGANIZATION_TYPE_BITS, PlanConstants.BASIC_PLAN_COMPATIBLE_ORG_TYPES,
+                PlanConstants.STANDARD_PLAN_COMPATIBLE_ORG_TYPES, PlanConstants.PREMIUM_PLAN_COMPATIBLE_ORG_TYPES,
+                PlanConstants.ENTERPRISE_PLAN_COMPATIBLE_ORG_TYPES);
+        assignBits(ORGANIZATION_SIZE_BITS, PlanConstants.BASIC_PLAN_COMPATIBLE_ORG_SIZES,
+                PlanConstants.STANDARD_PLAN_COMPATIBLE_ORG_SIZES, PlanConstants.PREMIUM_PLAN_COMPATIBLE_ORG_SIZES,
+                PlanConstants.ENTERPRISE_PLAN_COMPATIBLE_ORG_SIZES);
+        assignBits(REGION_BITS, PlanConstants.DEFAULT_AVAILABLE_REGIONS);
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private volatile Map<String, PlanCapabilities> snapshot = Map.of();
+
+    @Autowired
+    public PlanCatalog(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // ========== LIFECYCLE ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * Periodically reloads the snapshot to pick up plan changes made on other nodes.
+     */
+    @Scheduled(initialDelayString = "${plan.catalog.reload-interval-ms:300000}",
+               fixedDelayString = "${plan.catalog.reload-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("Error during scheduled reload of plan catalog", e);
+        }
+    }
+
+    // ========== LOOKUP ==========
+
+    /**
+     * Returns the capabilities of a non-deleted plan, if it is in the snapshot.
+     */
+    public Optional<PlanCapabilities> get(String planId) {
+        return planId == null ? Optional.empty() : Optional.ofNullable(snapshot.get(planId));
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Replaces the snapshot with all non-deleted plans.
+     */
+    public void reload() {
+        Query query = new Query(Criteria.where("deletedDate").is(null));
+        query.fields().include("type");
+
+        Map<String, PlanCapabilities> reloaded = new HashMap<>();
+        for (Plan plan : mongoTemplate.find(query, Plan.class)) {
+            reloaded.put(plan.getId(), capabilitiesOf(plan));
+        }
+        snapshot = Map.copyOf(reloaded);
+
+        log.debug("Loaded plan catalog with {} plans", reloaded.size());
+    }
+
+    /**
+     * Adds or replaces a plan in the snapshot, or removes it if the plan is deleted.
+     * Inside a transaction the change is applied after commit.
+     */
+    public void refresh(Plan plan) {
+        if (plan == null || plan.getId() == null) {
+            return;
+        }
+        PlanCapabilities capabilities = plan.getDeletedDate() == null ? capabilitiesOf(plan) : null;
+        afterCommit(() -> replace(plan.getId(), capabilities));
+    }
+
+    /**
+     * Builds the capabilities of a plan, registering them in the snapshot.
+     * Used for plans that were created on another node since the last reload.
+     */
+    public PlanCapabilities register(Plan plan) {
+        PlanCapabilities capabilities = capabilitiesOf(plan);
+        replace(plan.getId(), capabilities);
+        return capabilities;
+    }
+
+    private synchronized void replace(String planId, PlanCapabilities capabilities) {
+        Map<String, PlanCapabilities> updated = new HashMap<>(snapshot);
+        if (capabilities == null) {
+            updated.remove(planId);
+        } else {
+            updated.put(planId, capabilities);
+        }
+        snapshot = Map.copyOf(updated);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    // ========== CAPABILITY ENCODING ==========
+
+    private static PlanCapabilities capabilitiesOf(Plan plan) {
+        String type = plan.getType() != null ? plan.getType() : "";
+        return switch (type) {
+            case PlanConstants.PLAN_TYPE_BASIC -> new PlanCapabilities(PlanConstants.PLAN_LEVEL_BASIC,
+                    mask(ORGANIZATION_TYPE_BITS, PlanConstants.BASIC_PLAN_COMPATIBLE_ORG_TYPES),
+                    mask(ORGANIZATION_SIZE_BITS, PlanConstants.BASIC_PLAN_COMPATIBLE_ORG_SIZES),
+                    mask(REGION_BITS, PlanConstants.DEFAULT_AVAILABLE_REGIONS));
+            case PlanConstants.PLAN_TYPE_STANDARD -> new PlanCapabilities(PlanConstants.PLAN_LEVEL_STANDARD,
+                    mask(ORGANIZATION_TYPE_BITS, PlanConstants.STANDARD_PLAN_COMPATIBLE_ORG_TYPES),
+                    mask(ORGANIZATION_SIZE_BITS, PlanConstants.STANDARD_PLAN_COMPATIBLE_ORG_SIZES),
+                    mask(REGION_BITS, PlanConstants.DEFAULT_AVAILABLE_REGIONS));
+            case PlanConstants.PLAN_TYPE_PREMIUM -> new PlanCapabilities(PlanConstants.PLAN_LEVEL_PREMIUM,
+                    mask(ORGANIZATION_TYPE_BITS, PlanConstants.PREMIUM_PLAN_COMPATIBLE_ORG_TYPES),
+                    mask(ORGANIZATION_SIZE_BITS, PlanConstants.PREMIUM_PLAN_COMPATIBLE_ORG_SIZES),
+                    mask(REGION_BITS, PlanConstants.DEFAULT_AVAILABLE_REGIONS));
+            case PlanConstants.PLAN_TYPE_ENTERPRISE -> new PlanCapabilities(PlanConstants.PLAN_LEVEL_ENTERPRISE,
+                    mask(ORGANIZATION_TYPE_BITS, PlanConstants.ENTERPRISE_PLAN_COMPATIBLE_ORG_TYPES),
+                    mask(ORGANIZATION_SIZE_BITS, PlanConstants.ENTERPRISE_PLAN_COMPATIBLE_ORG_SIZES),
+                    mask(REGION_BITS, PlanConstants.DEFAULT_AVAILABLE_REGIONS));
+            // Custom plans are compatible with all org types and sizes
+            case PlanConstants.PLAN_TYPE_CUSTOM -> new PlanCapabilities(PlanConstants.PLAN_LEVEL_CUSTOM,
+                    ALL, ALL, mask(REGION_BITS, PlanConstants.DEFAULT_AVAILABLE_REGIONS));
+            default -> new PlanCapabilities(0, 0L, 0L, mask(REGION_BITS, PlanConstants.DEFAULT_AVAILABLE_REGIONS));
+        };
+    }
+
+    private static void assignBits(Map<String, Integer> bits, String[]... groups) {
+        for (String[] group : groups) {
+            for (String value : group) {
+                bits.putIfAbsent(value, bits.size());
+            }
+        }
+        if (bits.size() > Long.SIZE) {
+            throw new IllegalStateException("Plan catalog dimension exceeds " + Long.SIZE + " values");
+        }
+    }
+
+    private static long mask(Map<String, Integer> bits, String[] values) {
+        long mask = 0L;
+        for (String value : values) {
+            mask |= 1L << bits.get(value);
+        }
+        return mask;
+    }
+
+    private static boolean test(long mask, Map<String, Integer> bits, String value) {
+        if (mask == ALL) {
+            return true;
+        }
+        Integer bit = value != null ? bits.get(value) : null;
+        return bit != null && (mask & (1L << bit)) != 0;
+    }
+
+    /**
+     * Precomputed capabilities of one plan.
+     *
+     * @param level plan level, higher is more capable (0 for unknown plan types)
+     * @param organizationTypeMask bits of compatible organization types
+     * @param organizationSizeMask bits of compatible organization sizes
+     * @param regionMask bits of regions where the plan is available
+     */
+    public record PlanCapabilities(int level, long organizationTypeMask, long organizationSizeMask, long regionMask) {
+
+        public boolean isCompatibleWithOrganizationType(String organizationType) {
+            return test(organizationTypeMask, ORGANIZATION_TYPE_BITS, organizationType);
+        }
+
+        public boolean isCompatibleWithOrganizationSize(String organizationSize) {
+            return test(organizationSizeMask, ORGANIZATION_SIZE_BITS, organizationSize);
+        }
+
+        public boolean isAvailableInRegion(String region) {
+            return test(regionMask, REGION_BITS, region);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.codzs.service.plan;
 import com.codzs.entity.plan.Plan;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -57,6 +59,20 @@ public interface PlanService {
      */
     Page<Plan> listPlans(List<String> statuses, List<String> planTypes, String searchText, Pageable pageable);
 
+    /**
+     * Lists plans with filtering using keyset (cursor) pagination.
+     * Seeks on (sort key, _id) rather than skipping, and never runs a count query.
+     *
+     * @param statuses list of plan statuses to filter by
+     * @param planTypes list of plan types to filter by
+     * @param searchText search text for plan name/description
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param limit maximum number of plans to return
+     * @param sort sort order
+     * @return window of plan entities
+     */
+    Window<Plan> scrollPlans(List<String> statuses, List<String> planTypes, String searchText, String cursor, int limit, Sort sort);
+
     /**
      * Activates a plan.
      * API: PUT /api/v1/plans/{id}/activate
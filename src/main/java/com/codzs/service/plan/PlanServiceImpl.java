@@ -3,12 +3,16 @@ package com.codzs.service.plan;
 import com.codzs.constant.plan.PlanConstants;
 import com.codzs.entity.plan.Plan;
 import com.codzs.framework.constant.CommonConstants;
+import com.codzs.framework.util.ScrollPositionUtil;
 import com.codzs.repository.plan.PlanRepository;
+import com.codzs.service.autocomplete.AutocompleteService;
 import com.codzs.validation.plan.PlanBusinessValidator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -16,6 +20,7 @@ import org.springframework.util.StringUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -33,12 +38,21 @@ public class PlanServiceImpl implements PlanService {
 
     private final PlanRepository planRepository;
     private final PlanBusinessValidator planBusinessValidator;
+    private final AutocompleteService autocompleteService;
+    private final PlanCatalog planCatalog;
+    private final PlanStatsService planStatsService;
 
     @Autowired
     public PlanServiceImpl(PlanRepository planRepository,
-                          PlanBusinessValidator planBusinessValidator) {
+                          PlanBusinessValidator planBusinessValidator,
+                          AutocompleteService autocompleteService,
+                          PlanCatalog planCatalog,
+                          PlanStatsService planStatsService) {
         this.planRepository = planRepository;
         this.planBusinessValidator = planBusinessValidator;
+        this.autocompleteService = autocompleteService;
+        this.planCatalog = planCatalog;
+        this.planStatsService = planStatsService;
     }
 
     // ========== API FLOW METHODS ==========
@@ -56,6 +70,7 @@ public class PlanServiceImpl implements PlanService {
         
         // Save plan
         Plan savedPlan = planRepository.save(plan);
+        planCatalog.refresh(savedPlan);
         
         log.info("Created plan with ID: {} and name: {}", 
                 savedPlan.getId(), savedPlan.getName());
@@ -76,6 +91,7 @@ public class PlanServiceImpl implements PlanService {
         
         // Save updated plan
         Plan updatedPlan = planRepository.save(plan);
+        planCatalog.refresh(updatedPlan);
         
         log.info("Updated plan with ID: {}", updatedPlan.getId());
         
@@ -109,6 +125,22 @@ public class PlanServiceImpl implements PlanService {
         );
     }
 
+    @Override
+    public Window<Plan> scrollPlans(List<String> statuses, List<String> planTypes, String searchText, 
+                                    String cursor, int limit, Sort sort) {
+        log.debug("Scrolling plans with filters - statuses: {}, types: {}, search: {}, limit: {}", 
+                statuses, planTypes, searchText, limit);
+        
+        return planRepository.scrollWithFilters(
+                convertToStatusBooleans(statuses),
+                planTypes,
+                searchText,
+                ScrollPositionUtil.decode(cursor, sort),
+                limit,
+                sort
+        );
+    }
+
     @Override
     @Transactional
     public Plan activatePlan(String planId) {
@@ -128,6 +160,7 @@ public class PlanServiceImpl implements PlanService {
         
         // Save activated plan
         Plan activatedPlan = planRepository.save(plan);
+        planCatalog.refresh(activatedPlan);
         
         log.info("Activated plan with ID: {}", activatedPlan.getId());
         
@@ -153,6 +186,7 @@ public class PlanServiceImpl implements PlanService {
         
         // Save deactivated plan
         Plan deactivatedPlan = planRepository.save(plan);
+        planCatalog.refresh(deactivatedPlan);
         
         log.info("Deactivated plan with ID: {}", deactivatedPlan.getId());
         
@@ -178,6 +212,7 @@ public class PlanServiceImpl implements PlanService {
         
         // Save deprecated plan
         Plan deprecatedPlan = planRepository.save(plan);
+        planCatalog.refresh(deprecatedPlan);
         
         log.info("Deprecated plan with ID: {}", deprecatedPlan.getId());
         
@@ -198,7 +233,10 @@ public class PlanServiceImpl implements PlanService {
         
         String normalizedQuery = StringUtils.hasText(searchQuery) ? searchQuery.trim() : "";
         
-        return planRepository.findForAutocomplete(statusBooleans, normalizedQuery, pageable);
+        // Served from the in-memory index; MongoDB is only queried until the index is loaded
+        List<Boolean> acceptedStatuses = statusBooleans;
+        return autocompleteService.findPlans(acceptedStatuses, normalizedQuery, pageable)
+                .orElseGet(() -> planRepository.findForAutocomplete(acceptedStatuses, normalizedQuery, pageable));
     }
 
     @Override
@@ -224,6 +262,7 @@ public class PlanServiceImpl implements PlanService {
         
         // Save deleted plan
         Plan deletedPlan = planRepository.save(plan);
+        planCatalog.refresh(deletedPlan);
         
         log.info("Soft deleted plan with ID: {}", deletedPlan.getId());
         
@@ -264,33 +303,35 @@ public class PlanServiceImpl implements PlanService {
 
     @Override
     public boolean isPlanCompatibleWithOrganizationType(String planId, String organizationType) {
-        Plan plan = findById(planId);
-        if (plan == null || !StringUtils.hasText(organizationType)) {
+        if (!StringUtils.hasText(organizationType)) {
             return false;
         }
         
-        return isPlanTypeCompatibleWithOrganizationType(plan.getType(), organizationType);
+        return getPlanCapabilities(planId)
+                .map(capabilities -> capabilities.isCompatibleWithOrganizationType(organizationType))
+                .orElse(false);
     }
 
     @Override
     public boolean isPlanCompatibleWithOrganizationSize(String planId, String organizationSize) {
-        Plan plan = findById(planId);
-        if (plan == null || !StringUtils.hasText(organizationSize)) {
+        if (!StringUtils.hasText(organizationSize)) {
             return false;
         }
         
-        return isPlanTypeCompatibleWithOrganizationSize(plan.getType(), organizationSize);
+        return getPlanCapabilities(planId)
+                .map(capabilities -> capabilities.isCompatibleWithOrganizationSize(organizationSize))
+                .orElse(false);
     }
 
     @Override
     public boolean isPlanAvailableInRegion(String planId, String region) {
-        Plan plan = findById(planId);
-        if (plan == null || !StringUtils.hasText(region)) {
+        if (!StringUtils.hasText(region)) {
             return false;
         }
         
-        // Check if region is in default available regions
-        return Arrays.asList(PlanConstants.DEFAULT_AVAILABLE_REGIONS).contains(region);
+        return getPlanCapabilities(planId)
+                .map(capabilities -> capabilities.isAvailableInRegion(region))
+                .orElse(false);
     }
 
     @Override
@@ -309,29 +350,25 @@ public class PlanServiceImpl implements PlanService {
         }
         
         // Check current subscription count against plan capacity
-        long currentSubscriptions = planRepository.countActiveSubscriptionsByPlanId(planId);
+        long currentSubscriptions = planStatsService.getActiveSubscriptionCount(planId);
         return currentSubscriptions < PlanConstants.MAX_ORGANIZATIONS_PER_PLAN;
     }
 
     @Override
     public int comparePlanLevels(String parentPlanId, String childPlanId) {
-        Plan parentPlan = findById(parentPlanId);
-        Plan childPlan = findById(childPlanId);
+        Optional<PlanCatalog.PlanCapabilities> parentPlan = getPlanCapabilities(parentPlanId);
+        Optional<PlanCatalog.PlanCapabilities> childPlan = getPlanCapabilities(childPlanId);
         
-        if (parentPlan == null || childPlan == null) {
+        if (parentPlan.isEmpty() || childPlan.isEmpty()) {
             return 0;
         }
         
-        int parentLevel = getPlanLevel(parentPlan.getType());
-        int childLevel = getPlanLevel(childPlan.getType());
-        
-        return parentLevel - childLevel;
+        return parentPlan.get().level() - childPlan.get().level();
     }
 
     @Override
     public boolean hasActiveSubscriptions(String planId) {
-        // TODO: Implement subscription check when subscription service is available
-        long subscriptionCount = planRepository.countActiveSubscriptionsByPlanId(planId);
+        long subscriptionCount = planStatsService.getActiveSubscriptionCount(planId);
         return subscriptionCount > 0;
     }
 
@@ -416,44 +453,20 @@ public class PlanServiceImpl implements PlanService {
                 .collect(Collectors.toList());
     }
 
-    private boolean isPlanTypeCompatibleWithOrganizationType(String planType, String organizationType) {
-        return switch (planType) {
-            case PlanConstants.PLAN_TYPE_BASIC -> 
-                Arrays.asList(PlanConstants.BASIC_PLAN_COMPATIBLE_ORG_TYPES).contains(organizationType);
-            case PlanConstants.PLAN_TYPE_STANDARD -> 
-                Arrays.asList(PlanConstants.STANDARD_PLAN_COMPATIBLE_ORG_TYPES).contains(organizationType);
-            case PlanConstants.PLAN_TYPE_PREMIUM -> 
-                Arrays.asList(PlanConstants.PREMIUM_PLAN_COMPATIBLE_ORG_TYPES).contains(organizationType);
-            case PlanConstants.PLAN_TYPE_ENTERPRISE -> 
-                Arrays.asList(PlanConstants.ENTERPRISE_PLAN_COMPATIBLE_ORG_TYPES).contains(organizationType);
-            case PlanConstants.PLAN_TYPE_CUSTOM -> true; // Custom plans are compatible with all org types
-            default -> false;
-        };
-    }
-
-    private boolean isPlanTypeCompatibleWithOrganizationSize(String planType, String organizationSize) {
-        return switch (planType) {
-            case PlanConstants.PLAN_TYPE_BASIC -> 
-                Arrays.asList(PlanConstants.BASIC_PLAN_COMPATIBLE_ORG_SIZES).contains(organizationSize);
-            case PlanConstants.PLAN_TYPE_STANDARD -> 
-                Arrays.asList(PlanConstants.STANDARD_PLAN_COMPATIBLE_ORG_SIZES).contains(organizationSize);
-            case PlanConstants.PLAN_TYPE_PREMIUM -> 
-                Arrays.asList(PlanConstants.PREMIUM_PLAN_COMPATIBLE_ORG_SIZES).contains(organizationSize);
-            case PlanConstants.PLAN_TYPE_ENTERPRISE -> 
-                Arrays.asList(PlanConstants.ENTERPRISE_PLAN_COMPATIBLE_ORG_SIZES).contains(organizationSize);
-            case PlanConstants.PLAN_TYPE_CUSTOM -> true; // Custom plans are compatible with all org sizes
-            default -> false;
-        };
-    }
-
-    private int getPlanLevel(String planType) {
-        return switch (planType) {
-            case PlanConstants.PLAN_TYPE_BASIC -> PlanConstants.PLAN_LEVEL_BASIC;
-            case PlanConstants.PLAN_TYPE_STANDARD -> PlanConstants.PLAN_LEVEL_STANDARD;
-            case PlanConstants.PLAN_TYPE_PREMIUM -> PlanConstants.PLAN_LEVEL_PREMIUM;
-            case PlanConstants.PLAN_TYPE_ENTERPRISE -> PlanConstants.PLAN_LEVEL_ENTERPRISE;
-            case PlanConstants.PLAN_TYPE_CUSTOM -> PlanConstants.PLAN_LEVEL_CUSTOM;
-            default -> 0;
-        };
-    }
-}
\ No newline at end of file
+    /**
+     * Returns plan capabilities from the catalog snapshot, loading plans that are
+     * not in the snapshot yet (for example, created on another node since the last reload).
+     */
+    private Optional<PlanCatalog.PlanCapabilities> getPlanCapabilities(String planId) {
+        if (!StringUtils.hasText(planId)) {
+            return Optional.empty();
+        }
+        
+        Optional<PlanCatalog.PlanCapabilities> capabilities = planCatalog.get(planId);
+        if (capabilities.isPresent()) {
+            return capabilities;
+        }
+        
+        return Optional.ofNullable(findById(planId)).map(planCatalog::register);
+    }
+}
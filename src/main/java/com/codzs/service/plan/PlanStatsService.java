@@ -0,0 +1,33 @@
+package com.codzs.service.plan;
+
+/**
+ * Service interface for plan usage counters.
+ * Counters are kept current incrementally by the organization plan flows and
+ * repaired by a periodic reconciliation against the organization plan associations.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public interface PlanStatsService {
+
+    /**
+     * Gets the number of active, non-deleted organization plan associations for a plan.
+     *
+     * @param planId the plan ID
+     * @return active subscription count
+     */
+    long getActiveSubscriptionCount(String planId);
+
+    /**
+     * Adjusts the active subscription counter of a plan.
+     *
+     * @param planId the plan ID
+     * @param delta value to add (negative to decrement)
+     */
+    void adjustActiveSubscriptions(String planId, long delta);
+
+    /**
+     * Recomputes every counter from the organization plan associations.
+     */
+    void reconcile();
+}
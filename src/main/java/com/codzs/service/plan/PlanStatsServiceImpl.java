@@ -0,0 +1,112 @@
+package com.codzs.service.plan;
+
+import com.codzs.entity.organization.OrganizationPlan;
+import com.codzs.entity.plan.PlanStats;
+import com.codzs.repository.organization.OrganizationPlanRepository;
+import com.codzs.repository.plan.PlanStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of PlanStatsService backed by the plan_stats collection.
+ *
+ * Reconciliation runs when the application is ready and then periodically. It overwrites
+ * every counter with the value aggregated from organization_plan, so drift from failed
+ * writes or increments racing with the aggregation is repaired on the next run.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class PlanStatsServiceImpl implements PlanStatsService {
+
+    private final PlanStatsRepository planStatsRepository;
+    private final OrganizationPlanRepository organizationPlanRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public PlanStatsServiceImpl(PlanStatsRepository planStatsRepository,
+                                OrganizationPlanRepository organizationPlanRepository,
+                                MongoTemplate mongoTemplate) {
+        this.planStatsRepository = planStatsRepository;
+        this.organizationPlanRepository = organizationPlanRepository;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // ========== COUNTERS ==========
+
+    @Override
+    public long getActiveSubscriptionCount(String planId) {
+        // Plans without a counter document yet fall back to a count query
+        return planStatsRepository.findById(planId)
+                .map(stats -> Math.max(stats.getActiveSubscriptions(), 0L))
+                .orElseGet(() -> organizationPlanRepository.countByPlanIdAndIsActiveTrueAndDeletedDateIsNull(planId));
+    }
+
+    @Override
+    public void adjustActiveSubscriptions(String planId, long delta) {
+        if (!StringUtils.hasText(planId) || delta == 0) {
+            return;
+        }
+        
+        planStatsRepository.incrementActiveSubscriptions(planId, delta);
+        log.debug("Adjusted active subscriptions of plan {} by {}", planId, delta);
+    }
+
+    // ========== RECONCILIATION ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        scheduledReconcile();
+    }
+
+    /**
+     * Periodically repairs counter drift.
+     */
+    @Scheduled(initialDelayString = "${plan.stats.reconcile-interval-ms:3600000}",
+               fixedDelayString = "${plan.stats.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Error during plan stats reconciliation", e);
+        }
+    }
+
+    @Override
+    public void reconcile() {
+        log.debug("Reconciling plan stats");
+
+        // Counters with no remaining active associations are reset to zero
+        Map<String, Long> counts = new HashMap<>();
+        for (PlanStats stats : planStatsRepository.findAll()) {
+            counts.put(stats.getId(), 0L);
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("isActive").is(true).and("deletedDate").is(null)),
+                Aggregation.group("planId").count().as("count"));
+        for (Document result : mongoTemplate.aggregate(aggregation, OrganizationPlan.class, Document.class)) {
+            Object planId = result.get("_id");
+            if (planId != null) {
+                counts.put(planId.toString(), ((Number) result.get("count")).longValue());
+            }
+        }
+
+        planStatsRepository.replaceActiveSubscriptions(counts);
+        log.info("Reconciled active subscription counters of {} plans", counts.size());
+    }
+}
@@ -0,0 +1,86 @@
+package com.codzs.service.user;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.codzs.framework.cache.CacheInvalidationBus;
+import com.codzs.framework.cache.InvalidationTarget;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Short-lived, per-node {@link UserCache} in front of {@link MongoUserDetailsService}.
+ * 
+ * Entries are copied on the way in and out: authentication erases the credentials of the
+ * principal it returns, which must not clear the password held in the cache. Entries are
+ * evicted by {@link UserCacheEvictionListener} when a user or its authorities change, on
+ * this node directly and on other nodes through the {@link CacheInvalidationBus}. If a
+ * publication is lost, other nodes see the change once the TTL passes.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+public class CaffeineUserCache implements UserCache, InvalidationTarget {
+
+    public static final String INVALIDATION_TARGET_NAME = "users";
+
+    private final Cache<String, UserDetails> users;
+
+    public CaffeineUserCache(
+            CacheInvalidationBus invalidationBus,
+            @Value("${security.user-cache.ttl:30s}") Duration ttl,
+            @Value("${security.user-cache.maximum-size:10000}") long maximumSize) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        invalidationBus.register(this);
+    }
+
+    @Override
+    public String getName() {
+        return INVALIDATION_TARGET_NAME;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails cached = users.getIfPresent(username);
+        return cached != null ? User.withUserDetails(cached).build() : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        users.put(user.getUsername(), User.withUserDetails(user).build());
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        users.invalidate(username);
+    }
+
+    /**
+     * Evicts every cached user, for changes that cannot be attributed to a username.
+     */
+    public void removeAllUsersFromCache() {
+        users.invalidateAll();
+    }
+
+    /**
+     * Evicts a user changed on another node. The key is the username.
+     */
+    @Override
+    public void evictLocal(Object key) {
+        removeUserFromCache(String.valueOf(key));
+    }
+
+    @Override
+    public void clearLocal() {
+        removeAllUsersFromCache();
+    }
+}
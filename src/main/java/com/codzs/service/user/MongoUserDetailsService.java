@@ -16,13 +16,14 @@
 package com.codzs.service.user;
 
 import com.codzs.entity.security.User;
-import com.codzs.entity.security.Authority;
+import com.codzs.entity.security.UserCredentials;
 import com.codzs.repository.security.UserRepository;
-import com.codzs.repository.security.AuthorityRepository;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -36,27 +37,30 @@ import java.util.Optional;
  * 
  * This service handles user authentication by loading user credentials and authorities
  * from MongoDB and converting them into Spring Security UserDetails objects.
+ * A user and its authorities are read in one aggregation, and loaded users are kept
+ * in a short-lived {@link UserCache} that is evicted when the user or its authorities change.
+ * Password hashes with an outdated encoding are replaced after a successful login.
  * 
  * @author Nitin Khaitan
  * @since 1.2
  */
 @Service
-public class MongoUserDetailsService implements UserDetailsService {
+public class MongoUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final Log logger = LogFactory.getLog(getClass());
     
     private final UserRepository userRepository;
-    private final AuthorityRepository authorityRepository;
+    private final UserCache userCache;
 
     /**
      * Constructor for MongoUserDetailsService.
      * 
      * @param userRepository the user repository for MongoDB operations
-     * @param authorityRepository the authority repository for MongoDB operations
+     * @param userCache the cache of loaded user details
      */
-    public MongoUserDetailsService(UserRepository userRepository, AuthorityRepository authorityRepository) {
+    public MongoUserDetailsService(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
-        this.authorityRepository = authorityRepository;
+        this.userCache = userCache;
     }
 
     /**
@@ -72,25 +76,28 @@ public class MongoUserDetailsService implements UserDetailsService {
             logger.debug("Loading user details for username: " + username);
         }
 
+        UserDetails cached = userCache.getUserFromCache(username);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            Optional<User> userOptional = userRepository.findByUsername(username);
+            Optional<UserCredentials> userOptional = userRepository.findCredentialsByUsername(username);
             
             if (userOptional.isEmpty()) {
                 throw new UsernameNotFoundException("User not found: " + username);
             }
             
-            User user = userOptional.get();
-            
-            // Load user authorities
-            List<SimpleGrantedAuthority> grantedAuthorities = loadUserAuthorities(username);
+            UserCredentials user = userOptional.get();
             
             // Create UserDetails with proper password handling
             UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                    .username(user.getUsername())
-                    .password(user.getPassword()) // Keep the original password format from database
+                    .username(user.username())
+                    .password(user.password()) // Keep the original password format from database
                     .disabled(!user.isEnabled())
-                    .authorities(grantedAuthorities)
+                    .authorities(toGrantedAuthorities(user.authorities()))
                     .build();
+            userCache.putUserInCache(userDetails);
             
             if (logger.isDebugEnabled()) {
                 logger.debug("Successfully loaded user: " + username + " with " + 
@@ -106,16 +113,41 @@ public class MongoUserDetailsService implements UserDetailsService {
     }
 
     /**
-     * Loads user authorities from MongoDB.
+     * Stores a re-encoded password for a user whose stored hash uses outdated parameters.
+     * Saving the user evicts it from the user cache.
      * 
-     * @param username the username to load authorities for
+     * @param user the authenticated user
+     * @param newPassword the newly encoded password
+     * @return the user details with the new password
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Optional<User> stored = userRepository.findByUsername(user.getUsername());
+        if (stored.isPresent()) {
+            User entity = stored.get();
+            entity.setPassword(newPassword);
+            userRepository.save(entity);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Upgraded password encoding for username: " + user.getUsername());
+            }
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
+    /**
+     * Converts authority names loaded with the user into granted authorities.
+     * 
+     * @param authorities the authority names, may be null when the user has none
      * @return list of granted authorities
      */
-    private List<SimpleGrantedAuthority> loadUserAuthorities(String username) {
-        List<Authority> authorities = authorityRepository.findByUsername(username);
+    private List<SimpleGrantedAuthority> toGrantedAuthorities(List<String> authorities) {
+        if (authorities == null) {
+            return List.of();
+        }
         
         return authorities.stream()
-                .map(authority -> authority.getAuthority())
                 .map(this::normalizeAuthority)
                 .map(SimpleGrantedAuthority::new)
                 .toList();
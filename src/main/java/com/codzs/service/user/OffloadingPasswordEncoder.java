@@ -0,0 +1,69 @@
+package com.codzs.service.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} that runs encoding and matching on the {@link PasswordHashingExecutor}.
+ * 
+ * Matching is the login path and is shed with an {@link AuthenticationServiceException} when
+ * the hashing queue stays full; encoding (provisioning, password upgrades) waits for a slot.
+ * {@link #encodeAll(List)} hashes a batch in parallel across the pool.
+ * {@link #upgradeEncoding(String)} is cheap and runs on the caller.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor hashingExecutor;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor hashingExecutor) {
+        this.delegate = delegate;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Encodes a batch of passwords in parallel: every hash is submitted before any is awaited.
+     *
+     * @param rawPasswords the passwords to encode
+     * @return the encoded passwords, in the same order
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> pending = new ArrayList<>(rawPasswords.size());
+        for (CharSequence rawPassword : rawPasswords) {
+            pending.add(hashingExecutor.submit(() -> delegate.encode(rawPassword)));
+        }
+
+        List<String> encoded = new ArrayList<>(pending.size());
+        for (Future<String> future : pending) {
+            encoded.add(hashingExecutor.await(future));
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return hashingExecutor.tryExecute(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            throw new AuthenticationServiceException("Too many concurrent sign-ins, please try again", e);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
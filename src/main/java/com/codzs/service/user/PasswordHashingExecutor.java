@@ -0,0 +1,168 @@
+package com.codzs.service.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for password hashing.
+ *
+ * Hashing runs on a fixed pool sized to the available cores (by default), so bursts of logins
+ * or bulk user provisioning cannot take every request thread's CPU. Admission is limited to the
+ * pool size plus a queue: logins wait briefly for a slot and are shed when none frees up, while
+ * provisioning waits until a slot is available. Batches are submitted task by task and joined
+ * afterwards, so they hash in parallel while still going through admission.
+ *
+ * Publishes {@code password.hashing.queue.depth}, {@code password.hashing.active} and
+ * {@code password.hashing.rejected}.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore admission;
+    private final Duration admissionTimeout;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${security.password-hashing.admission-timeout:500ms}") Duration admissionTimeout,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.admission = new Semaphore(poolSize + queueCapacity);
+        this.admissionTimeout = admissionTimeout;
+
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("Password hashing tasks shed because the hashing queue was full")
+                .register(meterRegistry);
+
+        log.info("Password hashing executor started with {} threads and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // ========== EXECUTION ==========
+
+    /**
+     * Runs a hashing task, waiting as long as needed for a slot. Used for provisioning.
+     *
+     * @param task the hashing task
+     * @return the task result
+     */
+    public <T> T execute(Supplier<T> task) {
+        return await(submit(task));
+    }
+
+    /**
+     * Submits a hashing task without waiting for its result, waiting as long as needed for a slot.
+     * Used for batches: submit every task, then {@link #await} each future.
+     *
+     * @param task the hashing task
+     * @return the pending task result
+     */
+    public <T> Future<T> submit(Supplier<T> task) {
+        try {
+            admission.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to hash a password", e);
+        }
+        return submitAdmitted(task);
+    }
+
+    /**
+     * Runs a hashing task if a slot frees up within the admission timeout. Used for logins.
+     *
+     * @param task the hashing task
+     * @return the task result
+     * @throws RejectedExecutionException if the hashing queue stays full
+     */
+    public <T> T tryExecute(Supplier<T> task) {
+        boolean admitted;
+        try {
+            admitted = admission.tryAcquire(admissionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to hash a password", e);
+        }
+        if (!admitted) {
+            rejected.increment();
+            throw new RejectedExecutionException("Password hashing queue is full");
+        }
+        return await(submitAdmitted(task));
+    }
+
+    /**
+     * Waits for a submitted hashing task.
+     *
+     * @param future the pending task result
+     * @return the task result
+     */
+    public <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private <T> Future<T> submitAdmitted(Supplier<T> task) {
+        try {
+            return executor.submit(() -> {
+                try {
+                    return task.get();
+                } finally {
+                    admission.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            throw e;
+        }
+    }
+}
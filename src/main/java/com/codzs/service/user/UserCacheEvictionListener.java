@@ -0,0 +1,61 @@
+package com.codzs.service.user;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.codzs.entity.security.Authority;
+import com.codzs.entity.security.User;
+import com.codzs.framework.cache.CacheInvalidationBus;
+
+/**
+ * Evicts cached user details when a user or one of its authorities is saved or deleted,
+ * so password, enabled-flag and authority changes take effect on the next login.
+ * 
+ * Deletes by username evict that user; other deletes clear the whole cache. Every eviction
+ * is also published through the {@link CacheInvalidationBus} so other nodes apply it.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+public class UserCacheEvictionListener extends AbstractMongoEventListener<Object> {
+
+    private final CaffeineUserCache userCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public UserCacheEvictionListener(CaffeineUserCache userCache, CacheInvalidationBus invalidationBus) {
+        this.userCache = userCache;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        if (event.getSource() instanceof User user) {
+            evict(user.getUsername());
+        } else if (event.getSource() instanceof Authority authority) {
+            evict(authority.getUsername());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Object> event) {
+        if (!User.class.equals(event.getType()) && !Authority.class.equals(event.getType())) {
+            return;
+        }
+        Document query = event.getDocument();
+        if (query != null && query.get("username") instanceof String username) {
+            evict(username);
+        } else {
+            userCache.removeAllUsersFromCache();
+            invalidationBus.publishClear(CaffeineUserCache.INVALIDATION_TARGET_NAME);
+        }
+    }
+
+    private void evict(String username) {
+        userCache.removeUserFromCache(username);
+        invalidationBus.publishEvict(CaffeineUserCache.INVALIDATION_TARGET_NAME, username);
+    }
+}
@@ -2,6 +2,8 @@ package com.codzs.service.user;
 
 import com.codzs.entity.security.User;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,6 +25,16 @@ public interface UserService {
      */
     User findOrCreateUserByEmail(String email);
 
+    /**
+     * Finds or creates users for a set of email addresses.
+     * Existing users are resolved with a single query and the missing ones
+     * are created together, so bulk callers avoid a round-trip per email.
+     * 
+     * @param emails the email addresses to find or create users for
+     * @return users keyed by normalized (lowercase, trimmed) email
+     */
+    Map<String, User> findOrCreateUsersByEmails(Collection<String> emails);
+
     /**
      * Finds a user by email address.
      * 
@@ -4,13 +4,19 @@ import com.codzs.entity.security.User;
 import com.codzs.repository.security.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service implementation for User-related operations.
@@ -29,10 +35,10 @@ public class UserServiceImpl implements UserService {
     private final SecureRandom secureRandom = new SecureRandom();
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final OffloadingPasswordEncoder passwordEncoder;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, OffloadingPasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
     }
@@ -59,6 +65,53 @@ public class UserServiceImpl implements UserService {
         return createUserWithEmail(email);
     }
 
+    @Override
+    @Transactional
+    public Map<String, User> findOrCreateUsersByEmails(Collection<String> emails) {
+        Set<String> normalizedEmails = new LinkedHashSet<>();
+        for (String email : emails) {
+            if (StringUtils.hasText(email)) {
+                normalizedEmails.add(email.toLowerCase().trim());
+            }
+        }
+
+        Map<String, User> usersByEmail = new HashMap<>(normalizedEmails.size() * 2);
+        if (normalizedEmails.isEmpty()) {
+            return usersByEmail;
+        }
+
+        log.debug("Finding or creating users for {} emails", normalizedEmails.size());
+
+        // Resolve all existing users with one $in query
+        for (User user : userRepository.findByEmailIn(normalizedEmails)) {
+            usersByEmail.put(user.getEmail().toLowerCase().trim(), user);
+        }
+
+        // Hash the generated passwords in parallel, then create the missing users in a single batch insert
+        List<String> missingEmails = new ArrayList<>();
+        List<String> rawPasswords = new ArrayList<>();
+        for (String email : normalizedEmails) {
+            if (!usersByEmail.containsKey(email)) {
+                missingEmails.add(email);
+                rawPasswords.add(generateDefaultPassword());
+            }
+        }
+        List<String> encodedPasswords = passwordEncoder.encodeAll(rawPasswords);
+        List<User> newUsers = new ArrayList<>(missingEmails.size());
+        for (int i = 0; i < missingEmails.size(); i++) {
+            newUsers.add(new User(missingEmails.get(i), encodedPasswords.get(i), true));
+        }
+
+        if (!newUsers.isEmpty()) {
+            for (User savedUser : userRepository.saveAll(newUsers)) {
+                usersByEmail.put(savedUser.getEmail().toLowerCase().trim(), savedUser);
+            }
+            log.info("Created {} new users with generated passwords", newUsers.size());
+        }
+
+        return usersByEmail;
+    }
+
     @Override
     public Optional<User> findUserByEmail(String email) {
         if (!StringUtils.hasText(email)) {
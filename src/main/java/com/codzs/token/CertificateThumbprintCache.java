@@ -0,0 +1,106 @@
+package com.codzs.token;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Computes and caches X.509 certificate SHA-256 thumbprints ({@code x5t#S256}, RFC 8705).
+ * 
+ * Entries are keyed by issuer and serial number and also hold the encoded certificate; a
+ * cached thumbprint is only returned when the presented certificate's encoding is identical,
+ * so a different certificate reusing an issuer and serial (e.g. self-signed) is hashed anew.
+ * Digests use a per-thread {@link MessageDigest} instead of a provider lookup per call.
+ * 
+ * Used both when binding access tokens to a client certificate and when confirming that
+ * a presented certificate matches a token's binding.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+public class CertificateThumbprintCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Cache<CertificateId, CachedThumbprint> thumbprints;
+
+    public CertificateThumbprintCache(
+            @Value("${oauth2.certificate-thumbprint-cache.maximum-size:10000}") long maximumSize,
+            @Value("${oauth2.certificate-thumbprint-cache.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.thumbprints = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * Returns the Base64url SHA-256 thumbprint of a certificate.
+     * 
+     * @param certificate the certificate
+     * @return the thumbprint
+     * @throws CertificateEncodingException if the certificate cannot be encoded
+     */
+    public String thumbprint(X509Certificate certificate) throws CertificateEncodingException {
+        byte[] encoded = certificate.getEncoded();
+        CertificateId id = new CertificateId(certificate.getIssuerX500Principal(), certificate.getSerialNumber());
+
+        CachedThumbprint cached = thumbprints.getIfPresent(id);
+        if (cached != null && Arrays.equals(cached.encoded(), encoded)) {
+            return cached.thumbprint();
+        }
+
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        String thumbprint = Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(encoded));
+        thumbprints.put(id, new CachedThumbprint(encoded, thumbprint));
+        return thumbprint;
+    }
+
+    /**
+     * Checks that a certificate matches an expected thumbprint, comparing in constant time.
+     * 
+     * @param certificate the presented certificate, may be null
+     * @param expectedThumbprint the thumbprint a token is bound to
+     * @return true if the certificate is present and matches
+     */
+    public boolean matches(@Nullable X509Certificate certificate, String expectedThumbprint) {
+        if (certificate == null || expectedThumbprint == null) {
+            return false;
+        }
+        try {
+            return MessageDigest.isEqual(
+                    thumbprint(certificate).getBytes(StandardCharsets.US_ASCII),
+                    expectedThumbprint.getBytes(StandardCharsets.US_ASCII));
+        } catch (CertificateEncodingException e) {
+            return false;
+        }
+    }
+
+    private record CertificateId(X500Principal issuer, BigInteger serialNumber) {
+    }
+
+    private record CachedThumbprint(byte[] encoded, String thumbprint) {
+    }
+}
@@ -48,17 +48,23 @@ public class ClaimExtractor {
      * @return Map of claims extracted from the principal, empty map if unsupported type
      */
     public static Map<String, Object> extractClaims(Authentication principal) {
-        Map<String, Object> claims;
+        return new HashMap<>(sourceClaims(principal));
+    }
+
+    /**
+     * Returns the claims of a federated identity authentication principal without copying them.
+     * 
+     * @param principal the authentication principal (can be OidcUser, OAuth2User, or other)
+     * @return read-only view of the principal's claims, empty map if unsupported type
+     */
+    public static Map<String, Object> sourceClaims(Authentication principal) {
         if (principal.getPrincipal() instanceof OidcUser oidcUser) {
             OidcIdToken idToken = oidcUser.getIdToken();
-            claims = idToken.getClaims();
+            return idToken.getClaims();
         } else if (principal.getPrincipal() instanceof OAuth2User oauth2User) {
-            claims = oauth2User.getAttributes();
-        } else {
-            claims = Collections.emptyMap();
+            return oauth2User.getAttributes();
         }
-
-        return new HashMap<>(claims);
+        return Collections.emptyMap();
     }
 
     /**
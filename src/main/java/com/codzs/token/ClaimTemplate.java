@@ -0,0 +1,91 @@
+package com.codzs.token;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled mapping of federated identity claims into an ID token.
+ * 
+ * Either copies every source claim except excluded ones (optionally renamed), or only
+ * the allowlisted claims held as parallel source/target name arrays; static claims are
+ * added last. Claims already present in the token are never overwritten. Templates are
+ * immutable and applied in a single pass straight into the token's claims map.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class ClaimTemplate {
+
+    private final boolean copyAll;
+    private final Set<String> excluded;
+    private final Map<String, String> renames;
+    private final String[] sourceNames;
+    private final String[] targetNames;
+    private final String[] staticNames;
+    private final Object[] staticValues;
+
+    private ClaimTemplate(boolean copyAll, Set<String> excluded, Map<String, String> renames,
+                          String[] sourceNames, String[] targetNames, String[] staticNames, Object[] staticValues) {
+        this.copyAll = copyAll;
+        this.excluded = excluded;
+        this.renames = renames;
+        this.sourceNames = sourceNames;
+        this.targetNames = targetNames;
+        this.staticNames = staticNames;
+        this.staticValues = staticValues;
+    }
+
+    /**
+     * Compiles a template.
+     * 
+     * @param allowed claims to copy, or null to copy every claim not excluded
+     * @param renames source claim name to ID token claim name
+     * @param staticClaims claims added with fixed values
+     * @param excluded claims never copied from the source
+     * @return the compiled template
+     */
+    public static ClaimTemplate compile(Collection<String> allowed, Map<String, String> renames,
+                                        Map<String, Object> staticClaims, Set<String> excluded) {
+        String[] sourceNames = new String[0];
+        String[] targetNames = new String[0];
+        if (allowed != null) {
+            sourceNames = allowed.stream().filter(name -> !excluded.contains(name)).distinct().toArray(String[]::new);
+            targetNames = new String[sourceNames.length];
+            for (int i = 0; i < sourceNames.length; i++) {
+                targetNames[i] = renames.getOrDefault(sourceNames[i], sourceNames[i]);
+            }
+        }
+        return new ClaimTemplate(allowed == null, Set.copyOf(excluded), new HashMap<>(renames),
+                sourceNames, targetNames,
+                staticClaims.keySet().toArray(String[]::new), staticClaims.values().toArray());
+    }
+
+    /**
+     * Copies mapped source claims into the token claims, keeping claims the token already has.
+     * 
+     * @param source federated identity claims
+     * @param claims the token's claims
+     */
+    public void apply(Map<String, Object> source, Map<String, Object> claims) {
+        if (copyAll) {
+            for (Map.Entry<String, Object> entry : source.entrySet()) {
+                String name = entry.getKey();
+                if (!excluded.contains(name) && entry.getValue() != null) {
+                    claims.putIfAbsent(renames.getOrDefault(name, name), entry.getValue());
+                }
+            }
+        } else {
+            for (int i = 0; i < sourceNames.length; i++) {
+                Object value = source.get(sourceNames[i]);
+                if (value != null) {
+                    claims.putIfAbsent(targetNames[i], value);
+                }
+            }
+        }
+        for (int i = 0; i < staticNames.length; i++) {
+            claims.putIfAbsent(staticNames[i], staticValues[i]);
+        }
+    }
+}
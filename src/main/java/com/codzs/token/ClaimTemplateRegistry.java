@@ -0,0 +1,138 @@
+package com.codzs.token;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.stereotype.Component;
+
+import com.codzs.constant.OAuth2Constant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Compiles and caches {@link ClaimTemplate}s per registered client and identity provider.
+ * 
+ * Mappings come from the client's {@link OAuth2Constant.TokenSettings#ID_TOKEN_CLAIM_MAPPINGS}
+ * token setting, keyed by identity provider registration ID, with {@code "*"} applying to
+ * providers without their own entry:
+ * <pre>
+ * {
+ *   "*":      { "allowed": ["email", "name"], "renames": { "groups": "roles" } },
+ *   "google": { "static": { "idp": "google" } }
+ * }
+ * </pre>
+ * An entry without {@code allowed} copies every non-standard claim. Clients without
+ * mappings share the default template, which copies every non-standard claim unchanged.
+ * Compiled templates expire after a short time so client setting changes are picked up.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+@Component
+public class ClaimTemplateRegistry {
+
+    private static final String ANY_PROVIDER = "*";
+    private static final String ALLOWED = "allowed";
+    private static final String RENAMES = "renames";
+    private static final String STATIC = "static";
+
+    private static final ClaimTemplate DEFAULT_TEMPLATE =
+            ClaimTemplate.compile(null, Map.of(), Map.of(), ClaimExtractor.STANDARD_ID_TOKEN_CLAIMS);
+
+    private final Log logger = LogFactory.getLog(getClass());
+
+    private final Cache<TemplateKey, ClaimTemplate> templates;
+
+    public ClaimTemplateRegistry(
+            @Value("${oauth2.claim-template.cache.maximum-size:1000}") long maximumSize,
+            @Value("${oauth2.claim-template.cache.ttl:5m}") Duration ttl) {
+        this.templates = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the compiled template for a client and the identity provider the user signed in with.
+     * 
+     * @param registeredClient the client the ID token is issued to
+     * @param principal the authenticated user
+     * @return the claim template
+     */
+    public ClaimTemplate getTemplate(RegisteredClient registeredClient, Authentication principal) {
+        Object mappings = registeredClient.getTokenSettings()
+                .getSetting(OAuth2Constant.TokenSettings.ID_TOKEN_CLAIM_MAPPINGS);
+        if (!(mappings instanceof Map<?, ?> mappingsByProvider) || mappingsByProvider.isEmpty()) {
+            return DEFAULT_TEMPLATE;
+        }
+
+        String provider = principal instanceof OAuth2AuthenticationToken token
+                ? token.getAuthorizedClientRegistrationId()
+                : ANY_PROVIDER;
+        return templates.get(new TemplateKey(registeredClient.getId(), provider),
+                key -> compile(registeredClient.getClientId(), mappingsByProvider, provider));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private ClaimTemplate compile(String clientId, Map<?, ?> mappingsByProvider, String provider) {
+        Object mapping = mappingsByProvider.get(provider);
+        if (mapping == null) {
+            mapping = mappingsByProvider.get(ANY_PROVIDER);
+        }
+        if (!(mapping instanceof Map<?, ?> entry)) {
+            return DEFAULT_TEMPLATE;
+        }
+
+        try {
+            return ClaimTemplate.compile(
+                    entry.containsKey(ALLOWED) ? stringList(entry.get(ALLOWED)) : null,
+                    stringMap(entry.get(RENAMES)),
+                    objectMap(entry.get(STATIC)),
+                    ClaimExtractor.STANDARD_ID_TOKEN_CLAIMS);
+        } catch (IllegalArgumentException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Invalid ID token claim mappings for client " + clientId
+                        + " and provider " + provider + ", using defaults: " + e.getMessage());
+            }
+            return DEFAULT_TEMPLATE;
+        }
+    }
+
+    private List<String> stringList(Object value) {
+        if (!(value instanceof Collection<?> values)) {
+            throw new IllegalArgumentException("'" + ALLOWED + "' must be a list of claim names");
+        }
+        return values.stream().map(String::valueOf).toList();
+    }
+
+    private Map<String, String> stringMap(Object value) {
+        Map<String, String> result = new LinkedHashMap<>();
+        objectMap(value).forEach((name, target) -> result.put(name, String.valueOf(target)));
+        return result;
+    }
+
+    private Map<String, Object> objectMap(Object value) {
+        if (value == null) {
+            return Map.of();
+        }
+        if (!(value instanceof Map<?, ?> values)) {
+            throw new IllegalArgumentException("'" + RENAMES + "' and '" + STATIC + "' must be objects");
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        values.forEach((name, claim) -> result.put(String.valueOf(name), claim));
+        return result;
+    }
+
+    private record TemplateKey(String registeredClientId, String provider) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.codzs.token;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.security.crypto.keygen.Base64StringKeyGenerator;
+import org.springframework.security.crypto.keygen.StringKeyGenerator;
+import org.springframework.security.oauth2.core.ClaimAccessor;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.settings.OAuth2TokenFormat;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenClaimsSet;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenContext;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenGenerator;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.codzs.constant.OAuth2Constant;
+
+/**
+ * Generates opaque access tokens for clients whose token settings use the
+ * {@link OAuth2TokenFormat#REFERENCE reference} access token format.
+ * 
+ * The token is a short random handle (Base64url, no padding) instead of the 96-byte value
+ * of Spring's default generator; nothing is signed. Its claims are returned alongside the
+ * token so they are stored in the authorization metadata and served by introspection.
+ * For clients with certificate-bound access tokens the claims carry the same {@code cnf}
+ * thumbprint as JWT access tokens; when no client certificate is available the token is
+ * not issued, rather than silently unbound.
+ * 
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class ReferenceAccessTokenGenerator implements OAuth2TokenGenerator<OAuth2AccessToken> {
+
+    private final Log logger = LogFactory.getLog(getClass());
+
+    private final StringKeyGenerator handleGenerator;
+    private final CertificateThumbprintCache certificateThumbprintCache;
+
+    /**
+     * @param handleLengthBytes random bytes per token handle
+     * @param certificateThumbprintCache thumbprints of client certificates for bound tokens
+     */
+    public ReferenceAccessTokenGenerator(int handleLengthBytes, CertificateThumbprintCache certificateThumbprintCache) {
+        this.handleGenerator = new Base64StringKeyGenerator(Base64.getUrlEncoder().withoutPadding(), handleLengthBytes);
+        this.certificateThumbprintCache = certificateThumbprintCache;
+    }
+
+    @Nullable
+    @Override
+    public OAuth2AccessToken generate(OAuth2TokenContext context) {
+        if (!OAuth2TokenType.ACCESS_TOKEN.equals(context.getTokenType())
+                || !OAuth2TokenFormat.REFERENCE.equals(context.getRegisteredClient().getTokenSettings().getAccessTokenFormat())) {
+            return null;
+        }
+
+        RegisteredClient registeredClient = context.getRegisteredClient();
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plus(registeredClient.getTokenSettings().getAccessTokenTimeToLive());
+
+        OAuth2TokenClaimsSet.Builder claimsBuilder = OAuth2TokenClaimsSet.builder();
+        if (context.getAuthorizationServerContext() != null
+                && StringUtils.hasText(context.getAuthorizationServerContext().getIssuer())) {
+            claimsBuilder.issuer(context.getAuthorizationServerContext().getIssuer());
+        }
+        claimsBuilder
+                .subject(context.getPrincipal().getName())
+                .audience(Collections.singletonList(registeredClient.getClientId()))
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt)
+                .notBefore(issuedAt)
+                .id(UUID.randomUUID().toString());
+        if (!CollectionUtils.isEmpty(context.getAuthorizedScopes())) {
+            claimsBuilder.claim(OAuth2ParameterNames.SCOPE, context.getAuthorizedScopes());
+        }
+        Boolean certificateBoundTokens = registeredClient.getTokenSettings()
+                .getSetting(OAuth2Constant.TokenSettings.X509_CERTIFICATE_BOUND_ACCESS_TOKENS);
+        if (Boolean.TRUE.equals(certificateBoundTokens)) {
+            String thumbprint = clientCertificateThumbprint(context);
+            if (thumbprint == null) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("No client certificate for certificate-bound reference token of client "
+                            + registeredClient.getClientId());
+                }
+                return null;
+            }
+            claimsBuilder.claim(OAuth2Constant.Claims.CNF, Map.of(OAuth2Constant.Claims.X5T_S256, thumbprint));
+        }
+        OAuth2TokenClaimsSet claimsSet = claimsBuilder.build();
+
+        return new ReferenceAccessToken(handleGenerator.generateKey(), claimsSet.getIssuedAt(),
+                claimsSet.getExpiresAt(), context.getAuthorizedScopes(), claimsSet.getClaims());
+    }
+
+    @Nullable
+    private String clientCertificateThumbprint(OAuth2TokenContext context) {
+        // The grant's principal is the authenticated client, whatever the resource owner is
+        Object clientPrincipal = context.getAuthorizationGrant() != null
+                ? context.getAuthorizationGrant().getPrincipal()
+                : context.getPrincipal();
+        if (!(clientPrincipal instanceof OAuth2ClientAuthenticationToken clientAuthentication)) {
+            return null;
+        }
+
+        X509Certificate certificate = null;
+        Object credentials = clientAuthentication.getCredentials();
+        if (credentials instanceof X509Certificate single) {
+            certificate = single;
+        } else if (credentials instanceof X509Certificate[] chain && chain.length > 0) {
+            certificate = chain[0];
+        }
+        if (certificate == null) {
+            return null;
+        }
+
+        try {
+            return certificateThumbprintCache.thumbprint(certificate);
+        } catch (CertificateEncodingException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Failed to calculate certificate thumbprint", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Access token exposing its claims, so the authorization server stores them as token metadata.
+     */
+    private static final class ReferenceAccessToken extends OAuth2AccessToken implements ClaimAccessor {
+
+        private final Map<String, Object> claims;
+
+        private ReferenceAccessToken(String tokenValue, Instant issuedAt, Instant expiresAt,
+                                     Set<String> scopes, Map<String, Object> claims) {
+            super(TokenType.BEARER, tokenValue, issuedAt, expiresAt, scopes);
+            this.claims = claims;
+        }
+
+        @Override
+        public Map<String, Object> getClaims() {
+            return this.claims;
+        }
+    }
+}
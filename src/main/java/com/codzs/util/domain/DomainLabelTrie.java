@@ -0,0 +1,134 @@
+package com.codzs.util.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trie of domain names keyed by label, from the top-level label down
+ * ({@code sso.acme.com} is stored as com → acme → sso).
+ *
+ * A node can carry an exact owner (the domain itself, e.g. {@code acme.com}) and a
+ * wildcard owner (registered as {@code *.acme.com}). {@link #findClosestAncestor(String)}
+ * walks a host name label by label and returns the deepest owner that covers it, so
+ * subdomain and wildcard matching cost one map lookup per label.
+ *
+ * Reads are lock-free; writes are serialized.
+ *
+ * @param <V> owner type stored on nodes
+ * @author Codzs Team
+ * @since 1.0
+ */
+public final class DomainLabelTrie<V> {
+
+    private static final String WILDCARD_PREFIX = "*.";
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Registers an owner for a domain name. A {@code *.} prefix registers a wildcard owner
+     * covering every subdomain of the rest of the name.
+     *
+     * @param domainName normalized domain name, optionally starting with {@code *.}
+     * @param owner the owner to store
+     */
+    public synchronized void put(String domainName, V owner) {
+        boolean wildcard = domainName.startsWith(WILDCARD_PREFIX);
+        Node<V> node = root;
+        String name = wildcard ? domainName.substring(WILDCARD_PREFIX.length()) : domainName;
+        int end = name.length();
+        while (end > 0) {
+            int start = name.lastIndexOf('.', end - 1) + 1;
+            node = node.children.computeIfAbsent(name.substring(start, end), label -> new Node<>());
+            end = start - 1;
+        }
+        if (wildcard) {
+            node.wildcardOwner = owner;
+        } else {
+            node.exactOwner = owner;
+        }
+    }
+
+    /**
+     * Removes the owner registered for a domain name, pruning nodes left empty.
+     *
+     * @param domainName normalized domain name, optionally starting with {@code *.}
+     */
+    public synchronized void remove(String domainName) {
+        boolean wildcard = domainName.startsWith(WILDCARD_PREFIX);
+        String name = wildcard ? domainName.substring(WILDCARD_PREFIX.length()) : domainName;
+        remove(root, name, name.length(), wildcard);
+    }
+
+    /**
+     * Finds the deepest owner covering a host: a wildcard registered on one of its ancestors,
+     * or an exact owner of one of its parent domains. The host's own exact owner is not
+     * considered; exact matches are expected to be resolved by a direct lookup first.
+     * A wildcard wins over an exact owner registered on the same node.
+     *
+     * @param host normalized host name
+     * @return the closest covering owner, or null if none
+     */
+    public Match<V> findClosestAncestor(String host) {
+        Node<V> node = root;
+        Match<V> closest = null;
+        int end = host.length();
+        while (end > 0) {
+            int start = host.lastIndexOf('.', end - 1) + 1;
+            node = node.children.get(host.substring(start, end));
+            if (node == null || start == 0) {
+                break;
+            }
+            // More labels remain to the left, so this node is a proper ancestor of the host
+            V wildcardOwner = node.wildcardOwner;
+            V exactOwner = node.exactOwner;
+            if (wildcardOwner != null) {
+                closest = new Match<>(wildcardOwner, true);
+            } else if (exactOwner != null) {
+                closest = new Match<>(exactOwner, false);
+            }
+            end = start - 1;
+        }
+        return closest;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void clear() {
+        root.children.clear();
+    }
+
+    private boolean remove(Node<V> node, String name, int end, boolean wildcard) {
+        if (end <= 0) {
+            if (wildcard) {
+                node.wildcardOwner = null;
+            } else {
+                node.exactOwner = null;
+            }
+            return node.isEmpty();
+        }
+        int start = name.lastIndexOf('.', end - 1) + 1;
+        String label = name.substring(start, end);
+        Node<V> child = node.children.get(label);
+        if (child != null && remove(child, name, start - 1, wildcard)) {
+            node.children.remove(label);
+        }
+        return node != root && node.isEmpty();
+    }
+
+    /**
+     * Owner found for a host, and whether it came from a wildcard registration.
+     */
+    public record Match<V>(V owner, boolean wildcard) {
+    }
+
+    private static final class Node<V> {
+        private final Map<String, Node<V>> children = new ConcurrentHashMap<>();
+        private volatile V exactOwner;
+        private volatile V wildcardOwner;
+
+        private boolean isEmpty() {
+            return exactOwner == null && wildcardOwner == null && children.isEmpty();
+        }
+    }
+}
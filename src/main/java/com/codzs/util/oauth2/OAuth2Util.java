@@ -19,6 +19,10 @@ import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Set;
 
 /**
@@ -70,4 +74,16 @@ public final class OAuth2Util {
             Set.of(StringUtils.commaDelimitedListToStringArray(scope)) : 
             Set.of();
     }
+
+    /**
+     * Hashes a token value for indexed lookups: Base64url SHA-256 without padding.
+     */
+    public static String hashToken(String tokenValue) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenValue.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.codzs.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.security.web.PortResolverImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.security.web.savedrequest.DefaultSavedRequest;
+import org.springframework.security.web.savedrequest.SavedRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trips the session attributes stored during login and authorization flows through
+ * the session serializer, since a type it cannot read back fails the request on another node.
+ *
+ * @author Codzs Team
+ * @since 1.0
+ */
+class SessionConfigTest {
+
+    private final RedisSerializer<Object> serializer = new SessionConfig().springSessionDefaultRedisSerializer();
+
+    @Test
+    void roundTripsFormLoginSecurityContext() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.getSession(true);
+        User principal = new User("jane@codzs.com", "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetails(request));
+
+        SecurityContext context = roundTrip(new SecurityContextImpl(authentication));
+
+        assertThat(context.getAuthentication()).isEqualTo(authentication);
+        assertThat(context.getAuthentication().getPrincipal()).isInstanceOf(User.class);
+        assertThat(context.getAuthentication().getDetails()).isEqualTo(authentication.getDetails());
+    }
+
+    @Test
+    void roundTripsSavedAuthorizationRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/oauth2/authorize");
+        request.setScheme("https");
+        request.setServerName("auth.codzs.com");
+        request.setServerPort(443);
+        request.setQueryString("response_type=code&client_id=web&scope=openid");
+        request.addParameter("response_type", "code");
+        request.addParameter("client_id", "web");
+        request.addParameter("scope", "openid");
+        request.addHeader("Accept", "text/html");
+
+        SavedRequest savedRequest = roundTrip(new DefaultSavedRequest(request, new PortResolverImpl()));
+
+        assertThat(savedRequest.getRedirectUrl())
+                .isEqualTo("https://auth.codzs.com/oauth2/authorize?response_type=code&client_id=web&scope=openid");
+        assertThat(savedRequest.getParameterValues("client_id")).containsExactly("web");
+        assertThat(savedRequest.getHeaderValues("Accept")).containsExactly("text/html");
+    }
+
+    @Test
+    void roundTripsFederatedLoginAuthorizationRequest() {
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("codzs")
+                .redirectUri("https://auth.codzs.com/login/oauth2/code/google")
+                .scopes(Set.of("openid", "email"))
+                .state("state-1")
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+
+        OAuth2AuthorizationRequest restored = roundTrip(authorizationRequest);
+
+        assertThat(restored.getState()).isEqualTo("state-1");
+        assertThat(restored.getScopes()).containsExactlyInAnyOrder("openid", "email");
+        assertThat(restored.getAuthorizationRequestUri()).isEqualTo(authorizationRequest.getAuthorizationRequestUri());
+        assertThat(restored.<String>getAttribute("registration_id")).isEqualTo("google");
+    }
+
+    @Test
+    void roundTripsFederatedLoginSecurityContext() {
+        Instant issuedAt = Instant.parse("2025-01-01T00:00:00Z");
+        OidcIdToken idToken = OidcIdToken.withTokenValue("id-token")
+                .issuer("https://accounts.google.com")
+                .subject("1234")
+                .claim("email", "jane@codzs.com")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(3600))
+                .build();
+        DefaultOidcUser user = new DefaultOidcUser(List.of(new OidcUserAuthority(idToken)), idToken);
+        OAuth2AuthenticationToken authentication =
+                new OAuth2AuthenticationToken(user, user.getAuthorities(), "google");
+
+        SecurityContext context = roundTrip(new SecurityContextImpl(authentication));
+
+        assertThat(context.getAuthentication()).isInstanceOf(OAuth2AuthenticationToken.class);
+        OAuth2AuthenticationToken restored = (OAuth2AuthenticationToken) context.getAuthentication();
+        assertThat(restored.getAuthorizedClientRegistrationId()).isEqualTo("google");
+        assertThat(restored.getName()).isEqualTo("1234");
+        assertThat(((DefaultOidcUser) restored.getPrincipal()).getIdToken().getExpiresAt())
+                .isEqualTo(issuedAt.plusSeconds(3600));
+    }
+
+    @Test
+    void roundTripsCsrfToken() {
+        DefaultCsrfToken csrfToken = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "token-1");
+
+        CsrfToken restored = roundTrip(csrfToken);
+
+        assertThat(restored.getHeaderName()).isEqualTo("X-CSRF-TOKEN");
+        assertThat(restored.getParameterName()).isEqualTo("_csrf");
+        assertThat(restored.getToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    void roundTripsSessionMetadataAsTheTypesSpringSessionCastsTo() {
+        long lastAccessedTime = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+        // Creation and last access times are read back as Long, the inactive interval as Integer
+        assertThat((Object) roundTrip(lastAccessedTime)).isEqualTo(lastAccessedTime);
+        assertThat((Object) roundTrip(1800)).isEqualTo(1800);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T roundTrip(Object value) {
+        return (T) serializer.deserialize(serializer.serialize(value));
+    }
+}